@@ -0,0 +1,43 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.AssignmentDeadlineService;
+import com.example.OnlineNotebook.services.AssignmentSchedulerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "assignments.deadlines.enabled", havingValue = "true", matchIfMissing = true)
+public class AssignmentDeadlineRunner implements ApplicationRunner {
+    private final AssignmentDeadlineService assignmentDeadlineService;
+    private final AssignmentSchedulerService assignmentSchedulerService;
+
+    public AssignmentDeadlineRunner(AssignmentDeadlineService assignmentDeadlineService,
+                                    AssignmentSchedulerService assignmentSchedulerService) {
+        this.assignmentDeadlineService = assignmentDeadlineService;
+        this.assignmentSchedulerService = assignmentSchedulerService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            assignmentSchedulerService.runStatusUpdate();
+            assignmentDeadlineService.loadUpcoming();
+        } catch (Exception e) {
+            log.warn("Loading assignment deadlines failed, falling back to the nightly job", e);
+        }
+    }
+
+    @Scheduled(cron = "${assignments.deadlines.reload-cron:0 1 0 * * ?}")
+    public void reload() {
+        try {
+            assignmentDeadlineService.loadUpcoming();
+        } catch (Exception e) {
+            log.warn("Reloading assignment deadlines failed", e);
+        }
+    }
+}
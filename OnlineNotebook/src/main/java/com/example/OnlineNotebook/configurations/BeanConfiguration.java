@@ -1,9 +1,15 @@
 package com.example.OnlineNotebook.configurations;
 
+import com.example.OnlineNotebook.security.RateLimitedAuthenticationProvider;
+import com.example.OnlineNotebook.services.LoginRateLimitService;
+import com.example.OnlineNotebook.services.PasswordHashingService;
+import com.example.OnlineNotebook.services.UserService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.client.RestTemplate;
@@ -15,6 +21,26 @@ public class BeanConfiguration {
         return new BCryptPasswordEncoder();
     }
 
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserService userService,
+                                                         PasswordHashingService passwordHashingService,
+                                                         LoginRateLimitService loginRateLimitService) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userService);
+        provider.setPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return passwordHashingService.encode(rawPassword.toString());
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return passwordHashingService.matches(rawPassword.toString(), encodedPassword);
+            }
+        });
+        return new RateLimitedAuthenticationProvider(provider, loginRateLimitService);
+    }
+
     @Bean
     public RestTemplate restTemplate() {
         RestTemplate restTemplate = new RestTemplate();
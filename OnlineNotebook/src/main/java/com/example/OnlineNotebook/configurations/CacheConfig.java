@@ -1,24 +1,74 @@
 package com.example.OnlineNotebook.configurations;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.internal.statistics.DefaultStatisticsService;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
+
+    public static final List<String> CACHE_NAMES = List.of(
             "courses",
             "studentHome",
             "grades",
             "assignments",
-            "students"
-        );
+            "students",
+            "archivedSchoolYears"
+    );
+
+    @Bean
+    public StatisticsService offHeapStatisticsService() {
+        return new DefaultStatisticsService();
     }
-}
 
+    @Bean(destroyMethod = "close")
+    public org.ehcache.CacheManager offHeapCacheManager(StatisticsService offHeapStatisticsService) {
+        return CacheManagerBuilder.newCacheManagerBuilder()
+                .using(offHeapStatisticsService)
+                .build(true);
+    }
+
+    @Bean
+    public CacheManager cacheManager(org.ehcache.CacheManager offHeapCacheManager,
+                                     StatisticsService offHeapStatisticsService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.off-heap.caches:}") Set<String> offHeapCaches,
+                                     @Value("${cache.off-heap.heap-entries:100}") long heapEntries,
+                                     @Value("${cache.off-heap.size-mb:64}") long offHeapSizeMb) {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : CACHE_NAMES) {
+            Cache cache;
+            if (offHeapCaches.contains(name)) {
+                cache = new OffHeapCache(name, offHeapCacheManager.createCache(name,
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(Serializable.class, Serializable.class,
+                                ResourcePoolsBuilder.heap(heapEntries).offheap(offHeapSizeMb, MemoryUnit.MB))),
+                        offHeapStatisticsService);
+            } else {
+                cache = new ConcurrentMapCache(name);
+            }
+            caches.add(new InstrumentedCache(cache, meterRegistry));
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.CacheWarmupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Runs before Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC, so the
+// readiness probe only turns green once the caches are warm.
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "cache.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmupRunner implements ApplicationRunner {
+    private final CacheWarmupService cacheWarmupService;
+
+    public CacheWarmupRunner(CacheWarmupService cacheWarmupService) {
+        this.cacheWarmupService = cacheWarmupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Warming caches before accepting traffic");
+        try {
+            cacheWarmupService.warmUp();
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed, continuing with cold caches", e);
+        }
+    }
+
+    @Scheduled(cron = "${cache.warmup.post-job-cron:0 5 0 * * ?}")
+    public void warmAfterNightlyJob() {
+        try {
+            cacheWarmupService.warmAfterNightlyJob();
+        } catch (Exception e) {
+            log.warn("Post-job cache warm-up failed", e);
+        }
+    }
+}
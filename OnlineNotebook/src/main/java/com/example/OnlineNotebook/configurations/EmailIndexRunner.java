@@ -0,0 +1,38 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.EmailIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "users.email-index.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailIndexRunner implements ApplicationRunner {
+    private final EmailIndexService emailIndexService;
+
+    public EmailIndexRunner(EmailIndexService emailIndexService) {
+        this.emailIndexService = emailIndexService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            emailIndexService.rebuild();
+        } catch (Exception e) {
+            log.warn("Building the email index failed, duplicate checks will query the database", e);
+        }
+    }
+
+    @Scheduled(cron = "${users.email-index.rebuild-cron:0 */30 * * * ?}")
+    public void rebuild() {
+        try {
+            emailIndexService.rebuild();
+        } catch (Exception e) {
+            log.warn("Rebuilding the email index failed", e);
+        }
+    }
+}
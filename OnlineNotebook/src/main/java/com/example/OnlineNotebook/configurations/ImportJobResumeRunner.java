@@ -0,0 +1,28 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.ImportJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "users.import.jobs.resume-on-startup", havingValue = "true", matchIfMissing = true)
+public class ImportJobResumeRunner implements ApplicationRunner {
+    private final ImportJobService importJobService;
+
+    public ImportJobResumeRunner(ImportJobService importJobService) {
+        this.importJobService = importJobService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            importJobService.resumeUnfinished();
+        } catch (Exception e) {
+            log.warn("Resuming unfinished import jobs failed", e);
+        }
+    }
+}
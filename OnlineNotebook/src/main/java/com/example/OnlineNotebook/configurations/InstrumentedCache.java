@@ -0,0 +1,259 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.models.dtos.admin.CacheStatisticsDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+public class InstrumentedCache implements Cache {
+    private static final int MEMORY_SAMPLE_SIZE = 16;
+
+    private final Cache delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter explicitEvictions;
+    private final Counter clearedEntries;
+    private final Timer loads;
+    // Only a put directly after the miss times the load; any other call on this cache drops a miss that was never filled.
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        Tags tags = Tags.of("cache", delegate.getName());
+        this.hits = Counter.builder("cache.gets").tags(tags).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tags(tags).tag("result", "miss").register(meterRegistry);
+        this.puts = Counter.builder("cache.puts").tags(tags).register(meterRegistry);
+        this.explicitEvictions = Counter.builder("cache.evictions").tags(tags).tag("cause", "explicit").register(meterRegistry);
+        this.clearedEntries = Counter.builder("cache.evictions").tags(tags).tag("cause", "clear").register(meterRegistry);
+        this.loads = Timer.builder("cache.load.duration").tags(tags).register(meterRegistry);
+        Gauge.builder("cache.size", this, InstrumentedCache::size).tags(tags).register(meterRegistry);
+        Gauge.builder("cache.memory.estimated", this, InstrumentedCache::estimatedBytes).tags(tags).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("cache.entry.memory.estimated", this, InstrumentedCache::estimatedBytesPerEntry).tags(tags).baseUnit("bytes").register(meterRegistry);
+        if (delegate instanceof OffHeapCache offHeapCache) {
+            FunctionCounter.builder("cache.evictions", offHeapCache, OffHeapCache::capacityEvictions).tags(tags).tag("cause", "capacity").register(meterRegistry);
+            FunctionCounter.builder("cache.evictions", offHeapCache, OffHeapCache::expirations).tags(tags).tag("cause", "expiry").register(meterRegistry);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        pendingLoad.remove();
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return type != null ? type.cast(stored) : null;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        pendingLoad.remove();
+        boolean[] loaded = {false};
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return loads.recordCallable(valueLoader);
+        });
+        if (loaded[0]) {
+            misses.increment();
+            puts.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        PendingLoad pending = pendingLoad.get();
+        pendingLoad.remove();
+        delegate.put(key, value);
+        puts.increment();
+        if (pending != null && Objects.equals(pending.key(), key)) {
+            loads.record(System.nanoTime() - pending.startNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        pendingLoad.remove();
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        pendingLoad.remove();
+        delegate.evict(key);
+        explicitEvictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        pendingLoad.remove();
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            explicitEvictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        pendingLoad.remove();
+        long size = size();
+        delegate.clear();
+        clearedEntries.increment(size);
+    }
+
+    @Override
+    public boolean invalidate() {
+        pendingLoad.remove();
+        long size = size();
+        boolean invalidated = delegate.invalidate();
+        clearedEntries.increment(size);
+        return invalidated;
+    }
+
+    public long size() {
+        if (delegate instanceof OffHeapCache offHeapCache) {
+            return offHeapCache.size();
+        }
+        if (delegate.getNativeCache() instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return 0;
+    }
+
+    public long estimatedBytes() {
+        if (delegate instanceof OffHeapCache offHeapCache) {
+            return offHeapCache.occupiedBytes();
+        }
+        if (delegate.getNativeCache() instanceof Map<?, ?> map) {
+            return estimateFromSample(map);
+        }
+        return 0;
+    }
+
+    public long estimatedBytesPerEntry() {
+        long size = size();
+        return size == 0 ? 0 : estimatedBytes() / size;
+    }
+
+    public CacheStatisticsDto statistics() {
+        long hitCount = (long) hits.count();
+        long missCount = (long) misses.count();
+        long requests = hitCount + missCount;
+
+        Map<String, Long> evictions = new LinkedHashMap<>();
+        evictions.put("explicit", (long) explicitEvictions.count());
+        evictions.put("clear", (long) clearedEntries.count());
+        if (delegate instanceof OffHeapCache offHeapCache) {
+            evictions.put("capacity", offHeapCache.capacityEvictions());
+            evictions.put("expiry", offHeapCache.expirations());
+        }
+
+        long size = size();
+        long estimatedBytes = estimatedBytes();
+        return CacheStatisticsDto.builder()
+                .name(getName())
+                .store(delegate instanceof OffHeapCache ? "off-heap" : "heap")
+                .size(size)
+                .estimatedBytes(estimatedBytes)
+                .estimatedBytesPerEntry(size == 0 ? 0 : estimatedBytes / size)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRatio(requests == 0 ? 0 : (double) hitCount / requests)
+                .puts((long) puts.count())
+                .loads(loads.count())
+                .averageLoadMillis(loads.mean(TimeUnit.MILLISECONDS))
+                .evictions(evictions)
+                .build();
+    }
+
+    private long estimateFromSample(Map<?, ?> map) {
+        int size = map.size();
+        long sampledBytes = 0;
+        int sampled = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            sampledBytes += serializedSize(entry.getKey()) + serializedSize(entry.getValue());
+            if (++sampled == MEMORY_SAMPLE_SIZE) {
+                break;
+            }
+        }
+        return sampled == 0 ? 0 : sampledBytes * size / sampled;
+    }
+
+    private long serializedSize(Object value) {
+        ByteCounter counter = new ByteCounter();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            return 0;
+        }
+        return counter.count;
+    }
+
+    private record PendingLoad(Object key, long startNanos) {
+    }
+
+    private static class ByteCounter extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
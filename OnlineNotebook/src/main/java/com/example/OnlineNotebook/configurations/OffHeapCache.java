@@ -0,0 +1,95 @@
+package com.example.OnlineNotebook.configurations;
+
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+public class OffHeapCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final org.ehcache.Cache<Serializable, Serializable> store;
+    private final StatisticsService statisticsService;
+
+    public OffHeapCache(String name, org.ehcache.Cache<Serializable, Serializable> store, StatisticsService statisticsService) {
+        super(true);
+        this.name = name;
+        this.store = store;
+        this.statisticsService = statisticsService;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return store.get((Serializable) key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return (T) existing.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store.put((Serializable) key, (Serializable) toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove((Serializable) key);
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    public long size() {
+        TierStatistics offHeap = offHeapTier();
+        return offHeap != null ? offHeap.getMappings() : 0;
+    }
+
+    public long occupiedBytes() {
+        TierStatistics offHeap = offHeapTier();
+        return offHeap != null ? offHeap.getOccupiedByteSize() : 0;
+    }
+
+    public long capacityEvictions() {
+        return statistics().getCacheEvictions();
+    }
+
+    public long expirations() {
+        return statistics().getCacheExpirations();
+    }
+
+    private CacheStatistics statistics() {
+        return statisticsService.getCacheStatistics(name);
+    }
+
+    private TierStatistics offHeapTier() {
+        return statistics().getTierStatistics().get("OffHeap");
+    }
+}
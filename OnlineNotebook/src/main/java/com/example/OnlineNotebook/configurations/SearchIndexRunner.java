@@ -0,0 +1,38 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.SearchIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class SearchIndexRunner implements ApplicationRunner {
+    private final SearchIndexService searchIndexService;
+
+    public SearchIndexRunner(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.warn("Building the search index failed, it will be built on the first search", e);
+        }
+    }
+
+    @Scheduled(cron = "${search.index.rebuild-cron:0 0 * * * ?}")
+    public void rebuild() {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.warn("Rebuilding the search index failed", e);
+        }
+    }
+}
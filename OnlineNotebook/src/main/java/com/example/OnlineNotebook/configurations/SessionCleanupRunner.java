@@ -0,0 +1,51 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.services.JobLeaseService;
+import com.example.OnlineNotebook.services.session.SessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class SessionCleanupRunner {
+    private static final String LEASE_NAME = "session-cleanup";
+
+    private final SessionRepository sessionRepository;
+    private final JobLeaseService jobLeaseService;
+    private final int batchSize;
+
+    public SessionCleanupRunner(SessionRepository sessionRepository,
+                                JobLeaseService jobLeaseService,
+                                @Value("${sessions.cleanup-batch-size:500}") int batchSize) {
+        this.sessionRepository = sessionRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${sessions.cleanup-cron:0 * * * * ?}")
+    public void cleanup() {
+        try {
+            jobLeaseService.runExclusively(LEASE_NAME, this::deleteExpired);
+        } catch (Exception e) {
+            log.warn("Removing expired sessions failed", e);
+        }
+    }
+
+    public int deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = sessionRepository.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Removed {} expired sessions", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.OnlineNotebook.configurations;
+
+import com.example.OnlineNotebook.security.SessionRepositoryFilter;
+import com.example.OnlineNotebook.services.session.SessionAttributeCodec;
+import com.example.OnlineNotebook.services.session.SessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class SessionConfiguration {
+    public static final int SESSION_FILTER_ORDER = Integer.MIN_VALUE + 50;
+
+    @Bean
+    public FilterRegistrationBean<SessionRepositoryFilter> sessionRepositoryFilter(
+            SessionRepository sessionRepository,
+            SessionAttributeCodec sessionAttributeCodec,
+            @Value("${sessions.timeout:PT30M}") Duration timeout,
+            @Value("${sessions.touch-interval:PT1M}") Duration touchInterval,
+            @Value("${sessions.cookie-name:SESSION}") String cookieName) {
+        FilterRegistrationBean<SessionRepositoryFilter> registration = new FilterRegistrationBean<>(
+                new SessionRepositoryFilter(sessionRepository, sessionAttributeCodec, timeout, touchInterval, cookieName));
+        registration.setOrder(SESSION_FILTER_ORDER);
+        return registration;
+    }
+}
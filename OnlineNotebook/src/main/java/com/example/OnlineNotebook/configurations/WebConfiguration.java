@@ -1,12 +1,23 @@
 package com.example.OnlineNotebook.configurations;
 
 import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.security.BearerTokenAuthenticationFilter;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -19,18 +30,32 @@ public class WebConfiguration implements WebMvcConfigurer {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain (HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain securityFilterChain (HttpSecurity httpSecurity, JwtTokenService jwtTokenService,
+                                                    @Value("${sessions.cookie-name:SESSION}") String sessionCookieName) throws Exception {
+        RequestMatcher apiRequests = new AntPathRequestMatcher("/api/**");
+        HttpSessionRequestCache requestCache = new HttpSessionRequestCache();
+        requestCache.setRequestMatcher(new NegatedRequestMatcher(apiRequests));
+
         httpSecurity.csrf(csrf -> csrf
                 .ignoringRequestMatchers("/admin-panel/**", "/api/**")
         );
+        httpSecurity.addFilterBefore(new BearerTokenAuthenticationFilter(jwtTokenService), UsernamePasswordAuthenticationFilter.class);
+        httpSecurity.requestCache(cache -> cache.requestCache(requestCache));
+        httpSecurity.exceptionHandling(exceptions -> exceptions
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED), apiRequests)
+        );
         
         httpSecurity.authorizeHttpRequests(matcher -> matcher
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                 .requestMatchers("/", "/login", "/register", "/error", "/error/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/v1/auth/token").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/admin-panel/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 .requestMatchers("/teacher/**").hasRole("TEACHER")
                 .requestMatchers("/api/v1/teacher/**").hasRole("TEACHER")
+                .requestMatchers("/api/v1/search").hasAnyRole("ADMIN", "TEACHER")
                 .requestMatchers("/student/**").hasRole("STUDENT")
                 .anyRequest().authenticated()
                 )
@@ -45,7 +70,7 @@ public class WebConfiguration implements WebMvcConfigurer {
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("/login")
                 .invalidateHttpSession(true)
-                .deleteCookies("JSESSIONID")
+                .deleteCookies(sessionCookieName)
         );
         return httpSecurity.build();
     }
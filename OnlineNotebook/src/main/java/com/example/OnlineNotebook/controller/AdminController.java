@@ -1,12 +1,28 @@
 package com.example.OnlineNotebook.controller;
 
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserPage;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentDto;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
 import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverRequestDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverStatusDto;
 import com.example.OnlineNotebook.models.dtos.course.CourseDto;
 import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
+import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.services.CourseService;
 import com.example.OnlineNotebook.services.UserService;
+import com.example.OnlineNotebook.util.BulkImportReader;
 import com.example.OnlineNotebook.util.ResponseHelper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -14,8 +30,12 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Controller
 @PreAuthorize("hasRole('ADMIN')")
@@ -23,10 +43,12 @@ public class AdminController {
 
     private final UserService userService;
     private final CourseService courseService;
+    private final ObjectMapper objectMapper;
 
-    public AdminController(UserService userService, CourseService courseService) {
+    public AdminController(UserService userService, CourseService courseService, ObjectMapper objectMapper) {
         this.userService = userService;
         this.courseService = courseService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/admin-panel")
@@ -45,6 +67,16 @@ public class AdminController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/api/v1/admin/users/page")
+    @ResponseBody
+    public ResponseEntity<AdminUserPage> getUsersPage(
+            @RequestParam(required = false) UserType userType,
+            @RequestParam(required = false) UUID courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(userService.getUsersPage(userType, courseId, cursor, limit));
+    }
+
     @PostMapping("/api/v1/admin/users")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> createUser(
@@ -65,7 +97,72 @@ public class AdminController {
             @RequestBody List<BulkImportUserDto> users) {
 
         var result = userService.registerBulkUsers(users);
-        return ResponseHelper.buildResponse(result.isSuccess(), result.getMessage());
+        Map<String, Object> response = result.isSuccess()
+                ? ResponseHelper.successResponse(result.getMessage())
+                : ResponseHelper.errorResponse(result.getMessage());
+        if (result.getResults() != null) {
+            response.put("results", result.getResults());
+        }
+        return result.isSuccess() ? ResponseHelper.ok(response) : ResponseHelper.badRequest(response);
+    }
+
+    @PostMapping(value = "/api/v1/admin/users/import/stream", consumes = {"text/csv", "application/x-ndjson"})
+    public void streamBulkUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        BulkImportReader reader;
+        try {
+            reader = userService.openBulkUsersStream(request.getReader(),
+                    BulkImportFormat.fromContentType(request.getContentType()));
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            writeLine(response.getWriter(), ResponseHelper.errorResponse(e.getMessage()));
+            return;
+        }
+        response.setContentType(BulkImportFormat.NDJSON.getMediaType());
+        PrintWriter writer = response.getWriter();
+
+        var result = userService.registerBulkUsersStream(reader, rows -> {
+            rows.forEach(row -> writeLine(writer, row));
+            writer.flush();
+        });
+        writeLine(writer, result);
+        writer.flush();
+    }
+
+    @PostMapping("/api/v1/admin/users/import/jobs")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> submitBulkImportJob(
+            @RequestBody List<BulkImportUserDto> users) {
+
+        UUID jobId = userService.submitBulkImportJob(users);
+        Map<String, Object> response = ResponseHelper.successResponse("Import of " + users.size() + " users queued");
+        response.put("jobId", jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/api/v1/admin/users/import/jobs")
+    @ResponseBody
+    public ResponseEntity<List<ImportJobStatusDto>> getBulkImportJobs() {
+        return ResponseEntity.ok(userService.getRecentBulkImportJobs());
+    }
+
+    @GetMapping("/api/v1/admin/users/import/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<ImportJobStatusDto> getBulkImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(userService.getBulkImportJob(jobId));
+    }
+
+    private void writeLine(PrintWriter writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize import result", e);
+        }
     }
 
     @GetMapping("/api/v1/admin/teachers")
@@ -88,5 +185,42 @@ public class AdminController {
         courseService.createCourse(courseDto);
         return ResponseHelper.ok(ResponseHelper.successResponse("Course created successfully"));
     }
-}
 
+    @PostMapping("/api/v1/admin/enrollments")
+    @ResponseBody
+    public ResponseEntity<BulkEnrollmentResult> enrollStudents(@RequestBody BulkEnrollmentDto enrollment) {
+        return ResponseEntity.ok(courseService.enrollStudents(enrollment.getStudentIds(), enrollment.getCourseId()));
+    }
+
+    @PostMapping("/api/v1/admin/enrollments/transfer")
+    @ResponseBody
+    public ResponseEntity<BulkEnrollmentResult> transferStudents(@RequestBody BulkEnrollmentDto enrollment) {
+        return ResponseEntity.ok(courseService.transferStudents(enrollment.getStudentIds(), enrollment.getCourseId()));
+    }
+
+    @PostMapping("/api/v1/admin/enrollments/unenroll")
+    @ResponseBody
+    public ResponseEntity<BulkEnrollmentResult> unenrollStudents(@RequestBody BulkEnrollmentDto enrollment) {
+        return ResponseEntity.ok(courseService.unenrollStudents(enrollment.getStudentIds()));
+    }
+
+    @PostMapping("/api/v1/admin/rollover/plan")
+    @ResponseBody
+    public ResponseEntity<RolloverPlanDto> planRollover(@RequestBody RolloverRequestDto rollover) {
+        return ResponseEntity.ok(courseService.planRollover(rollover.getFromYear(), rollover.getToYear()));
+    }
+
+    @PostMapping("/api/v1/admin/rollover")
+    @ResponseBody
+    public ResponseEntity<RolloverStatusDto> startRollover(@RequestBody RolloverRequestDto rollover) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(courseService.startRollover(rollover.getFromYear(), rollover.getToYear()));
+    }
+
+    @GetMapping("/api/v1/admin/rollover")
+    @ResponseBody
+    public ResponseEntity<RolloverStatusDto> getRolloverStatus() {
+        RolloverStatusDto status = courseService.getRolloverStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.OnlineNotebook.controller;
+
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "batchjobs")
+public class BatchJobsEndpoint {
+    private final BatchJobService batchJobService;
+
+    public BatchJobsEndpoint(BatchJobService batchJobService) {
+        this.batchJobService = batchJobService;
+    }
+
+    @ReadOperation
+    public List<BatchJobStatusDto> jobs() {
+        return batchJobService.getStatuses();
+    }
+
+    @ReadOperation
+    public BatchJobStatusDto job(@Selector String name) {
+        return batchJobService.getStatus(name);
+    }
+}
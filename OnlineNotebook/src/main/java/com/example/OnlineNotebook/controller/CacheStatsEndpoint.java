@@ -0,0 +1,78 @@
+package com.example.OnlineNotebook.controller;
+
+import com.example.OnlineNotebook.configurations.InstrumentedCache;
+import com.example.OnlineNotebook.models.dtos.admin.CacheStatisticsDto;
+import com.example.OnlineNotebook.services.CacheWarmupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+    private final CacheManager cacheManager;
+    private final CacheWarmupService cacheWarmupService;
+
+    public CacheStatsEndpoint(CacheManager cacheManager, CacheWarmupService cacheWarmupService) {
+        this.cacheManager = cacheManager;
+        this.cacheWarmupService = cacheWarmupService;
+    }
+
+    @ReadOperation
+    public Map<String, CacheStatisticsDto> caches() {
+        Map<String, CacheStatisticsDto> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            InstrumentedCache cache = instrumentedCache(name);
+            if (cache != null) {
+                result.put(name, cache.statistics());
+            }
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public CacheStatisticsDto cache(@Selector String name) {
+        InstrumentedCache cache = instrumentedCache(name);
+        return cache != null ? cache.statistics() : null;
+    }
+
+    @DeleteOperation
+    public boolean evict(@Selector String name, @Selector String key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return false;
+        }
+        boolean evicted = cache.evictIfPresent(parseKey(key));
+        log.info("Evicted key {} from cache '{}': {}", key, name, evicted);
+        return evicted;
+    }
+
+    @WriteOperation
+    public CacheStatisticsDto warm(@Selector String name) {
+        cacheWarmupService.warm(name);
+        return cache(name);
+    }
+
+    private InstrumentedCache instrumentedCache(String name) {
+        return cacheManager.getCache(name) instanceof InstrumentedCache cache ? cache : null;
+    }
+
+    private Object parseKey(String key) {
+        try {
+            return UUID.fromString(key);
+        } catch (IllegalArgumentException e) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.OnlineNotebook.controller;
+
+import com.example.OnlineNotebook.models.dtos.search.SearchResultDto;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@Controller
+@PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchController(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @GetMapping("/api/v1/search")
+    @ResponseBody
+    public ResponseEntity<List<SearchResultDto>> search(@AuthenticationPrincipal UserData userData,
+                                                        @RequestParam("q") String query,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        var teacherId = userData.getUserType() == UserType.ADMIN ? null : userData.getId();
+        return ResponseEntity.ok(searchIndexService.search(query, teacherId, limit));
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.OnlineNotebook.controller;
 
+import com.example.OnlineNotebook.models.dtos.auth.AccessTokenDto;
 import com.example.OnlineNotebook.models.dtos.auth.LoginDto;
 import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
 import com.example.OnlineNotebook.services.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
@@ -52,4 +57,10 @@ public class UserController {
         userService.registerUser(registerDto);
         return new ModelAndView("redirect:/login");
     }
-}
\ No newline at end of file
+
+    @PostMapping("/api/v1/auth/token")
+    @ResponseBody
+    public ResponseEntity<AccessTokenDto> issueToken(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+        return ResponseEntity.ok(userService.issueAccessToken(loginDto, request.getRemoteAddr()));
+    }
+}
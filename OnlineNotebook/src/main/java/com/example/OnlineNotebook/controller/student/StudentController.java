@@ -3,7 +3,6 @@ package com.example.OnlineNotebook.controller.student;
 import com.example.OnlineNotebook.models.dtos.auth.EditProfileDto;
 import com.example.OnlineNotebook.models.dtos.student.grades.StudentGradesViewDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
-import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.security.UserData;
 import com.example.OnlineNotebook.services.StudentGradesService;
 import com.example.OnlineNotebook.services.StudentService;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
@@ -44,8 +44,9 @@ public class StudentController {
     }
     
     @GetMapping("/grades")
-    public ModelAndView grades(@AuthenticationPrincipal UserData userData) {
-        StudentGradesViewDto gradesView = studentGradesService.buildGradesView(userData.getId());
+    public ModelAndView grades(@AuthenticationPrincipal UserData userData,
+                               @RequestParam(required = false) String schoolYear) {
+        StudentGradesViewDto gradesView = studentGradesService.buildGradesView(userData.getId(), schoolYear);
         ModelAndView modelAndView = new ModelAndView("student/grades");
         modelAndView.addObject("gradesView", gradesView);
         return modelAndView;
@@ -58,11 +59,10 @@ public class StudentController {
     
     @GetMapping("/edit-profile")
     public ModelAndView editProfile(@AuthenticationPrincipal UserData userData) {
-        User user = userService.getById(userData.getId());
         EditProfileDto editProfileDto = userService.buildEditProfileDto(userData.getId());
         
         ModelAndView modelAndView = new ModelAndView("student/edit-profile");
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("editProfileDto", editProfileDto);
         return modelAndView;
     }
@@ -73,9 +73,8 @@ public class StudentController {
                                       BindingResult bindingResult,
                                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
-            User user = userService.getById(userData.getId());
             ModelAndView modelAndView = new ModelAndView("student/edit-profile");
-            modelAndView.addObject("user", user);
+            modelAndView.addObject("user", userService.getCurrentUser(userData));
             modelAndView.addObject("editProfileDto", editProfileDto);
             return modelAndView;
         }
@@ -41,11 +41,11 @@ public class GradeController {
                                @RequestParam(required = false) UUID courseId,
                                @RequestParam(required = false) UUID assignmentId,
                                @RequestParam(required = false) String subjectType) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         GradingPageDto gradingData = gradeService.getGradingPageData(teacher, courseId, assignmentId, subjectType);
 
         ModelAndView modelAndView = new ModelAndView("teacher/grades");
-        modelAndView.addObject("user", gradingData.getUser());
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("courses", gradingData.getCourses());
         modelAndView.addObject("selectedCourse", gradingData.getSelectedCourse());
         modelAndView.addObject("selectedCourseId", gradingData.getSelectedCourseId());
@@ -62,7 +62,7 @@ public class GradeController {
     @PostMapping("/api/v1/teacher/grades")
     public String saveGrades(@AuthenticationPrincipal UserData userData, @Valid SaveGradesDto saveGradesDto, RedirectAttributes redirectAttributes) {
 
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         gradeService.saveGrades(saveGradesDto, teacher);
         redirectAttributes.addFlashAttribute("successMessage", "Grades saved successfully!");
         
@@ -76,7 +76,7 @@ public class GradeController {
     public ResponseEntity<?> getStudentGrades(@AuthenticationPrincipal UserData userData,
                                               @PathVariable UUID studentId,
                                               @RequestParam(required = false) UUID courseId) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         List<TeacherStudentGradeDto> grades = gradeService.getStudentGradesForTeacher(teacher, studentId, courseId);
         return ResponseEntity.ok(grades);
     }
@@ -85,7 +85,7 @@ public class GradeController {
     @ResponseBody
     public ResponseEntity<?> deleteGrade(@AuthenticationPrincipal UserData userData,
                                          @PathVariable UUID gradeId) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         gradeService.deleteGradeForTeacher(teacher, gradeId);
         return ResponseEntity.ok().build();
     }
@@ -103,7 +103,7 @@ public class GradeController {
             redirectAttributes.addAttribute("courseId", courseId);
         }
 
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         gradeService.deleteGradeForTeacher(teacher, gradeId);
         redirectAttributes.addAttribute("successMessage", "Grade deleted successfully.");
 
@@ -131,7 +131,7 @@ public class GradeController {
             return "redirect:/teacher/students";
         }
 
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         gradeService.updateGradeFeedback(teacher, gradeId, updateGradeFeedbackDto);
         redirectAttributes.addAttribute("successMessage", "Feedback saved successfully.");
 
@@ -1,11 +1,13 @@
 package com.example.OnlineNotebook.controller.teacher;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.assignment.AssignmentFormDto;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.security.UserData;
 import com.example.OnlineNotebook.services.TeacherService;
 import com.example.OnlineNotebook.services.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -14,9 +16,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.List;
 import java.util.UUID;
 
 @Controller
@@ -34,10 +38,10 @@ public class TeacherAssignmentController {
     public ModelAndView assignments(@AuthenticationPrincipal UserData userData,
                                     @RequestParam(required = false) String successMessage,
                                     @RequestParam(required = false) String errorMessage) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         var viewData = teacherService.buildAssignmentsView(teacher);
         ModelAndView modelAndView = new ModelAndView("teacher/assignments");
-        modelAndView.addObject("user", teacher);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("assignmentForm", viewData.getForm());
         modelAndView.addObject("courses", viewData.getCourses());
         modelAndView.addObject("assignmentTypes", viewData.getAssignmentTypes());
@@ -56,11 +60,11 @@ public class TeacherAssignmentController {
                                    BindingResult bindingResult,
                                    Model model,
                                    RedirectAttributes redirectAttributes) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
 
         if (bindingResult.hasErrors()) {
             var viewData = teacherService.buildAssignmentsView(teacher);
-            model.addAttribute("user", teacher);
+            model.addAttribute("user", userService.getCurrentUser(userData));
             model.addAttribute("assignmentForm", assignmentFormDto);
             model.addAttribute("courses", viewData.getCourses());
             model.addAttribute("assignmentTypes", viewData.getAssignmentTypes());
@@ -77,9 +81,16 @@ public class TeacherAssignmentController {
     public String deleteAssignment(@AuthenticationPrincipal UserData userData,
                                    @PathVariable UUID assignmentId,
                                    RedirectAttributes redirectAttributes) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         teacherService.deleteAssignment(assignmentId, teacher);
         redirectAttributes.addAttribute("successMessage", "Assignment deleted.");
         return "redirect:/teacher/home";
     }
+
+    @GetMapping("/api/v1/teacher/assignments/archive")
+    @ResponseBody
+    public ResponseEntity<List<AssignmentSnapshot>> getArchivedAssignments(@AuthenticationPrincipal UserData userData,
+                                                                           @RequestParam String schoolYear) {
+        return ResponseEntity.ok(teacherService.getArchivedAssignments(userData.getId(), schoolYear));
+    }
 }
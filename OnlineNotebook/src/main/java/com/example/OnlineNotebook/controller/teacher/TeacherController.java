@@ -39,19 +39,16 @@ public class TeacherController {
 
     @GetMapping("/home")
     public ModelAndView home(@AuthenticationPrincipal UserData userData) {
-        var user = userService.getById(userData.getId());
-        var viewData = teacherService.buildHomeView(user);
-        
-        long totalStudents = userService.getTotalStudentsCount();
-        long activeClasses = userService.getActiveClassesCount();
-        long postedAssignments = userService.getPostedAssignmentsCount();
-        
+        var viewData = teacherService.buildHomeView(userService.getReference(userData.getId()));
+        var statistics = viewData.getStatistics();
+
         ModelAndView modelAndView = new ModelAndView("teacher/home");
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("assignments", viewData.getAssignments());
-        modelAndView.addObject("totalStudents", totalStudents);
-        modelAndView.addObject("activeClasses", activeClasses);
-        modelAndView.addObject("postedAssignments", postedAssignments);
+        modelAndView.addObject("totalStudents", statistics.getTotalStudents());
+        modelAndView.addObject("activeClasses", statistics.getActiveClasses());
+        modelAndView.addObject("postedAssignments", statistics.getPostedAssignments());
+        modelAndView.addObject("statistics", statistics);
         return modelAndView;
     }
 
@@ -61,10 +58,10 @@ public class TeacherController {
                                  @RequestParam(required = false) UUID studentId,
                                  @RequestParam(required = false) String successMessage,
                                  @RequestParam(required = false) String errorMessage) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         TeacherStudentsViewDto viewData = teacherService.buildStudentsView(teacher, courseId, studentId);
         ModelAndView modelAndView = new ModelAndView("teacher/students");
-        modelAndView.addObject("user", teacher);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("courses", viewData.getCourses());
         modelAndView.addObject("selectedCourseId", viewData.getSelectedCourseId());
         modelAndView.addObject("students", viewData.getStudents());
@@ -94,11 +91,11 @@ public class TeacherController {
     public ModelAndView attendance(@AuthenticationPrincipal UserData userData,
                                   @RequestParam(required = false) UUID courseId,
                                   @RequestParam(required = false) UUID studentId) {
-        User teacher = userService.getById(userData.getId());
+        User teacher = userService.getReference(userData.getId());
         var viewData = attendanceService.buildAttendanceView(teacher, courseId, studentId);
         
         ModelAndView modelAndView = new ModelAndView("teacher/attendance");
-        modelAndView.addObject("user", teacher);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("courses", viewData.getCourses());
         modelAndView.addObject("selectedCourse", viewData.getSelectedCourse());
         modelAndView.addObject("students", viewData.getStudents());
@@ -132,11 +129,10 @@ public class TeacherController {
 
     @GetMapping("/edit-profile")
     public ModelAndView editProfile(@AuthenticationPrincipal UserData userData) {
-        User user = userService.getById(userData.getId());
         EditProfileDto editProfileDto = userService.buildEditProfileDto(userData.getId());
         
         ModelAndView modelAndView = new ModelAndView("teacher/edit-profile");
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("user", userService.getCurrentUser(userData));
         modelAndView.addObject("editProfileDto", editProfileDto);
         return modelAndView;
     }
@@ -147,9 +143,8 @@ public class TeacherController {
                                       BindingResult bindingResult,
                                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
-            User user = userService.getById(userData.getId());
             ModelAndView modelAndView = new ModelAndView("teacher/edit-profile");
-            modelAndView.addObject("user", user);
+            modelAndView.addObject("user", userService.getCurrentUser(userData));
             modelAndView.addObject("editProfileDto", editProfileDto);
             return modelAndView;
         }
@@ -1,7 +1,9 @@
 package com.example.OnlineNotebook.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.ModelAndView;
@@ -36,6 +38,36 @@ public class GlobalExceptionHandler {
         return modelAndView;
     }
 
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public Object handleTooManyRequestsException(TooManyRequestsException e, HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+
+        if (requestURI != null && requestURI.startsWith("/api/")) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        }
+
+        ModelAndView modelAndView = new ModelAndView("error/error");
+        modelAndView.addObject("message", e.getMessage());
+        modelAndView.setStatus(HttpStatus.TOO_MANY_REQUESTS);
+        return modelAndView;
+    }
+
+    @ExceptionHandler(value = BadCredentialsException.class)
+    public Object handleBadCredentialsException(BadCredentialsException e, HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+
+        if (requestURI != null && requestURI.startsWith("/api/")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .body(e.getMessage());
+        }
+
+        ModelAndView modelAndView = new ModelAndView("error/error");
+        modelAndView.addObject("message", e.getMessage());
+        modelAndView.setStatus(HttpStatus.UNAUTHORIZED);
+        return modelAndView;
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ModelAndView handleAllOtherExceptions(Exception e){
         ModelAndView modelAndView = new ModelAndView("error/error");
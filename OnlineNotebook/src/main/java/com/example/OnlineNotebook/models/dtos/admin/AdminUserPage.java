@@ -0,0 +1,6 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import java.util.List;
+
+public record AdminUserPage(List<AdminUserRow> users, String nextCursor) {
+}
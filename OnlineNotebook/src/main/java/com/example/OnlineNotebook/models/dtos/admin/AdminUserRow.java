@@ -0,0 +1,16 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import com.example.OnlineNotebook.models.enums.UserType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AdminUserRow(UUID id,
+                           String firstName,
+                           String lastName,
+                           String email,
+                           UserType userType,
+                           UUID courseId,
+                           String courseName,
+                           LocalDateTime createdAt) {
+}
@@ -0,0 +1,26 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobStatusDto {
+    private String name;
+    private BatchJobStatus status;
+    private String cursor;
+    private long chunksCompleted;
+    private long itemsProcessed;
+    private int chunksInFlight;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+}
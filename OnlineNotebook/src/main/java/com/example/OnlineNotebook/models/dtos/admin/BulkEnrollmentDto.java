@@ -0,0 +1,18 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentDto {
+    private List<UUID> studentIds;
+    private UUID courseId;
+}
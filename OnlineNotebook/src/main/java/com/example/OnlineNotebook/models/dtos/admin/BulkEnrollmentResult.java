@@ -0,0 +1,21 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResult {
+    private boolean success;
+    private String message;
+    private int requested;
+    private int updated;
+    private Set<UUID> affectedCourseIds;
+}
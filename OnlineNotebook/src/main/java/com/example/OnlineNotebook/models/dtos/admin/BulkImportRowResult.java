@@ -0,0 +1,20 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRowResult {
+    private int row;
+    private String email;
+    private boolean success;
+    private String message;
+    private UUID userId;
+}
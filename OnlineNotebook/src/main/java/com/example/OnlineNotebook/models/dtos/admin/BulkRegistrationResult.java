@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,5 +14,8 @@ import lombok.NoArgsConstructor;
 public class BulkRegistrationResult {
     private boolean success;
     private String message;
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private List<BulkImportRowResult> results;
 }
-
@@ -0,0 +1,27 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDto {
+    private String name;
+    private String store;
+    private long size;
+    private long estimatedBytes;
+    private long estimatedBytesPerEntry;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long puts;
+    private long loads;
+    private double averageLoadMillis;
+    private Map<String, Long> evictions;
+}
@@ -0,0 +1,29 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobStatusDto {
+    private UUID id;
+    private ImportJobStatus status;
+    private int totalRows;
+    private int processedRows;
+    private int succeeded;
+    private int failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+    private List<BulkImportRowResult> failures;
+}
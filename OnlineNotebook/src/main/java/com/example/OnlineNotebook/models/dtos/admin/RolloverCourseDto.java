@@ -0,0 +1,20 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RolloverCourseDto {
+    private UUID courseId;
+    private String name;
+    private String targetName;
+    private boolean targetExists;
+    private long students;
+}
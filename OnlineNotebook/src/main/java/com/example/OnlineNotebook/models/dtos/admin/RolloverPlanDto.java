@@ -0,0 +1,24 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RolloverPlanDto {
+    private String fromYear;
+    private String toYear;
+    private int coursesToCreate;
+    private int coursesToArchive;
+    private long studentsToPromote;
+    private long studentsToGraduate;
+    private long gradesToArchive;
+    private long assignmentsToArchive;
+    private List<RolloverCourseDto> courses;
+}
@@ -0,0 +1,25 @@
+package com.example.OnlineNotebook.models.dtos.admin;
+
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RolloverStatusDto {
+    private String fromYear;
+    private String toYear;
+    private BatchJobStatus status;
+    private String step;
+    private List<BatchJobStatusDto> steps;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+}
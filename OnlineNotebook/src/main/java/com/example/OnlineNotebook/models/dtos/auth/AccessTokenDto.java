@@ -0,0 +1,16 @@
+package com.example.OnlineNotebook.models.dtos.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccessTokenDto {
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+}
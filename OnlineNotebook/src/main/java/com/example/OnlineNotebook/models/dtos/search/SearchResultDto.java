@@ -0,0 +1,23 @@
+package com.example.OnlineNotebook.models.dtos.search;
+
+import com.example.OnlineNotebook.models.enums.SearchResultType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDto {
+    private SearchResultType type;
+    private UUID id;
+    private String title;
+    private String subtitle;
+    private UserType userType;
+    private UUID courseId;
+}
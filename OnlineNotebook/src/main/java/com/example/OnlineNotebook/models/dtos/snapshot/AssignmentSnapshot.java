@@ -0,0 +1,50 @@
+package com.example.OnlineNotebook.models.dtos.snapshot;
+
+import com.example.OnlineNotebook.models.entities.ArchivedAssignment;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.models.enums.AssignmentType;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AssignmentSnapshot(UUID id,
+                                 String title,
+                                 String description,
+                                 AssignmentType type,
+                                 LocalDateTime dueDate,
+                                 LocalDateTime assignedDate,
+                                 AssignmentStatus status,
+                                 UUID courseId,
+                                 String courseName,
+                                 UUID createdById) implements Serializable {
+
+    public static AssignmentSnapshot from(Assignment assignment) {
+        return new AssignmentSnapshot(
+                assignment.getId(),
+                assignment.getTitle(),
+                assignment.getDescription(),
+                assignment.getType(),
+                assignment.getDueDate(),
+                assignment.getAssignedDate(),
+                assignment.getStatus(),
+                assignment.getCourse() != null ? assignment.getCourse().getId() : null,
+                assignment.getCourse() != null ? assignment.getCourse().getName() : null,
+                assignment.getCreatedBy() != null ? assignment.getCreatedBy().getId() : null);
+    }
+
+    public static AssignmentSnapshot from(ArchivedAssignment assignment) {
+        return new AssignmentSnapshot(
+                assignment.getId(),
+                assignment.getTitle(),
+                assignment.getDescription(),
+                assignment.getType(),
+                assignment.getDueDate(),
+                assignment.getAssignedDate(),
+                assignment.getStatus(),
+                assignment.getCourse() != null ? assignment.getCourse().getId() : null,
+                assignment.getCourse() != null ? assignment.getCourse().getName() : null,
+                assignment.getCreatedBy() != null ? assignment.getCreatedBy().getId() : null);
+    }
+}
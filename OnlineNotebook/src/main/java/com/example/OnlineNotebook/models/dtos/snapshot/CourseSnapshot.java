@@ -0,0 +1,30 @@
+package com.example.OnlineNotebook.models.dtos.snapshot;
+
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+public record CourseSnapshot(UUID id,
+                             String name,
+                             String description,
+                             String schoolYear,
+                             List<SubjectType> subjects,
+                             UUID teacherId) implements Serializable {
+
+    public CourseSnapshot {
+        subjects = subjects != null ? List.copyOf(subjects) : List.of();
+    }
+
+    public static CourseSnapshot from(Course course) {
+        return new CourseSnapshot(
+                course.getId(),
+                course.getName(),
+                course.getDescription(),
+                course.getSchoolYear(),
+                course.getSubjects(),
+                course.getTeacher() != null ? course.getTeacher().getId() : null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.OnlineNotebook.models.dtos.snapshot;
+
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+public record CurrentUserSnapshot(UUID id,
+                                  String firstName,
+                                  String lastName,
+                                  String email,
+                                  UserType userType,
+                                  String profilePictureUrl,
+                                  String studentClass,
+                                  UUID courseId,
+                                  String courseName) implements Serializable {
+
+    public static CurrentUserSnapshot from(User user) {
+        return new CurrentUserSnapshot(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getUserType(),
+                user.getProfilePictureUrl(),
+                user.getStudentClass(),
+                user.getCourse() != null ? user.getCourse().getId() : null,
+                user.getCourse() != null ? user.getCourse().getName() : null);
+    }
+}
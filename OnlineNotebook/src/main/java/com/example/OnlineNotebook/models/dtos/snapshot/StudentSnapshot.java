@@ -0,0 +1,26 @@
+package com.example.OnlineNotebook.models.dtos.snapshot;
+
+import com.example.OnlineNotebook.models.entities.User;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+public record StudentSnapshot(UUID id,
+                              String firstName,
+                              String lastName,
+                              String email,
+                              String studentClass,
+                              String profilePictureUrl,
+                              UUID courseId) implements Serializable {
+
+    public static StudentSnapshot from(User user) {
+        return new StudentSnapshot(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getStudentClass(),
+                user.getProfilePictureUrl(),
+                user.getCourse() != null ? user.getCourse().getId() : null);
+    }
+}
@@ -13,5 +13,7 @@ public class StudentGradesViewDto {
     private final StudentProfileDto profile;
     private final StudentGradesSummaryDto summary;
     private final List<StudentSubjectGradesDto> subjects;
+    private final String schoolYear;
+    private final List<String> archivedSchoolYears;
 }
 
@@ -3,9 +3,11 @@ package com.example.OnlineNotebook.models.dtos.student.home;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Builder
 @Getter
-public class StudentAssignmentPreviewDto {
+public class StudentAssignmentPreviewDto implements Serializable {
 
     private final String title;
     private final String description;
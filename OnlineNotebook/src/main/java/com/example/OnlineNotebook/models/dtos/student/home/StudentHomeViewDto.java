@@ -4,11 +4,12 @@ import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Builder
 @Getter
-public class StudentHomeViewDto {
+public class StudentHomeViewDto implements Serializable {
 
     private final StudentProfileDto profile;
     private final StudentQuickStatsDto quickStats;
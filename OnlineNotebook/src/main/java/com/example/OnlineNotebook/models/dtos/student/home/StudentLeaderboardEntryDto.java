@@ -3,9 +3,11 @@ package com.example.OnlineNotebook.models.dtos.student.home;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Builder
 @Getter
-public class StudentLeaderboardEntryDto {
+public class StudentLeaderboardEntryDto implements Serializable {
 
     private final int rank;
     private final String initials;
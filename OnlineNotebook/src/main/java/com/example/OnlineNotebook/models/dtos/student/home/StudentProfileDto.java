@@ -3,11 +3,12 @@ package com.example.OnlineNotebook.models.dtos.student.home;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.UUID;
 
 @Builder
 @Getter
-public class StudentProfileDto {
+public class StudentProfileDto implements Serializable {
 
     private final UUID id;
     private final String firstName;
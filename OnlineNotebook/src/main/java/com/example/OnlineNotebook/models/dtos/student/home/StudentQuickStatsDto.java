@@ -3,9 +3,11 @@ package com.example.OnlineNotebook.models.dtos.student.home;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Builder
 @Getter
-public class StudentQuickStatsDto {
+public class StudentQuickStatsDto implements Serializable {
 
     private final String averageGradeDisplay;
     private final String attendanceDisplay;
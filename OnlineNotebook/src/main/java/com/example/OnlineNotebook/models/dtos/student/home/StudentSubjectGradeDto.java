@@ -3,9 +3,11 @@ package com.example.OnlineNotebook.models.dtos.student.home;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Builder
 @Getter
-public class StudentSubjectGradeDto {
+public class StudentSubjectGradeDto implements Serializable {
 
     private final String subject;
     private final String subjectCode;
@@ -1,6 +1,6 @@
 package com.example.OnlineNotebook.models.dtos.teacher.assignment;
 
-import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +15,6 @@ import java.util.List;
 @AllArgsConstructor
 public class TeacherAssignmentsViewDto {
     private AssignmentFormDto form;
-    private List<Course> courses;
+    private List<CourseSnapshot> courses;
     private List<AssignmentType> assignmentTypes;
 }
@@ -1,8 +1,8 @@
 package com.example.OnlineNotebook.models.dtos.teacher.attendance;
 
 import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
-import com.example.OnlineNotebook.models.entities.Course;
-import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,11 +16,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TeacherAttendanceViewDto {
-    private List<Course> courses;
-    private Course selectedCourse;
-    private List<User> students;
+    private List<CourseSnapshot> courses;
+    private CourseSnapshot selectedCourse;
+    private List<StudentSnapshot> students;
     private UUID selectedStudentId;
-    private User selectedStudent;
+    private StudentSnapshot selectedStudent;
     private List<AttendanceResponseDto> attendanceRecords;
 }
 
@@ -0,0 +1,20 @@
+package com.example.OnlineNotebook.models.dtos.teacher.home;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolStatisticsDto {
+    private long totalStudents;
+    private long totalTeachers;
+    private long activeClasses;
+    private long postedAssignments;
+    private long teacherClasses;
+    private long teacherStudents;
+    private long teacherAssignments;
+}
@@ -14,4 +14,5 @@ import java.util.List;
 @AllArgsConstructor
 public class TeacherHomeViewDto {
     private List<AssignmentSummaryDto> assignments;
+    private SchoolStatisticsDto statistics;
 }
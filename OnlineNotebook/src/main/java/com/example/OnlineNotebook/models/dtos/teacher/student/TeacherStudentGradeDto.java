@@ -3,12 +3,13 @@ package com.example.OnlineNotebook.models.dtos.teacher.student;
 import lombok.Builder;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
 @Builder
-public class TeacherStudentGradeDto {
+public class TeacherStudentGradeDto implements Serializable {
     private UUID gradeId;
     private String subjectCode;
     private String subject;
@@ -1,8 +1,8 @@
 package com.example.OnlineNotebook.models.dtos.teacher.student;
 
-import com.example.OnlineNotebook.models.entities.Assignment;
-import com.example.OnlineNotebook.models.entities.Course;
-import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,13 +16,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TeacherStudentsViewDto {
-    private List<Course> courses;
+    private List<CourseSnapshot> courses;
     private UUID selectedCourseId;
-    private List<User> students;
+    private List<StudentSnapshot> students;
     private UUID selectedStudentId;
-    private User selectedStudent;
+    private StudentSnapshot selectedStudent;
     private List<TeacherStudentGradeDto> studentGrades;
     private boolean showGradesModal;
     private String gradeErrorMessage;
-    private List<Assignment> assignments;
+    private List<AssignmentSnapshot> assignments;
 }
@@ -0,0 +1,52 @@
+package com.example.OnlineNotebook.models.entities;
+
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.models.enums.AssignmentType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "assignment_archive", indexes = @Index(name = "idx_assignment_archive_creator_year", columnList = "created_by_id, schoolYear"))
+public class ArchivedAssignment {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private AssignmentType type;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime assignedDate;
+
+    @Enumerated(EnumType.STRING)
+    private AssignmentStatus status;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private User createdBy;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(nullable = false)
+    private Course course;
+
+    @Column(nullable = false, length = 20)
+    private String schoolYear;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
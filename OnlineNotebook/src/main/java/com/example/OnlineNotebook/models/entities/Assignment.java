@@ -2,6 +2,7 @@ package com.example.OnlineNotebook.models.entities;
 
 import com.example.OnlineNotebook.models.enums.AssignmentStatus;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
+import com.example.OnlineNotebook.services.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,6 +14,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(SearchIndexListener.class)
+@Table(indexes = @Index(name = "idx_assignment_status_due_date", columnList = "status, dueDate"))
 public class Assignment {
 
     @Id
@@ -1,19 +1,25 @@
 package com.example.OnlineNotebook.models.entities;
 
 import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.services.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity.course")
 public class Course {
 
     @Id
@@ -30,10 +36,14 @@ public class Course {
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "course_subjects", joinColumns = @JoinColumn(name = "course_id"))
     @Column(name = "subject", nullable = false)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity.course.subjects")
     private List<SubjectType> subjects;
 
     @Column(nullable = false, length = 20)
     private String schoolYear;
+
+    @Column(nullable = false)
+    private boolean archived;
     
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id", nullable = false)
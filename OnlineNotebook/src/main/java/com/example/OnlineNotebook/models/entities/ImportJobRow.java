@@ -0,0 +1,39 @@
+package com.example.OnlineNotebook.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "import_job_row",
+        indexes = @Index(name = "idx_import_job_row_job_row", columnList = "jobId, rowNumber", unique = true))
+public class ImportJobRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID jobId;
+
+    private int rowNumber;
+
+    @Column(length = 4000)
+    private String payload;
+
+    private String email;
+
+    private boolean processed;
+
+    private boolean success;
+
+    @Column(length = 500)
+    private String message;
+
+    private UUID userId;
+}
@@ -0,0 +1,40 @@
+package com.example.OnlineNotebook.models.entities;
+
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 150)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BatchJobStatus status;
+
+    private String cursor;
+
+    private long chunksCompleted;
+
+    private long itemsProcessed;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String failure;
+}
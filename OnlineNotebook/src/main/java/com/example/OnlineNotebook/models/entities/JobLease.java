@@ -0,0 +1,27 @@
+package com.example.OnlineNotebook.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_lease")
+public class JobLease {
+
+    @Id
+    @Column(length = 150)
+    private String name;
+
+    @Column(length = 150)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+
+    private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,41 @@
+package com.example.OnlineNotebook.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "http_session", indexes = {
+        @Index(name = "idx_http_session_expires_at", columnList = "expiresAt"),
+        @Index(name = "idx_http_session_principal", columnList = "principalId")
+})
+public class StoredSession {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    private UUID principalId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastAccessedAt;
+
+    @Column(nullable = false)
+    private int maxInactiveSeconds;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Lob
+    @Column(length = 65535)
+    private byte[] attributes;
+}
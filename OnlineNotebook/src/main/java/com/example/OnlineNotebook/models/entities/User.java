@@ -1,8 +1,12 @@
 package com.example.OnlineNotebook.models.entities;
 
 import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.services.EmailIndexListener;
+import com.example.OnlineNotebook.services.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -12,7 +16,14 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_users_type_created_at_id", columnList = "userType, createdAt, id"),
+        @Index(name = "idx_users_course_created_at_id", columnList = "course_id, createdAt, id")
+})
+@EntityListeners({EmailIndexListener.class, SearchIndexListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity.user")
 public class User {
 
     @Id
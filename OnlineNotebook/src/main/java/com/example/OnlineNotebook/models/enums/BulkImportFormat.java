@@ -0,0 +1,26 @@
+package com.example.OnlineNotebook.models.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BulkImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    BulkImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static BulkImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            for (BulkImportFormat format : values()) {
+                if (contentType.toLowerCase().startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+}
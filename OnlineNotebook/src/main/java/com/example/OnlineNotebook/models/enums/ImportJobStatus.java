@@ -0,0 +1,8 @@
+package com.example.OnlineNotebook.models.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
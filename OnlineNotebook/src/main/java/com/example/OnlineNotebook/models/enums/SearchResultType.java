@@ -0,0 +1,7 @@
+package com.example.OnlineNotebook.models.enums;
+
+public enum SearchResultType {
+    USER,
+    COURSE,
+    ASSIGNMENT
+}
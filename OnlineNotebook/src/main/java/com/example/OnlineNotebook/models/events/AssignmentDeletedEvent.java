@@ -0,0 +1,6 @@
+package com.example.OnlineNotebook.models.events;
+
+import java.util.UUID;
+
+public record AssignmentDeletedEvent(UUID assignmentId, UUID teacherId) {
+}
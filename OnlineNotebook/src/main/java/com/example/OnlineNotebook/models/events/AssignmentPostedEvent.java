@@ -0,0 +1,6 @@
+package com.example.OnlineNotebook.models.events;
+
+import java.util.UUID;
+
+public record AssignmentPostedEvent(UUID assignmentId, UUID teacherId) {
+}
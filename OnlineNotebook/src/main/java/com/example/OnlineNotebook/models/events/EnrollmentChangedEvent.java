@@ -0,0 +1,7 @@
+package com.example.OnlineNotebook.models.events;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record EnrollmentChangedEvent(Set<UUID> studentIds, Set<UUID> courseIds) {
+}
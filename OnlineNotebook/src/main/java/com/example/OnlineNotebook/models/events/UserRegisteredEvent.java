@@ -0,0 +1,8 @@
+package com.example.OnlineNotebook.models.events;
+
+import com.example.OnlineNotebook.models.enums.UserType;
+
+import java.util.UUID;
+
+public record UserRegisteredEvent(UUID userId, UserType userType, UUID courseId) {
+}
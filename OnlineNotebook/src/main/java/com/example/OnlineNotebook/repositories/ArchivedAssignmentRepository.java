@@ -0,0 +1,32 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.ArchivedAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedAssignmentRepository extends JpaRepository<ArchivedAssignment, UUID> {
+
+    @Query("select a from ArchivedAssignment a join fetch a.course " +
+            "where a.createdBy.id = :teacherId and a.schoolYear = :schoolYear order by a.dueDate desc")
+    List<ArchivedAssignment> findByCreatedByIdAndSchoolYear(@Param("teacherId") UUID teacherId,
+                                                            @Param("schoolYear") String schoolYear);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into assignment_archive (id, title, description, type, due_date, assigned_date, status, " +
+            "created_by_id, course_id, school_year, archived_at) " +
+            "select a.id, a.title, a.description, a.type, a.due_date, a.assigned_date, a.status, a.created_by_id, " +
+            "a.course_id, c.school_year, :archivedAt from assignment a join courses c on c.id = a.course_id " +
+            "where a.id in :ids", nativeQuery = true)
+    int copyFromAssignments(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
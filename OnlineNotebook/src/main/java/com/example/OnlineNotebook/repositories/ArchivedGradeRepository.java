@@ -0,0 +1,36 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.ArchivedGrade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedGradeRepository extends JpaRepository<ArchivedGrade, UUID> {
+
+    @Query("select g from ArchivedGrade g join fetch g.gradedBy " +
+            "where g.student.id = :studentId and g.schoolYear = :schoolYear order by g.dateGraded desc")
+    List<ArchivedGrade> findByStudentIdAndSchoolYear(@Param("studentId") UUID studentId,
+                                                    @Param("schoolYear") String schoolYear);
+
+    @Query("select distinct g.schoolYear from ArchivedGrade g where g.student.id = :studentId order by g.schoolYear desc")
+    List<String> findSchoolYearsByStudentId(@Param("studentId") UUID studentId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into grade_archive (id, student_id, subject_type, grade_letter, feedback, grade_type, " +
+            "graded_by_id, date_graded, school_year, archived_at) " +
+            "select id, student_id, subject_type, grade_letter, feedback, grade_type, graded_by_id, date_graded, " +
+            ":schoolYear, :archivedAt from grade where id in :ids", nativeQuery = true)
+    int copyFromGrades(@Param("ids") Collection<UUID> ids,
+                       @Param("schoolYear") String schoolYear,
+                       @Param("archivedAt") LocalDateTime archivedAt);
+}
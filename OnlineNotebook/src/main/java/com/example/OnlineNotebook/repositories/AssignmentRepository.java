@@ -3,16 +3,92 @@ package com.example.OnlineNotebook.repositories;
 import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
-import org.springframework.cache.annotation.Cacheable;
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, UUID> {
-    @Cacheable(value = "assignments", key = "#course.id")
     List<Assignment> findByCourse(Course course);
+    List<Assignment> findByCourseId(UUID courseId);
     List<Assignment> findByCreatedByOrderByAssignedDateDesc(User createdBy);
+
+    @Query("select a from Assignment a join fetch a.course join fetch a.createdBy")
+    List<Assignment> findAllWithCourseAndCreator();
+
+    @Query("select a.id as id, a.course.id as courseId from Assignment a " +
+            "where a.status is null and a.dueDate < :now and a.id > :afterId order by a.id")
+    List<OverdueAssignment> findOverdue(@Param("now") LocalDateTime now,
+                                        @Param("afterId") UUID afterId,
+                                        Pageable pageable);
+
+    @Query("select a.id as id, a.course.id as courseId from Assignment a " +
+            "where a.status is null and a.dueDate < :now and a.course.id in :courseIds and a.id > :afterId order by a.id")
+    List<OverdueAssignment> findOverdueInCourses(@Param("now") LocalDateTime now,
+                                                 @Param("courseIds") Collection<UUID> courseIds,
+                                                 @Param("afterId") UUID afterId,
+                                                 Pageable pageable);
+
+    @Query("select a.id as id, a.course.id as courseId, a.dueDate as dueDate from Assignment a " +
+            "where a.status is null and a.dueDate >= :from and a.dueDate < :to")
+    List<PendingDeadline> findPendingDeadlines(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Transactional
+    @Modifying
+    @Query("update Assignment a set a.status = :status where a.id in :ids and a.status is null")
+    int updateStatusWhereStatusIsNull(@Param("ids") Collection<UUID> ids, @Param("status") AssignmentStatus status);
+
+    long countByCourseSchoolYear(String schoolYear);
+
+    @Query("select a.id from Assignment a where a.course.schoolYear = :schoolYear and a.id > :afterId order by a.id")
+    List<UUID> findIdsBySchoolYear(@Param("schoolYear") String schoolYear,
+                                   @Param("afterId") UUID afterId,
+                                   Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Assignment a where a.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select a.createdBy.id as teacherId, count(a) as total from Assignment a group by a.createdBy.id")
+    List<TeacherCount> countByTeacher();
+
+    @Query("select a.id as id, a.title as title, a.description as description, c.id as courseId, " +
+            "c.name as courseName, a.createdBy.id as teacherId from Assignment a join a.course c")
+    List<AssignmentSearchRow> findSearchRows();
+
+    interface OverdueAssignment {
+        UUID getId();
+        UUID getCourseId();
+    }
+
+    interface PendingDeadline {
+        UUID getId();
+        UUID getCourseId();
+        LocalDateTime getDueDate();
+    }
+
+    interface TeacherCount {
+        UUID getTeacherId();
+        long getTotal();
+    }
+
+    interface AssignmentSearchRow {
+        UUID getId();
+        String getTitle();
+        String getDescription();
+        UUID getCourseId();
+        String getCourseName();
+        UUID getTeacherId();
+    }
 }
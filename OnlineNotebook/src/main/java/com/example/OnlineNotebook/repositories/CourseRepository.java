@@ -2,14 +2,73 @@ package com.example.OnlineNotebook.repositories;
 
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
-    Course findByName(String studentClass);
-    List<Course> findByTeacher(User teacher);
+    @Query("select c from Course c where c.name = :name and c.archived = false and c.schoolYear = " +
+            "(select max(newest.schoolYear) from Course newest where newest.name = c.name and newest.archived = false)")
+    Course findByName(@Param("name") String studentClass);
+
+    @Query("select c from Course c where c.teacher = :teacher and c.archived = false")
+    List<Course> findByTeacher(@Param("teacher") User teacher);
+
+    @Query("select c from Course c where c.name in :names and c.archived = false and c.schoolYear = " +
+            "(select max(newest.schoolYear) from Course newest where newest.name = c.name and newest.archived = false)")
+    List<Course> findByNameIn(@Param("names") Collection<String> names);
+
+    long countByArchivedFalse();
+
+    Optional<Course> findFirstByNameAndSchoolYearAndArchivedFalse(String name, String schoolYear);
+
+    @Query("select c from Course c where c.schoolYear = :schoolYear and c.archived = false order by c.name")
+    List<Course> findActiveBySchoolYear(@Param("schoolYear") String schoolYear);
+
+    @Query("select c from Course c where c.schoolYear = :schoolYear and c.archived = false and c.id > :afterId order by c.id")
+    List<Course> findActiveBySchoolYearAfter(@Param("schoolYear") String schoolYear,
+                                             @Param("afterId") UUID afterId,
+                                             Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update Course c set c.archived = true, c.updatedAt = :now where c.schoolYear = :schoolYear and c.archived = false")
+    int archiveSchoolYear(@Param("schoolYear") String schoolYear, @Param("now") LocalDateTime now);
+
+    @Query("select distinct c from Course c left join fetch c.subjects where c.archived = false")
+    List<Course> findAllWithSubjects();
+
+    @Query("select c.id from Course c where c.archived = false")
+    List<UUID> findAllIds();
+
+    @Query("select c.id as id, t.id as teacherId from Course c left join c.teacher t where c.archived = false")
+    List<CourseOwner> findAllOwners();
+
+    @Query("select c.id as id, c.name as name, c.description as description, c.schoolYear as schoolYear, " +
+            "t.id as teacherId from Course c left join c.teacher t where c.archived = false")
+    List<CourseSearchRow> findSearchRows();
+
+    interface CourseOwner {
+        UUID getId();
+        UUID getTeacherId();
+    }
+
+    interface CourseSearchRow {
+        UUID getId();
+        String getName();
+        String getDescription();
+        String getSchoolYear();
+        UUID getTeacherId();
+    }
 }
@@ -3,9 +3,16 @@ package com.example.OnlineNotebook.repositories;
 import com.example.OnlineNotebook.models.entities.Grade;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.SubjectType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,5 +20,38 @@ import java.util.UUID;
 @Repository
 public interface GradeRepository extends JpaRepository<Grade, UUID> {
     List<Grade> findByStudent(User student);
+    List<Grade> findByStudentId(UUID studentId);
     Optional<Grade> findByStudentAndSubjectType(User student, SubjectType subjectType);
+
+    @Query("select g.student.id from Grade g group by g.student.id order by count(g) desc")
+    List<UUID> findMostGradedStudentIds(Pageable pageable);
+
+    long countByDateGradedBefore(LocalDateTime cutoff);
+
+    @Query("select g.id from Grade g where g.dateGraded < :cutoff and g.id > :afterId order by g.id")
+    List<UUID> findIdsGradedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                   @Param("afterId") UUID afterId,
+                                   Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Grade g where g.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select g from Grade g join fetch g.gradedBy where g.student.id = :studentId order by g.dateGraded desc")
+    List<Grade> findByStudentIdWithGradedBy(@Param("studentId") UUID studentId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Grade g where g.id = :gradeId and (g.gradedBy.id = :teacherId " +
+            "or g.student.id in (select s.id from User s join s.course c where c.teacher.id = :teacherId))")
+    int deleteOwnedByTeacher(@Param("gradeId") UUID gradeId, @Param("teacherId") UUID teacherId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Grade g set g.feedback = :feedback where g.id = :gradeId and (g.gradedBy.id = :teacherId " +
+            "or g.student.id in (select s.id from User s join s.course c where c.teacher.id = :teacherId))")
+    int updateFeedbackOwnedByTeacher(@Param("gradeId") UUID gradeId,
+                                     @Param("teacherId") UUID teacherId,
+                                     @Param("feedback") String feedback);
 }
@@ -0,0 +1,29 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.ImportJob;
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+    List<ImportJob> findByStatusIn(Collection<ImportJobStatus> statuses);
+
+    List<ImportJob> findTop20ByOrderByCreatedAtDesc();
+
+    @Transactional
+    @Modifying
+    @Query("update ImportJob j set j.processedRows = j.processedRows + :succeeded + :failed, " +
+            "j.succeeded = j.succeeded + :succeeded, j.failed = j.failed + :failed, j.updatedAt = :now where j.id = :id")
+    int addProgress(@Param("id") UUID id, @Param("succeeded") int succeeded, @Param("failed") int failed,
+                    @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.ImportJobRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ImportJobRowRepository extends JpaRepository<ImportJobRow, UUID> {
+    List<ImportJobRow> findByJobIdAndProcessedFalseAndRowNumberGreaterThanOrderByRowNumber(UUID jobId, int rowNumber, Pageable pageable);
+
+    List<ImportJobRow> findByJobIdAndProcessedTrueAndSuccessFalseOrderByRowNumber(UUID jobId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update ImportJobRow r set r.payload = null where r.jobId = :jobId and r.payload is not null")
+    int clearPayloads(@Param("jobId") UUID jobId);
+}
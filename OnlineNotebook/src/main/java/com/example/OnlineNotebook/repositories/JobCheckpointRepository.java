@@ -0,0 +1,33 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+    List<JobCheckpoint> findAllByOrderByNameAsc();
+
+    @Query("select max(c.updatedAt) from JobCheckpoint c where c.name like concat(:prefix, '%')")
+    LocalDateTime findLastUpdatedAt(@Param("prefix") String prefix);
+
+    @Transactional
+    @Modifying
+    @Query("update JobCheckpoint c set c.cursor = :cursor, c.chunksCompleted = :chunksCompleted, " +
+            "c.itemsProcessed = :itemsProcessed, c.updatedAt = :now " +
+            "where c.name = :name and c.chunksCompleted < :chunksCompleted")
+    int advance(@Param("name") String name, @Param("cursor") String cursor, @Param("chunksCompleted") long chunksCompleted,
+                @Param("itemsProcessed") long itemsProcessed, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update JobCheckpoint c set c.updatedAt = :now where c.name = :name")
+    int touch(@Param("name") String name, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    @Transactional
+    @Modifying
+    @Query("insert into JobLease (name, leasedUntil) values (:name, :leasedUntil)")
+    int create(@Param("name") String name, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.acquiredAt = :now, l.leasedUntil = :until " +
+            "where l.name = :name and l.leasedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.leasedUntil = :until where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,33 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.entities.StoredSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoredSessionRepository extends JpaRepository<StoredSession, String> {
+
+    @Transactional
+    @Modifying
+    @Query("update StoredSession s set s.lastAccessedAt = :lastAccessedAt, s.expiresAt = :expiresAt where s.id = :id")
+    int touch(@Param("id") String id,
+              @Param("lastAccessedAt") LocalDateTime lastAccessedAt,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("select s.id from StoredSession s where s.expiresAt <= :now order by s.expiresAt")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from StoredSession s where s.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -3,20 +3,127 @@ package com.example.OnlineNotebook.repositories;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
     boolean existsByEmail(String email);
 
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select u.email from User u where u.email > :after order by u.email")
+    List<String> findEmailsAfter(@Param("after") String after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "course")
     Optional<User> findByEmail(String email);
     
     List<User> findByUserType(UserType userType);
+
+    long countByUserType(UserType userType);
+
+    @Query("select u.course.id as courseId, count(u) as total from User u " +
+            "where u.userType = :userType and u.course is not null group by u.course.id")
+    List<CourseCount> countByCourseAndUserType(@Param("userType") UserType userType);
     
     List<User> findByCourse(Course course);
+
+    List<User> findByUserTypeAndCourseIsNotNull(UserType userType);
+
+    List<User> findByCourseIdAndUserType(UUID courseId, UserType userType);
+
+    @Query("select u.id from User u where u.course.id in :courseIds and u.userType = :userType")
+    List<UUID> findIdsByCourseIdInAndUserType(@Param("courseIds") Collection<UUID> courseIds, @Param("userType") UserType userType);
+
+    @Query("select u.id as id, u.firstName as firstName, u.lastName as lastName, u.email as email, " +
+            "u.userType as userType, c.id as courseId from User u left join u.course c")
+    List<UserSearchRow> findSearchRows();
+
+    @Query("select u.id as id, u.firstName as firstName, u.lastName as lastName, u.email as email, " +
+            "u.userType as userType, c.id as courseId from User u left join u.course c where u.id in :ids")
+    List<UserSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct u.course.id from User u where u.id in :ids and u.userType = :userType and u.course is not null")
+    List<UUID> findCourseIdsByIdInAndUserType(@Param("ids") Collection<UUID> ids, @Param("userType") UserType userType);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.course = :course, u.studentClass = :studentClass, u.updatedAt = :now " +
+            "where u.id in :ids and u.userType = :userType and u.course is null")
+    int assignCourseWhereCourseIsNull(@Param("ids") Collection<UUID> ids,
+                                      @Param("userType") UserType userType,
+                                      @Param("course") Course course,
+                                      @Param("studentClass") String studentClass,
+                                      @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.course = :course, u.studentClass = :studentClass, u.updatedAt = :now " +
+            "where u.id in :ids and u.userType = :userType and (u.course is null or u.course <> :course)")
+    int assignCourse(@Param("ids") Collection<UUID> ids,
+                     @Param("userType") UserType userType,
+                     @Param("course") Course course,
+                     @Param("studentClass") String studentClass,
+                     @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.course = :target, u.studentClass = :studentClass, u.updatedAt = :now " +
+            "where u.course = :source and u.userType = :userType")
+    int moveCourse(@Param("source") Course source,
+                   @Param("target") Course target,
+                   @Param("studentClass") String studentClass,
+                   @Param("userType") UserType userType,
+                   @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.course = null, u.studentClass = null, u.updatedAt = :now " +
+            "where u.course = :source and u.userType = :userType")
+    int clearCourseFor(@Param("source") Course source,
+                       @Param("userType") UserType userType,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.course = null, u.studentClass = null, u.updatedAt = :now " +
+            "where u.id in :ids and u.userType = :userType and u.course is not null")
+    int clearCourse(@Param("ids") Collection<UUID> ids,
+                    @Param("userType") UserType userType,
+                    @Param("now") LocalDateTime now);
+
+    @Query("select c.id as courseId, c.teacher.id as teacherId from User u left join u.course c where u.id = :id")
+    Optional<CourseOwner> findCourseOwnerById(@Param("id") UUID id);
+
+    interface CourseCount {
+        UUID getCourseId();
+        long getTotal();
+    }
+
+    interface CourseOwner {
+        UUID getCourseId();
+        UUID getTeacherId();
+    }
+
+    interface UserSearchRow {
+        UUID getId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        UserType getUserType();
+        UUID getCourseId();
+    }
 }
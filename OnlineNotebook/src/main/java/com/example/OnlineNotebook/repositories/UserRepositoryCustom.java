@@ -0,0 +1,13 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
+import com.example.OnlineNotebook.models.enums.UserType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserRepositoryCustom {
+    List<AdminUserRow> findAdminUserRows(UserType userType, UUID courseId,
+                                         LocalDateTime beforeCreatedAt, UUID beforeId, int limit);
+}
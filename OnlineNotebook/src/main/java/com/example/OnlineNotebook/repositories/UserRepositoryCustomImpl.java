@@ -0,0 +1,53 @@
+package com.example.OnlineNotebook.repositories;
+
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
+import com.example.OnlineNotebook.models.enums.UserType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AdminUserRow> findAdminUserRows(UserType userType, UUID courseId,
+                                                LocalDateTime beforeCreatedAt, UUID beforeId, int limit) {
+        StringBuilder jpql = new StringBuilder("select new com.example.OnlineNotebook.models.dtos.admin.AdminUserRow(" +
+                "u.id, u.firstName, u.lastName, u.email, u.userType, c.id, c.name, u.createdAt) " +
+                "from User u left join u.course c");
+        List<String> conditions = new ArrayList<>();
+        if (userType != null) {
+            conditions.add("u.userType = :userType");
+        }
+        if (courseId != null) {
+            conditions.add("u.course.id = :courseId");
+        }
+        if (beforeCreatedAt != null) {
+            conditions.add("(u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id))");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by u.createdAt desc, u.id desc");
+
+        TypedQuery<AdminUserRow> query = entityManager.createQuery(jpql.toString(), AdminUserRow.class);
+        if (userType != null) {
+            query.setParameter("userType", userType);
+        }
+        if (courseId != null) {
+            query.setParameter("courseId", courseId);
+        }
+        if (beforeCreatedAt != null) {
+            query.setParameter("createdAt", beforeCreatedAt);
+            query.setParameter("id", beforeId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.OnlineNotebook.security;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.services.LoginRateLimitService;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+public class RateLimitedAuthenticationProvider implements AuthenticationProvider {
+    private final AuthenticationProvider delegate;
+    private final LoginRateLimitService loginRateLimitService;
+
+    public RateLimitedAuthenticationProvider(AuthenticationProvider delegate, LoginRateLimitService loginRateLimitService) {
+        this.delegate = delegate;
+        this.loginRateLimitService = loginRateLimitService;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String address = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+        try {
+            loginRateLimitService.acquire(authentication.getName(), address);
+            Authentication result = delegate.authenticate(authentication);
+            loginRateLimitService.onSuccess(authentication.getName());
+            return result;
+        } catch (TooManyRequestsException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        } catch (AuthenticationException e) {
+            loginRateLimitService.onFailure(address);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
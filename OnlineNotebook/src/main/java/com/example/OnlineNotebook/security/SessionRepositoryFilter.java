@@ -0,0 +1,257 @@
+package com.example.OnlineNotebook.security;
+
+import com.example.OnlineNotebook.services.session.PersistentSession;
+import com.example.OnlineNotebook.services.session.SessionAttributeCodec;
+import com.example.OnlineNotebook.services.session.SessionRecord;
+import com.example.OnlineNotebook.services.session.SessionRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+@Slf4j
+public class SessionRepositoryFilter extends OncePerRequestFilter {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SessionRepository sessionRepository;
+    private final SessionAttributeCodec codec;
+    private final Duration timeout;
+    private final Duration touchInterval;
+    private final String cookieName;
+
+    public SessionRepositoryFilter(SessionRepository sessionRepository, SessionAttributeCodec codec,
+                                   Duration timeout, Duration touchInterval, String cookieName) {
+        this.sessionRepository = sessionRepository;
+        this.codec = codec;
+        this.timeout = timeout;
+        this.touchInterval = touchInterval;
+        this.cookieName = cookieName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SessionRequestWrapper sessionRequest = new SessionRequestWrapper(request, response);
+        SessionResponseWrapper sessionResponse = new SessionResponseWrapper(response, sessionRequest);
+        try {
+            filterChain.doFilter(sessionRequest, sessionResponse);
+        } finally {
+            sessionRequest.commit();
+        }
+    }
+
+    private static String generateId() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private final class SessionRequestWrapper extends HttpServletRequestWrapper {
+        private final HttpServletResponse response;
+        private final String requestedSessionId;
+        private boolean requestedSessionResolved;
+        private PersistentSession requestedSession;
+        private PersistentSession session;
+        private String storedId;
+        private byte[] storedAttributes;
+        private Duration storedMaxInactiveInterval;
+        private LocalDateTime storedLastAccessedAt;
+
+        private SessionRequestWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(request);
+            this.response = response;
+            this.requestedSessionId = readCookie(request);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (session != null && !session.isInvalidated()) {
+                return session;
+            }
+            if (session == null) {
+                PersistentSession requested = resolveRequestedSession();
+                if (requested != null) {
+                    session = requested;
+                    return session;
+                }
+            }
+            if (!create) {
+                return null;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            session = new PersistentSession(getServletContext(), generateId(), now, now, timeout, Map.of(), true);
+            return session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            HttpSession current = getSession(false);
+            if (current == null) {
+                throw new IllegalStateException("Cannot change the session id when there is no session");
+            }
+            String newId = generateId();
+            session.changeId(newId);
+            return newId;
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            return requestedSessionId;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            PersistentSession requested = resolveRequestedSession();
+            return requested != null && !requested.isInvalidated();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return requestedSessionId != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return false;
+        }
+
+        private PersistentSession resolveRequestedSession() {
+            if (requestedSessionResolved) {
+                return requestedSession;
+            }
+            requestedSessionResolved = true;
+            if (requestedSessionId == null) {
+                return null;
+            }
+            SessionRecord stored = sessionRepository.find(requestedSessionId);
+            if (stored == null) {
+                return null;
+            }
+            requestedSession = new PersistentSession(getServletContext(), stored.id(), stored.createdAt(), LocalDateTime.now(),
+                    stored.maxInactiveInterval(), codec.decode(stored.attributes()), false);
+            storedId = stored.id();
+            storedAttributes = stored.attributes();
+            storedMaxInactiveInterval = stored.maxInactiveInterval();
+            storedLastAccessedAt = stored.lastAccessedAt();
+            return requestedSession;
+        }
+
+        private void commit() {
+            if (session == null) {
+                if (requestedSessionId != null && resolveRequestedSession() == null) {
+                    writeCookie("", Duration.ZERO);
+                }
+                return;
+            }
+            if (session.isInvalidated()) {
+                if (storedId != null) {
+                    sessionRepository.delete(storedId);
+                    storedId = null;
+                }
+                writeCookie("", Duration.ZERO);
+                session = null;
+                return;
+            }
+
+            boolean idChanged = !session.getId().equals(storedId);
+            byte[] attributes = codec.encode(session.getAttributes());
+            if (idChanged || !Arrays.equals(attributes, storedAttributes)
+                    || !session.getMaxInactiveDuration().equals(storedMaxInactiveInterval)) {
+                sessionRepository.save(new SessionRecord(session.getId(), codec.principalId(session.getAttributes()),
+                        session.getCreatedAt(), session.getLastAccessedAt(), session.getMaxInactiveDuration(), attributes));
+                if (idChanged && storedId != null) {
+                    sessionRepository.delete(storedId);
+                }
+                if (idChanged) {
+                    writeCookie(session.getId(), null);
+                }
+                storedId = session.getId();
+                storedAttributes = attributes;
+                storedMaxInactiveInterval = session.getMaxInactiveDuration();
+                storedLastAccessedAt = session.getLastAccessedAt();
+            } else if (!storedLastAccessedAt.plus(touchInterval).isAfter(session.getLastAccessedAt())) {
+                sessionRepository.touch(storedId, session.getLastAccessedAt(),
+                        session.getLastAccessedAt().plus(session.getMaxInactiveDuration()));
+                storedLastAccessedAt = session.getLastAccessedAt();
+            }
+        }
+
+        private void writeCookie(String value, Duration maxAge) {
+            if (response.isCommitted()) {
+                log.debug("Response already committed, session cookie for {} not written", getRequestURI());
+                return;
+            }
+            ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(cookieName, value)
+                    .path(getContextPath().isEmpty() ? "/" : getContextPath())
+                    .httpOnly(true)
+                    .secure(isSecure())
+                    .sameSite("Lax");
+            if (maxAge != null) {
+                cookie.maxAge(maxAge);
+            }
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+        }
+
+        private String readCookie(HttpServletRequest request) {
+            Cookie[] cookies = request.getCookies();
+            if (cookies == null) {
+                return null;
+            }
+            for (Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                    return cookie.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class SessionResponseWrapper extends HttpServletResponseWrapper {
+        private final SessionRequestWrapper request;
+
+        private SessionResponseWrapper(HttpServletResponse response, SessionRequestWrapper request) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            request.commit();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            request.commit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            request.commit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            request.commit();
+            super.flushBuffer();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.OnlineNotebook.security;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
 import com.example.OnlineNotebook.models.enums.UserType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ public class UserData implements UserDetails {
     private String email;
     private String password;
     private UserType userType;
+    private CurrentUserSnapshot profile;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
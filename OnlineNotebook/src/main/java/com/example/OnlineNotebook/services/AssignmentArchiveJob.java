@@ -0,0 +1,63 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.repositories.ArchivedAssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssignmentArchiveJob implements BatchJob<UUID> {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final String name;
+    private final int chunkSize;
+    private final String schoolYear;
+    private final AssignmentRepository assignmentRepository;
+    private final ArchivedAssignmentRepository archivedAssignmentRepository;
+    private final AtomicInteger archived = new AtomicInteger();
+
+    public AssignmentArchiveJob(String name, int chunkSize, String schoolYear,
+                                AssignmentRepository assignmentRepository, ArchivedAssignmentRepository archivedAssignmentRepository) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.schoolYear = schoolYear;
+        this.assignmentRepository = assignmentRepository;
+        this.archivedAssignmentRepository = archivedAssignmentRepository;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<UUID> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        UUID afterId = afterCursor != null ? UUID.fromString(afterCursor) : FIRST_ID;
+        return assignmentRepository.findIdsBySchoolYear(schoolYear, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public String cursorOf(UUID item) {
+        return item.toString();
+    }
+
+    @Override
+    public void processChunk(BatchRun run, List<UUID> chunk) {
+        archivedAssignmentRepository.copyFromAssignments(chunk, LocalDateTime.now());
+        archived.addAndGet(assignmentRepository.deleteByIdIn(chunk));
+    }
+
+    public int getArchived() {
+        return archived.get();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository.PendingDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+@Slf4j
+@Service
+public class AssignmentDeadlineService {
+    private final AssignmentRepository assignmentRepository;
+    private final AssignmentSchedulerService assignmentSchedulerService;
+    private final TaskScheduler taskScheduler;
+    private final int horizonDays;
+
+    private final Map<LocalDateTime, Map<UUID, UUID>> pendingByDueDate = new HashMap<>();
+    private final Map<LocalDateTime, ScheduledFuture<?>> timers = new HashMap<>();
+    private final Map<UUID, LocalDateTime> dueDates = new HashMap<>();
+
+    public AssignmentDeadlineService(AssignmentRepository assignmentRepository,
+                                     AssignmentSchedulerService assignmentSchedulerService,
+                                     TaskScheduler taskScheduler,
+                                     @Value("${assignments.deadlines.horizon-days:7}") int horizonDays) {
+        this.assignmentRepository = assignmentRepository;
+        this.assignmentSchedulerService = assignmentSchedulerService;
+        this.taskScheduler = taskScheduler;
+        this.horizonDays = horizonDays;
+    }
+
+    public void loadUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingDeadline> upcoming = assignmentRepository.findPendingDeadlines(now.toLocalDate().atStartOfDay(), now.plusDays(horizonDays));
+        for (PendingDeadline deadline : upcoming) {
+            schedule(deadline.getId(), deadline.getCourseId(), deadline.getDueDate());
+        }
+        log.info("Loaded {} assignment deadlines due in the next {} days", upcoming.size(), horizonDays);
+    }
+
+    public synchronized void schedule(UUID assignmentId, UUID courseId, LocalDateTime dueDate) {
+        cancel(assignmentId);
+        if (dueDate.isAfter(LocalDateTime.now().plusDays(horizonDays))) {
+            return;
+        }
+        LocalDateTime deadline = deadlineOf(dueDate);
+        pendingByDueDate.computeIfAbsent(deadline, due -> {
+            timers.put(due, taskScheduler.schedule(() -> fire(due), due.atZone(ZoneId.systemDefault()).toInstant()));
+            return new HashMap<>();
+        }).put(assignmentId, courseId);
+        dueDates.put(assignmentId, deadline);
+    }
+
+    public synchronized void cancel(UUID assignmentId) {
+        LocalDateTime dueDate = dueDates.remove(assignmentId);
+        if (dueDate == null) {
+            return;
+        }
+        Map<UUID, UUID> pending = pendingByDueDate.get(dueDate);
+        pending.remove(assignmentId);
+        if (pending.isEmpty()) {
+            pendingByDueDate.remove(dueDate);
+            timers.remove(dueDate).cancel(false);
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return dueDates.size();
+    }
+
+    // Due dates are whole days, so an assignment is only missed once its due day is over.
+    private static LocalDateTime deadlineOf(LocalDateTime dueDate) {
+        return dueDate.toLocalDate().plusDays(1).atStartOfDay();
+    }
+
+    private void fire(LocalDateTime dueDate) {
+        Map<UUID, UUID> due;
+        synchronized (this) {
+            timers.remove(dueDate);
+            due = pendingByDueDate.remove(dueDate);
+            if (due == null) {
+                return;
+            }
+            due.keySet().forEach(dueDates::remove);
+        }
+        try {
+            int updated = assignmentRepository.updateStatusWhereStatusIsNull(due.keySet(), AssignmentStatus.MISSED);
+            // Every node fires the same timer but only the first one updates rows, so all of them evict.
+            assignmentSchedulerService.evictCourseCaches(new HashSet<>(due.values()));
+            log.info("Marked {} assignments due before {} as missed", updated, dueDate);
+        } catch (Exception e) {
+            log.warn("Failed to mark assignments due at {} as missed, nightly job will retry", dueDate, e);
+        }
+    }
+}
@@ -1,41 +1,131 @@
 package com.example.OnlineNotebook.services;
 
-import com.example.OnlineNotebook.models.entities.Assignment;
-import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
+@Slf4j
 @Service
 public class AssignmentSchedulerService {
-    
+    public static final String STATUS_UPDATE_JOB = "assignment-status-update";
+
     private final AssignmentRepository assignmentRepository;
-    
-    public AssignmentSchedulerService(AssignmentRepository assignmentRepository) {
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final CacheManager cacheManager;
+    private final JobLeaseService jobLeaseService;
+    private final BatchJobService batchJobService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final int chunkSize;
+    private final int partitions;
+    private volatile LocalDateTime lastSeenStatusUpdate;
+    private volatile boolean statusUpdateSeen;
+
+    public AssignmentSchedulerService(AssignmentRepository assignmentRepository,
+                                      UserRepository userRepository,
+                                      CourseRepository courseRepository,
+                                      CacheManager cacheManager,
+                                      JobLeaseService jobLeaseService,
+                                      BatchJobService batchJobService,
+                                      JobCheckpointRepository jobCheckpointRepository,
+                                      @Value("${assignments.status-update.chunk-size:1000}") int chunkSize,
+                                      @Value("${assignments.status-update.partitions:4}") int partitions) {
         this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.cacheManager = cacheManager;
+        this.jobLeaseService = jobLeaseService;
+        this.batchJobService = batchJobService;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.chunkSize = chunkSize;
+        this.partitions = partitions;
     }
-    
+
     @Scheduled(cron = "0 0 0 * * ?")
-    @CacheEvict(value = {"assignments", "studentHome"}, allEntries = true)
-    public void updateAssignmentStatuses() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Assignment> assignments = assignmentRepository.findAll();
-        
-        for (Assignment assignment : assignments) {
-            if (assignment.getStatus() == null && assignment.getDueDate().isBefore(now)) {
-                assignment.setStatus(AssignmentStatus.MISSED);
-                assignmentRepository.save(assignment);
-            }
+    public void runStatusUpdate() {
+        jobLeaseService.runPartitioned(STATUS_UPDATE_JOB, partitions, this::updateAssignmentStatuses);
+    }
+
+    public Set<UUID> updateAssignmentStatuses() {
+        return runStatusJob(STATUS_UPDATE_JOB, null);
+    }
+
+    public Set<UUID> updateAssignmentStatuses(int partition) {
+        List<UUID> courseIds = courseRepository.findAllIds().stream()
+                .filter(courseId -> JobLeaseService.partitionOf(courseId, partitions) == partition)
+                .toList();
+        if (courseIds.isEmpty()) {
+            return Set.of();
         }
+        return runStatusJob(STATUS_UPDATE_JOB + "-" + partition + "-of-" + partitions, courseIds);
+    }
+
+    private Set<UUID> runStatusJob(String name, List<UUID> courseIds) {
+        AssignmentStatusJob job = new AssignmentStatusJob(name, chunkSize, courseIds, assignmentRepository);
+        BatchJobStatusDto status = batchJobService.run(job);
+        Set<UUID> affectedCourseIds = job.getAffectedCourseIds();
+        evictCourseCaches(affectedCourseIds);
+        log.info("Job {} {}: marked {} assignments as missed across {} courses",
+                name, status.getStatus(), job.getUpdated(), affectedCourseIds.size());
+        return affectedCourseIds;
     }
-    
+
     @Scheduled(fixedRate = 3600000)
     @CacheEvict(value = {"studentHome"}, allEntries = true)
     public void refreshStudentHomeCache() {
     }
-}
 
+    // Only lease holders run status updates, so every node clears its own caches when any partition commits progress.
+    @Scheduled(fixedDelayString = "${assignments.status-update.cache-sync-interval:PT1M}")
+    public void syncCachesWithStatusUpdates() {
+        LocalDateTime lastUpdated = jobCheckpointRepository.findLastUpdatedAt(STATUS_UPDATE_JOB);
+        if (!statusUpdateSeen) {
+            lastSeenStatusUpdate = lastUpdated;
+            statusUpdateSeen = true;
+            return;
+        }
+        if (Objects.equals(lastUpdated, lastSeenStatusUpdate)) {
+            return;
+        }
+        lastSeenStatusUpdate = lastUpdated;
+        for (String name : List.of("assignments", "studentHome")) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.info("Cleared assignment caches after status update progress at {}", lastUpdated);
+    }
+
+    public void evictCourseCaches(Collection<UUID> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        Cache assignments = cacheManager.getCache("assignments");
+        if (assignments != null) {
+            courseIds.forEach(assignments::evict);
+        }
+        Cache studentHome = cacheManager.getCache("studentHome");
+        if (studentHome != null) {
+            userRepository.findIdsByCourseIdInAndUserType(courseIds, UserType.STUDENT).forEach(studentHome::evict);
+        }
+    }
+}
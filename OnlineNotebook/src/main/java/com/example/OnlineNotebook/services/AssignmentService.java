@@ -0,0 +1,39 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.repositories.ArchivedAssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class AssignmentService {
+    private final AssignmentRepository assignmentRepository;
+    private final ArchivedAssignmentRepository archivedAssignmentRepository;
+
+    public AssignmentService(AssignmentRepository assignmentRepository,
+                             ArchivedAssignmentRepository archivedAssignmentRepository) {
+        this.assignmentRepository = assignmentRepository;
+        this.archivedAssignmentRepository = archivedAssignmentRepository;
+    }
+
+    @Cacheable(value = "assignments", key = "#courseId")
+    public List<AssignmentSnapshot> getAssignmentsByCourse(UUID courseId) {
+        return assignmentRepository.findByCourseId(courseId).stream()
+                .map(AssignmentSnapshot::from)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<AssignmentSnapshot> getArchivedAssignments(UUID teacherId, String schoolYear) {
+        if (schoolYear == null || schoolYear.isBlank()) {
+            throw new IllegalArgumentException("School year is required");
+        }
+        return archivedAssignmentRepository.findByCreatedByIdAndSchoolYear(teacherId, schoolYear).stream()
+                .map(AssignmentSnapshot::from)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
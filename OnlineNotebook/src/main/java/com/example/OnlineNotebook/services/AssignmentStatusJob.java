@@ -0,0 +1,82 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository.OverdueAssignment;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssignmentStatusJob implements BatchJob<OverdueAssignment> {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final String name;
+    private final int chunkSize;
+    private final Collection<UUID> courseIds;
+    private final AssignmentRepository assignmentRepository;
+    private final Set<UUID> affectedCourseIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger updated = new AtomicInteger();
+
+    public AssignmentStatusJob(String name, int chunkSize, Collection<UUID> courseIds,
+                               AssignmentRepository assignmentRepository) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.courseIds = courseIds;
+        this.assignmentRepository = assignmentRepository;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<OverdueAssignment> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        UUID afterId = afterCursor != null ? UUID.fromString(afterCursor) : FIRST_ID;
+        PageRequest page = PageRequest.of(0, chunkSize);
+        return courseIds == null
+                ? assignmentRepository.findOverdue(run.attemptedAt(), afterId, page)
+                : assignmentRepository.findOverdueInCourses(run.attemptedAt(), courseIds, afterId, page);
+    }
+
+    // The resumed cutoff is later than the original one, and rows already marked drop out of the query.
+    @Override
+    public boolean rescanOnResume() {
+        return true;
+    }
+
+    @Override
+    public String cursorOf(OverdueAssignment item) {
+        return item.getId().toString();
+    }
+
+    @Override
+    public void processChunk(BatchRun run, List<OverdueAssignment> chunk) {
+        int chunkUpdated = assignmentRepository.updateStatusWhereStatusIsNull(
+                chunk.stream().map(OverdueAssignment::getId).toList(), AssignmentStatus.MISSED);
+        if (chunkUpdated > 0) {
+            chunk.forEach(assignment -> affectedCourseIds.add(assignment.getCourseId()));
+        }
+        updated.addAndGet(chunkUpdated);
+    }
+
+    public Set<UUID> getAffectedCourseIds() {
+        return affectedCourseIds;
+    }
+
+    public int getUpdated() {
+        return updated.get();
+    }
+}
@@ -5,6 +5,8 @@ import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
 import com.example.OnlineNotebook.client.AttendanceStatus;
 import com.example.OnlineNotebook.client.service.AttendanceClientService;
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.attendance.TeacherAttendanceViewDto;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
@@ -30,27 +32,27 @@ public class AttendanceService {
     }
 
     public TeacherAttendanceViewDto buildAttendanceView(User teacher, UUID courseId, UUID studentId) {
-        List<Course> courses = courseService.getCoursesByTeacher(teacher);
+        List<CourseSnapshot> courses = courseService.getCoursesByTeacher(teacher);
 
-        Course selectedCourse = null;
+        CourseSnapshot selectedCourse = null;
         if (courseId != null) {
             selectedCourse = courses.stream()
-                    .filter(c -> c.getId().equals(courseId))
+                    .filter(c -> c.id().equals(courseId))
                     .findFirst()
                     .orElse(null);
         } else if (!courses.isEmpty()) {
             selectedCourse = courses.get(0);
         }
 
-        List<User> students = selectedCourse != null
-                ? userService.getStudentsByCourse(selectedCourse)
+        List<StudentSnapshot> students = selectedCourse != null
+                ? userService.getStudentsByCourse(selectedCourse.id())
                 : List.of();
 
         List<AttendanceResponseDto> attendanceRecords = List.of();
-        User selectedStudent = null;
+        StudentSnapshot selectedStudent = null;
         if (studentId != null && selectedCourse != null) {
             selectedStudent = students.stream()
-                    .filter(s -> s.getId().equals(studentId))
+                    .filter(s -> s.id().equals(studentId))
                     .findFirst()
                     .orElse(null);
             
@@ -0,0 +1,150 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class CacheWarmupService {
+    private final CacheManager cacheManager;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final GradeRepository gradeRepository;
+    private final StudentHomeService studentHomeService;
+    private final boolean homeViewsEnabled;
+    private final int homeViewLimit;
+
+    public CacheWarmupService(CacheManager cacheManager,
+                              CourseRepository courseRepository,
+                              UserRepository userRepository,
+                              AssignmentRepository assignmentRepository,
+                              GradeRepository gradeRepository,
+                              StudentHomeService studentHomeService,
+                              @Value("${cache.warmup.home-views.enabled:false}") boolean homeViewsEnabled,
+                              @Value("${cache.warmup.home-views.limit:200}") int homeViewLimit) {
+        this.cacheManager = cacheManager;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.gradeRepository = gradeRepository;
+        this.studentHomeService = studentHomeService;
+        this.homeViewsEnabled = homeViewsEnabled;
+        this.homeViewLimit = homeViewLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        List<Course> courses = courseRepository.findAllWithSubjects();
+
+        warmCourses(courses);
+        warmStudents(courses);
+        warmAssignments(courses);
+        if (homeViewsEnabled) {
+            warmHomeViews();
+        }
+
+        log.info("Cache warm-up finished for {} courses in {} ms", courses.size(), System.currentTimeMillis() - start);
+    }
+
+    @Transactional(readOnly = true)
+    public void warmAfterNightlyJob() {
+        List<Course> courses = courseRepository.findAllWithSubjects();
+        warmAssignments(courses);
+        if (homeViewsEnabled) {
+            warmHomeViews();
+        }
+        log.info("Post-job cache warm-up finished for {} courses", courses.size());
+    }
+
+    @Transactional(readOnly = true)
+    public void warm(String cacheName) {
+        switch (cacheName) {
+            case "courses" -> warmCourses(courseRepository.findAllWithSubjects());
+            case "students" -> warmStudents(courseRepository.findAllWithSubjects());
+            case "assignments" -> warmAssignments(courseRepository.findAllWithSubjects());
+            case "studentHome" -> warmHomeViews();
+            default -> throw new IllegalArgumentException("Cache " + cacheName + " does not support warm-up");
+        }
+        log.info("On-demand warm-up finished for cache '{}'", cacheName);
+    }
+
+    private void warmCourses(List<Course> courses) {
+        Map<UUID, List<CourseSnapshot>> coursesByTeacher = new HashMap<>();
+        for (User teacher : userRepository.findByUserType(UserType.TEACHER)) {
+            coursesByTeacher.put(teacher.getId(), new ArrayList<>());
+        }
+        for (Course course : courses) {
+            coursesByTeacher.computeIfAbsent(course.getTeacher().getId(), id -> new ArrayList<>()).add(CourseSnapshot.from(course));
+        }
+        putAll("courses", coursesByTeacher);
+    }
+
+    private void warmStudents(List<Course> courses) {
+        Map<UUID, List<StudentSnapshot>> studentsByCourse = emptyListPerCourse(courses);
+        for (User student : userRepository.findByUserTypeAndCourseIsNotNull(UserType.STUDENT)) {
+            studentsByCourse.computeIfAbsent(student.getCourse().getId(), id -> new ArrayList<>()).add(StudentSnapshot.from(student));
+        }
+        putAll("students", studentsByCourse);
+    }
+
+    private void warmAssignments(List<Course> courses) {
+        Map<UUID, List<AssignmentSnapshot>> assignmentsByCourse = emptyListPerCourse(courses);
+        for (Assignment assignment : assignmentRepository.findAllWithCourseAndCreator()) {
+            assignmentsByCourse.computeIfAbsent(assignment.getCourse().getId(), id -> new ArrayList<>()).add(AssignmentSnapshot.from(assignment));
+        }
+        putAll("assignments", assignmentsByCourse);
+    }
+
+    private void warmHomeViews() {
+        List<UUID> studentIds = gradeRepository.findMostGradedStudentIds(PageRequest.of(0, homeViewLimit));
+        for (UUID studentId : studentIds) {
+            try {
+                studentHomeService.buildHomeView(studentId);
+            } catch (Exception e) {
+                log.warn("Skipping home view warm-up for studentId: {}", studentId, e);
+            }
+        }
+        log.debug("Prebuilt {} student home views", studentIds.size());
+    }
+
+    private <T> Map<UUID, List<T>> emptyListPerCourse(List<Course> courses) {
+        Map<UUID, List<T>> result = new HashMap<>();
+        for (Course course : courses) {
+            result.put(course.getId(), new ArrayList<>());
+        }
+        return result;
+    }
+
+    private <T> void putAll(String cacheName, Map<UUID, List<T>> entries) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        entries.forEach((key, values) -> cache.put(key, List.copyOf(values)));
+        log.debug("Warmed {} entries in cache '{}'", entries.size(), cacheName);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CourseCloneJob implements BatchJob<Course> {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final String name;
+    private final int chunkSize;
+    private final String fromYear;
+    private final String toYear;
+    private final int finalGrade;
+    private final CourseRepository courseRepository;
+    private final AtomicInteger created = new AtomicInteger();
+
+    public CourseCloneJob(String name, int chunkSize, String fromYear, String toYear, int finalGrade,
+                          CourseRepository courseRepository) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.finalGrade = finalGrade;
+        this.courseRepository = courseRepository;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<Course> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        UUID afterId = afterCursor != null ? UUID.fromString(afterCursor) : FIRST_ID;
+        return courseRepository.findActiveBySchoolYearAfter(fromYear, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public String cursorOf(Course item) {
+        return item.getId().toString();
+    }
+
+    @Override
+    public void processChunk(BatchRun run, List<Course> chunk) {
+        List<Course> clones = new ArrayList<>();
+        for (Course course : chunk) {
+            String targetName = SchoolYearRolloverService.promotedName(course.getName(), finalGrade);
+            if (targetName == null || courseRepository.findFirstByNameAndSchoolYearAndArchivedFalse(targetName, toYear).isPresent()) {
+                continue;
+            }
+            clones.add(Course.builder()
+                    .name(targetName)
+                    .description(course.getDescription())
+                    .schoolYear(toYear)
+                    .teacher(course.getTeacher())
+                    .subjects(course.getSubjects() != null ? new ArrayList<>(course.getSubjects()) : new ArrayList<>())
+                    .build());
+        }
+        courseRepository.saveAll(clones);
+        created.addAndGet(clones.size());
+    }
+
+    public int getCreated() {
+        return created.get();
+    }
+}
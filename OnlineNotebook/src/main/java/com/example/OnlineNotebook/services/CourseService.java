@@ -1,15 +1,21 @@
 package com.example.OnlineNotebook.services;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverStatusDto;
 import com.example.OnlineNotebook.models.dtos.course.CourseDto;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.CourseCreatedEvent;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -26,10 +32,16 @@ import java.util.stream.Collectors;
 public class CourseService {
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentService enrollmentService;
+    private final SchoolYearRolloverService schoolYearRolloverService;
     
-    public CourseService(CourseRepository courseRepository, UserRepository userRepository) {
+    public CourseService(CourseRepository courseRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher, EnrollmentService enrollmentService, SchoolYearRolloverService schoolYearRolloverService) {
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.enrollmentService = enrollmentService;
+        this.schoolYearRolloverService = schoolYearRolloverService;
     }
     
     @Transactional
@@ -55,10 +67,36 @@ public class CourseService {
         course.setSubjects(courseDto.getSubjects() != null ? new ArrayList<>(courseDto.getSubjects()) : new ArrayList<>());
         
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCreatedEvent(savedCourse.getId(), teacher.getId()));
         log.info("Course created successfully with id: {}, name: {}", savedCourse.getId(), savedCourse.getName());
         return savedCourse;
     }
     
+    public BulkEnrollmentResult enrollStudents(List<UUID> studentIds, UUID courseId) {
+        return enrollmentService.enroll(studentIds, courseId);
+    }
+    
+    public BulkEnrollmentResult transferStudents(List<UUID> studentIds, UUID courseId) {
+        return enrollmentService.transfer(studentIds, courseId);
+    }
+    
+    public BulkEnrollmentResult unenrollStudents(List<UUID> studentIds) {
+        return enrollmentService.unenroll(studentIds);
+    }
+    
+    public RolloverPlanDto planRollover(String fromYear, String toYear) {
+        return schoolYearRolloverService.plan(fromYear, toYear);
+    }
+    
+    public RolloverStatusDto startRollover(String fromYear, String toYear) {
+        log.info("Starting school year rollover from {} to {}", fromYear, toYear);
+        return schoolYearRolloverService.start(fromYear, toYear);
+    }
+    
+    public RolloverStatusDto getRolloverStatus() {
+        return schoolYearRolloverService.getStatus();
+    }
+    
     public List<User> getTeachers() {
         return userRepository.findByUserType(UserType.TEACHER);
     }
@@ -68,8 +106,10 @@ public class CourseService {
     }
     
     @Cacheable(value = "courses", key = "#teacher.id")
-    public List<Course> getCoursesByTeacher(User teacher) {
-        return courseRepository.findByTeacher(teacher);
+    public List<CourseSnapshot> getCoursesByTeacher(User teacher) {
+        return courseRepository.findByTeacher(teacher).stream()
+                .map(CourseSnapshot::from)
+                .collect(Collectors.toUnmodifiableList());
     }
     
     public List<Map<String, Object>> getTeachersList() {
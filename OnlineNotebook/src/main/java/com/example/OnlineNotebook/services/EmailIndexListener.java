@@ -0,0 +1,18 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.entities.User;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class EmailIndexListener {
+    private final ObjectProvider<EmailIndexService> emailIndexService;
+
+    public EmailIndexListener(ObjectProvider<EmailIndexService> emailIndexService) {
+        this.emailIndexService = emailIndexService;
+    }
+
+    @PrePersist
+    public void beforeInsert(User user) {
+        emailIndexService.ifAvailable(index -> index.add(user.getEmail()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@Service
+public class EmailIndexService {
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+    private final Object lock = new Object();
+    private volatile BloomFilter serving;
+    private volatile BloomFilter building;
+
+    public EmailIndexService(UserRepository userRepository,
+                             @Value("${users.email-index.false-positive-rate:0.01}") double falsePositiveRate,
+                             @Value("${users.email-index.min-capacity:10000}") long minCapacity) {
+        this.userRepository = userRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+    }
+
+    public boolean mightContain(String email) {
+        BloomFilter filter = serving;
+        return filter == null || email == null || filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        synchronized (lock) {
+            if (serving != null) {
+                serving.put(key);
+            }
+            if (building != null) {
+                building.put(key);
+            }
+        }
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        BloomFilter next = new BloomFilter(Math.max(minCapacity, userRepository.count() * 2), falsePositiveRate);
+        synchronized (lock) {
+            building = next;
+        }
+        try {
+            String after = "";
+            List<String> page;
+            do {
+                page = userRepository.findEmailsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+                page.forEach(email -> next.put(normalize(email)));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            synchronized (lock) {
+                serving = next;
+            }
+            log.info("Email index rebuilt with {} emails ({} bits, {} hashes) in {} ms", next.getInsertions(),
+                    next.getBitCount(), next.getHashCount(), System.currentTimeMillis() - started);
+        } finally {
+            synchronized (lock) {
+                building = null;
+            }
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.EnrollmentChangedEvent;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class EnrollmentService {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public EnrollmentService(UserRepository userRepository,
+                             CourseRepository courseRepository,
+                             CacheManager cacheManager,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkEnrollmentResult enroll(List<UUID> studentIds, UUID courseId) {
+        Course course = findCourse(courseId);
+        return apply("Enrolled", studentIds, course, (chunk, now) -> userRepository.assignCourseWhereCourseIsNull(
+                chunk, UserType.STUDENT, course, course.getName(), now));
+    }
+
+    public BulkEnrollmentResult transfer(List<UUID> studentIds, UUID courseId) {
+        Course course = findCourse(courseId);
+        return apply("Transferred", studentIds, course, (chunk, now) -> userRepository.assignCourse(
+                chunk, UserType.STUDENT, course, course.getName(), now));
+    }
+
+    public BulkEnrollmentResult unenroll(List<UUID> studentIds) {
+        return apply("Unenrolled", studentIds, null, (chunk, now) -> userRepository.clearCourse(
+                chunk, UserType.STUDENT, now));
+    }
+
+    private BulkEnrollmentResult apply(String action, List<UUID> studentIds, Course course, ChunkUpdate update) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one student ID is required");
+        }
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(studentIds.stream().filter(Objects::nonNull).toList()));
+        Set<UUID> affectedCourseIds = new HashSet<>();
+        if (course != null) {
+            affectedCourseIds.add(course.getId());
+        }
+
+        int updated = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int count = 0;
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                affectedCourseIds.addAll(userRepository.findCourseIdsByIdInAndUserType(chunk, UserType.STUDENT));
+                count += update.apply(chunk, now);
+            }
+            return count;
+        });
+
+        if (updated > 0) {
+            evictCaches(ids, affectedCourseIds);
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(Set.copyOf(ids), Set.copyOf(affectedCourseIds)));
+        }
+        log.info("{} {} of {} requested students across {} courses", action, updated, ids.size(), affectedCourseIds.size());
+        return BulkEnrollmentResult.builder()
+                .success(updated == ids.size())
+                .message(String.format("%s %d of %d students", action, updated, ids.size()))
+                .requested(ids.size())
+                .updated(updated)
+                .affectedCourseIds(affectedCourseIds)
+                .build();
+    }
+
+    private void evictCaches(List<UUID> studentIds, Set<UUID> courseIds) {
+        Cache students = cacheManager.getCache("students");
+        if (students != null) {
+            courseIds.forEach(students::evict);
+        }
+        Cache studentHome = cacheManager.getCache("studentHome");
+        if (studentHome != null) {
+            studentIds.forEach(studentHome::evict);
+            if (!courseIds.isEmpty()) {
+                userRepository.findIdsByCourseIdInAndUserType(courseIds, UserType.STUDENT).forEach(studentHome::evict);
+            }
+        }
+        Cache grades = cacheManager.getCache("grades");
+        if (grades != null) {
+            grades.clear();
+        }
+    }
+
+    private Course findCourse(UUID courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Course ID is required");
+        }
+        return courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
+    }
+
+    private interface ChunkUpdate {
+        int apply(List<UUID> chunk, LocalDateTime now);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GradeArchiveJob implements BatchJob<UUID> {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final String name;
+    private final int chunkSize;
+    private final String schoolYear;
+    private final GradeRepository gradeRepository;
+    private final ArchivedGradeRepository archivedGradeRepository;
+    private final AtomicInteger archived = new AtomicInteger();
+
+    public GradeArchiveJob(String name, int chunkSize, String schoolYear,
+                           GradeRepository gradeRepository, ArchivedGradeRepository archivedGradeRepository) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.schoolYear = schoolYear;
+        this.gradeRepository = gradeRepository;
+        this.archivedGradeRepository = archivedGradeRepository;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<UUID> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        UUID afterId = afterCursor != null ? UUID.fromString(afterCursor) : FIRST_ID;
+        return gradeRepository.findIdsGradedBefore(run.startedAt(), afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public String cursorOf(UUID item) {
+        return item.toString();
+    }
+
+    @Override
+    public void processChunk(BatchRun run, List<UUID> chunk) {
+        archivedGradeRepository.copyFromGrades(chunk, schoolYear, LocalDateTime.now());
+        archived.addAndGet(gradeRepository.deleteByIdIn(chunk));
+    }
+
+    public int getArchived() {
+        return archived.get();
+    }
+}
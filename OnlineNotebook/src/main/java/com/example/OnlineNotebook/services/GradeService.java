@@ -25,7 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -215,34 +214,34 @@ public class GradeService {
 
     @Cacheable(value = "grades", key = "#teacher.id + '_' + #studentId + '_' + #courseId")
     public List<TeacherStudentGradeDto> getStudentGradesForTeacher(User teacher, UUID studentId, UUID courseId) {
-        User student = userRepository.findById(studentId)
+        UserRepository.CourseOwner owner = userRepository.findCourseOwnerById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        Course studentCourse = student.getCourse();
-        if (studentCourse == null) {
+        if (owner.getCourseId() == null) {
             throw new IllegalArgumentException("Student is not assigned to a course");
         }
 
-        Course course = studentCourse;
-
-        if (courseId != null) {
-            course = courseRepository.findById(courseId)
+        if (courseId != null && !courseId.equals(owner.getCourseId())) {
+            Course selectedCourse = courseRepository.findById(courseId)
                     .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-            if (!course.getTeacher().getId().equals(teacher.getId())) {
+            if (!selectedCourse.getTeacher().getId().equals(teacher.getId())) {
                 throw new IllegalArgumentException("You are not allowed to view grades for this course");
             }
-            if (studentCourse.getId() == null || !Objects.equals(studentCourse.getId(), course.getId())) {
-                throw new IllegalArgumentException("Student is not part of the selected course");
-            }
-        } else if (studentCourse.getTeacher() == null || !studentCourse.getTeacher().getId().equals(teacher.getId())) {
-            throw new IllegalArgumentException("You are not allowed to view grades for this student");
+            throw new IllegalArgumentException("Student is not part of the selected course");
         }
 
+        if (!Objects.equals(owner.getTeacherId(), teacher.getId())) {
+            throw new IllegalArgumentException(courseId != null
+                    ? "You are not allowed to view grades for this course"
+                    : "You are not allowed to view grades for this student");
+        }
+
+        Course course = courseRepository.findById(owner.getCourseId())
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         List<SubjectType> courseSubjects = course.getSubjects() != null ? course.getSubjects() : List.of();
 
-        return gradeRepository.findByStudent(student).stream()
+        return gradeRepository.findByStudentIdWithGradedBy(studentId).stream()
                 .filter(grade -> courseSubjects.isEmpty() || courseSubjects.contains(grade.getSubjectType()))
-                .sorted(Comparator.comparing(Grade::getDateGraded).reversed())
                 .map(grade -> TeacherStudentGradeDto.builder()
                         .gradeId(grade.getId())
                         .subjectCode(grade.getSubjectType().name())
@@ -284,50 +283,27 @@ public class GradeService {
     @Transactional
     public void deleteGradeForTeacher(User teacher, UUID gradeId) {
         log.info("Deleting grade - teacherId: {}, gradeId: {}", teacher.getId(), gradeId);
-        Grade grade = gradeRepository.findById(gradeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Grade not found"));
-
-        User student = grade.getStudent();
-        Course course = student != null ? student.getCourse() : null;
-
-        boolean teacherOwnsCourse = course != null
-                && course.getTeacher() != null
-                && Objects.equals(course.getTeacher().getId(), teacher.getId());
-
-        boolean teacherWasGrader = grade.getGradedBy() != null
-                && Objects.equals(grade.getGradedBy().getId(), teacher.getId());
-
-        if (!teacherOwnsCourse && !teacherWasGrader) {
-            throw new IllegalArgumentException("You are not allowed to delete this grade");
+        if (gradeRepository.deleteOwnedByTeacher(gradeId, teacher.getId()) == 0) {
+            throw denyOrNotFound(gradeId, "You are not allowed to delete this grade");
         }
-
-        gradeRepository.delete(grade);
         log.info("Grade deleted successfully - gradeId: {}", gradeId);
     }
 
     @Transactional
     public void updateGradeFeedback(User teacher, UUID gradeId, UpdateGradeFeedbackDto updateDto) {
         log.info("Updating grade feedback - teacherId: {}, gradeId: {}", teacher.getId(), gradeId);
-        Grade grade = gradeRepository.findById(gradeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Grade not found"));
-
-        User student = grade.getStudent();
-        Course course = student != null ? student.getCourse() : null;
-
-        boolean teacherOwnsCourse = course != null
-                && course.getTeacher() != null
-                && Objects.equals(course.getTeacher().getId(), teacher.getId());
-
-        boolean teacherWasGrader = grade.getGradedBy() != null
-                && Objects.equals(grade.getGradedBy().getId(), teacher.getId());
-
-        if (!teacherOwnsCourse && !teacherWasGrader) {
-            throw new IllegalArgumentException("You are not allowed to update this grade");
-        }
-
         String feedback = updateDto != null ? updateDto.getFeedback() : null;
-        grade.setFeedback(feedback != null && !feedback.isBlank() ? feedback.trim() : null);
-        gradeRepository.save(grade);
+        String normalized = feedback != null && !feedback.isBlank() ? feedback.trim() : null;
+        if (gradeRepository.updateFeedbackOwnedByTeacher(gradeId, teacher.getId(), normalized) == 0) {
+            throw denyOrNotFound(gradeId, "You are not allowed to update this grade");
+        }
         log.info("Grade feedback updated successfully - gradeId: {}", gradeId);
     }
+
+    private RuntimeException denyOrNotFound(UUID gradeId, String deniedMessage) {
+        if (!gradeRepository.existsById(gradeId)) {
+            return new ResourceNotFoundException("Grade not found");
+        }
+        return new IllegalArgumentException(deniedMessage);
+    }
 }
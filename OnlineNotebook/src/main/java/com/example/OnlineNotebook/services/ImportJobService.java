@@ -0,0 +1,213 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.entities.ImportJob;
+import com.example.OnlineNotebook.models.entities.ImportJobRow;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import com.example.OnlineNotebook.repositories.ImportJobRepository;
+import com.example.OnlineNotebook.repositories.ImportJobRowRepository;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class ImportJobService {
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobRowRepository importJobRowRepository;
+    private final UserImportService userImportService;
+    private final BatchJobService batchJobService;
+    private final JobLeaseService jobLeaseService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            ImportJobRowRepository importJobRowRepository,
+                            UserImportService userImportService,
+                            BatchJobService batchJobService,
+                            JobLeaseService jobLeaseService,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${users.import.jobs.concurrency:1}") int concurrency,
+                            @Value("${users.import.batch-size:500}") int chunkSize) {
+        this.importJobRepository = importJobRepository;
+        this.importJobRowRepository = importJobRowRepository;
+        this.userImportService = userImportService;
+        this.batchJobService = batchJobService;
+        this.jobLeaseService = jobLeaseService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UUID submit(List<BulkImportUserDto> users) {
+        ImportJob job = transactionTemplate.execute(status -> createJob(users));
+        log.info("Queued import job {} with {} rows", job.getId(), users.size());
+        executor.submit(() -> run(job.getId()));
+        return job.getId();
+    }
+
+    public void resumeUnfinished() {
+        List<ImportJob> unfinished = importJobRepository.findByStatusIn(List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING));
+        for (ImportJob job : unfinished) {
+            log.info("Resuming import job {} at {}/{} rows", job.getId(), job.getProcessedRows(), job.getTotalRows());
+            executor.submit(() -> run(job.getId()));
+        }
+    }
+
+    public void run(UUID jobId) {
+        boolean ran = jobLeaseService.runExclusively(UserImportJob.nameOf(jobId), () -> execute(jobId));
+        if (!ran) {
+            log.info("Import job {} is already running on another node", jobId);
+        }
+    }
+
+    public ImportJobStatusDto getJob(UUID jobId) {
+        ImportJob job = findJob(jobId);
+        List<BulkImportRowResult> failures = importJobRowRepository
+                .findByJobIdAndProcessedTrueAndSuccessFalseOrderByRowNumber(jobId, PageRequest.of(0, MAX_REPORTED_FAILURES))
+                .stream()
+                .map(row -> BulkImportRowResult.builder()
+                        .row(row.getRowNumber())
+                        .email(row.getEmail())
+                        .success(false)
+                        .message(row.getMessage())
+                        .build())
+                .toList();
+        ImportJobStatusDto status = toDto(job);
+        status.setFailures(failures);
+        return status;
+    }
+
+    public List<ImportJobStatusDto> getRecentJobs() {
+        return importJobRepository.findTop20ByOrderByCreatedAtDesc().stream().map(this::toDto).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ImportJob createJob(List<BulkImportUserDto> users) {
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .totalRows(users.size())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        Map<String, Integer> seenEmails = new HashMap<>();
+        List<ImportJobRow> rows = new ArrayList<>(users.size());
+        int duplicates = 0;
+        for (int i = 0; i < users.size(); i++) {
+            BulkImportUserDto user = users.get(i);
+            int rowNumber = i + 1;
+            Integer firstSeen = user.getEmail() != null && !user.getEmail().isBlank()
+                    ? seenEmails.putIfAbsent(UserImportService.normalize(user.getEmail()), rowNumber)
+                    : null;
+            ImportJobRow.ImportJobRowBuilder row = ImportJobRow.builder()
+                    .jobId(job.getId())
+                    .rowNumber(rowNumber)
+                    .email(user.getEmail());
+            if (firstSeen != null) {
+                duplicates++;
+                row.processed(true).message("Duplicate email in import, first seen on row " + firstSeen);
+            } else {
+                row.payload(serialize(user));
+            }
+            rows.add(row.build());
+        }
+        importJobRowRepository.saveAll(rows);
+
+        job.setProcessedRows(duplicates);
+        job.setFailed(duplicates);
+        return importJobRepository.save(job);
+    }
+
+    private void execute(UUID jobId) {
+        ImportJob job = findJob(jobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            return;
+        }
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setUpdatedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+
+        BatchJobStatusDto result = batchJobService.run(new UserImportJob(jobId, chunkSize,
+                importJobRepository, importJobRowRepository, userImportService, objectMapper));
+
+        job = findJob(jobId);
+        job.setStatus(result.getStatus() == BatchJobStatus.COMPLETED ? ImportJobStatus.COMPLETED : ImportJobStatus.FAILED);
+        job.setFailure(result.getFailure());
+        job.setFinishedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getFinishedAt());
+        importJobRepository.save(job);
+        if (job.getStatus() == ImportJobStatus.FAILED) {
+            // Failed jobs are never resumed, so drop the unprocessed payloads and the plaintext passwords in them.
+            int cleared = importJobRowRepository.clearPayloads(jobId);
+            log.info("Cleared {} unprocessed rows of failed import job {}", cleared, jobId);
+        }
+        log.info("Import job {} {}: {} succeeded, {} failed", jobId, job.getStatus(), job.getSucceeded(), job.getFailed());
+    }
+
+    private ImportJob findJob(UUID jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with ID: " + jobId));
+    }
+
+    private String serialize(BulkImportUserDto user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not store import row for " + user.getEmail(), e);
+        }
+    }
+
+    private ImportJobStatusDto toDto(ImportJob job) {
+        return ImportJobStatusDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .succeeded(job.getSucceeded())
+                .failed(job.getFailed())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .failure(job.getFailure())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.repositories.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+@Slf4j
+@Service
+public class JobLeaseService {
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String nodeId;
+    private final Duration leaseAtMostFor;
+    private final Duration leaseAtLeastFor;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           @Value("${jobs.lease.node-id:}") String nodeId,
+                           @Value("${jobs.lease.at-most-for:PT30M}") Duration leaseAtMostFor,
+                           @Value("${jobs.lease.at-least-for:PT1M}") Duration leaseAtLeastFor) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseAtMostFor = leaseAtMostFor;
+        this.leaseAtLeastFor = leaseAtLeastFor;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean tryAcquire(String name, Duration leaseFor) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!jobLeaseRepository.existsById(name)) {
+            try {
+                jobLeaseRepository.create(name, now.minusSeconds(1));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Lease {} was created concurrently by another node", name);
+            }
+        }
+        return jobLeaseRepository.acquire(name, nodeId, now, now.plus(leaseFor)) == 1;
+    }
+
+    public void release(String name, LocalDateTime heldUntilAtLeast) {
+        LocalDateTime now = LocalDateTime.now();
+        jobLeaseRepository.release(name, nodeId, heldUntilAtLeast.isAfter(now) ? heldUntilAtLeast : now);
+    }
+
+    public boolean runExclusively(String name, Runnable task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!tryAcquire(name, leaseAtMostFor)) {
+            log.debug("Skipping {} on node {}, lease is held elsewhere", name, nodeId);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            release(name, startedAt.plus(leaseAtLeastFor));
+        }
+        return true;
+    }
+
+    public int runPartitioned(String name, int partitions, IntConsumer task) {
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        int claimed = 0;
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            if (runExclusively(name + "#" + partition + "/" + partitions, () -> task.accept(partition))) {
+                claimed++;
+            }
+        }
+        log.info("Node {} processed {} of {} partitions of {}", nodeId, claimed, partitions, name);
+        return claimed;
+    }
+
+    public static int partitionOf(UUID id, int partitions) {
+        return Math.floorMod(id.hashCode(), partitions);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
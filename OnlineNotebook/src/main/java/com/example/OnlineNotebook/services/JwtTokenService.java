@@ -1,32 +1,58 @@
 package com.example.OnlineNotebook.services;
 
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.UserManagedCache;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.builders.UserManagedCacheBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 public class JwtTokenService {
+    private static final String ROLE_CLAIM = "role";
+    private static final String EMAIL_CLAIM = "email";
 
     private final SecretKey secretKey;
     private final int expirationHours;
+    private final JwtParser parser;
+    private final UserManagedCache<ByteBuffer, VerifiedToken> verified;
 
     public JwtTokenService(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-hours:1}") int expirationHours) {
+            @Value("${jwt.expiration-hours:1}") int expirationHours,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         if (secret == null || secret.length() < 32) {
             throw new IllegalArgumentException(
                     "JWT secret must be at least 32 characters (256 bits) long for HS256 algorithm");
         }
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationHours = expirationHours;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verified = UserManagedCacheBuilder.newUserManagedCacheBuilder(ByteBuffer.class, VerifiedToken.class)
+                .withResourcePools(ResourcePoolsBuilder.heap(verifiedCacheSize))
+                .withExpiry(new UntilTokenExpires())
+                .build(true);
     }
 
     public String generateToken(UUID userId) {
@@ -46,15 +72,106 @@ public class JwtTokenService {
                 .compact();
     }
 
+    public String generateAccessToken(UserData userData) {
+        if (userData == null || userData.getId() == null || userData.getUserType() == null) {
+            throw new IllegalArgumentException("User ID and type are required for an access token");
+        }
+
+        Instant now = Instant.now();
+        Instant expiration = now.plus(expirationHours, ChronoUnit.HOURS);
+
+        return Jwts.builder()
+                .subject(userData.getId().toString())
+                .claim(EMAIL_CLAIM, userData.getEmail())
+                .claim(ROLE_CLAIM, userData.getUserType().name())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    public long getExpiresInSeconds() {
+        return ChronoUnit.HOURS.getDuration().multipliedBy(expirationHours).toSeconds();
+    }
+
+    public UserData parseAccessToken(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        return verifiedToken != null ? verifiedToken.userData() : null;
+    }
+
     public boolean isValidToken(String token) {
+        return verify(token) != null;
+    }
+
+    @PreDestroy
+    public void close() {
+        verified.close();
+    }
+
+    private VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        // Keyed by digest so the cache never holds live bearer tokens.
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verified.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verifiedToken;
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            verifiedToken = new VerifiedToken(toUserData(claims), claims.getExpiration().toInstant());
         } catch (Exception e) {
-            return false;
+            log.debug("Rejected token: {}", e.getMessage());
+            return null;
+        }
+        verified.put(digest, verifiedToken);
+        return verifiedToken;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static UserData toUserData(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (role == null) {
+            return null;
+        }
+        return UserData.builder()
+                .id(UUID.fromString(claims.getSubject()))
+                .email(claims.get(EMAIL_CLAIM, String.class))
+                .userType(UserType.valueOf(role))
+                .build();
+    }
+
+    private record VerifiedToken(UserData userData, Instant expiresAt) {
+    }
+
+    private static class UntilTokenExpires implements ExpiryPolicy<ByteBuffer, VerifiedToken> {
+        @Override
+        public Duration getExpiryForCreation(ByteBuffer digest, VerifiedToken verifiedToken) {
+            Duration remaining = Duration.between(Instant.now(), verifiedToken.expiresAt());
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+
+        @Override
+        public Duration getExpiryForAccess(ByteBuffer digest, Supplier<? extends VerifiedToken> verifiedToken) {
+            return null;
+        }
+
+        @Override
+        public Duration getExpiryForUpdate(ByteBuffer digest, Supplier<? extends VerifiedToken> oldToken, VerifiedToken newToken) {
+            return null;
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.UserManagedCache;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.builders.UserManagedCacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Slf4j
+@Service
+public class LoginRateLimitService {
+    private final UserManagedCache<String, TokenBucket> accountBuckets;
+    private final UserManagedCache<String, TokenBucket> addressBuckets;
+    private final int accountCapacity;
+    private final long accountRefillNanos;
+    private final int addressCapacity;
+    private final long addressRefillNanos;
+    private final Counter accountThrottled;
+    private final Counter addressThrottled;
+
+    public LoginRateLimitService(MeterRegistry meterRegistry,
+                                 @Value("${security.login.account.capacity:5}") int accountCapacity,
+                                 @Value("${security.login.account.refill-period:PT1M}") Duration accountRefillPeriod,
+                                 @Value("${security.login.address.capacity:30}") int addressCapacity,
+                                 @Value("${security.login.address.refill-period:PT1M}") Duration addressRefillPeriod,
+                                 @Value("${security.login.max-buckets:100000}") int maxBuckets) {
+        this.accountCapacity = accountCapacity;
+        this.accountRefillNanos = accountRefillPeriod.toNanos();
+        this.addressCapacity = addressCapacity;
+        this.addressRefillNanos = addressRefillPeriod.toNanos();
+        this.accountThrottled = Counter.builder("security.login.throttled").tag("scope", "account").register(meterRegistry);
+        this.addressThrottled = Counter.builder("security.login.throttled").tag("scope", "address").register(meterRegistry);
+        this.accountBuckets = buckets(maxBuckets, accountRefillPeriod);
+        this.addressBuckets = buckets(maxBuckets, addressRefillPeriod);
+    }
+
+    public void acquire(String email, String address) {
+        long now = System.nanoTime();
+        TokenBucket addressBucket = address == null ? null : addressBuckets.get(address);
+        if (addressBucket != null && !addressBucket.hasTokens(now)) {
+            addressThrottled.increment();
+            log.warn("Login attempts from {} throttled", address);
+            throw new TooManyRequestsException("Too many login attempts, please try again later");
+        }
+        String account = normalize(email);
+        if (account != null && !bucket(accountBuckets, account, accountCapacity, accountRefillNanos, now).tryConsume(now)) {
+            accountThrottled.increment();
+            log.warn("Login attempts for {} throttled", account);
+            throw new TooManyRequestsException("Too many login attempts, please try again later");
+        }
+    }
+
+    public void onFailure(String address) {
+        if (address != null) {
+            long now = System.nanoTime();
+            bucket(addressBuckets, address, addressCapacity, addressRefillNanos, now).tryConsume(now);
+        }
+    }
+
+    public void onSuccess(String email) {
+        String account = normalize(email);
+        if (account != null) {
+            accountBuckets.remove(account);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        accountBuckets.close();
+        addressBuckets.close();
+    }
+
+    // A bucket left idle for a whole refill period is full again, so expiring it then loses nothing.
+    private static UserManagedCache<String, TokenBucket> buckets(int maxBuckets, Duration refillPeriod) {
+        return UserManagedCacheBuilder.newUserManagedCacheBuilder(String.class, TokenBucket.class)
+                .withResourcePools(ResourcePoolsBuilder.heap(maxBuckets))
+                .withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(refillPeriod))
+                .build(true);
+    }
+
+    private static TokenBucket bucket(UserManagedCache<String, TokenBucket> buckets, String key,
+                                      int capacity, long refillNanos, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        TokenBucket created = new TokenBucket(capacity, refillNanos, now);
+        TokenBucket existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private static String normalize(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
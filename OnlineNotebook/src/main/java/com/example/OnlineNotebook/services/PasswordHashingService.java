@@ -0,0 +1,131 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor loginExecutor;
+    private final long loginWaitMillis;
+    private final Counter loginRejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.hashing.threads:0}") int threads,
+                                  @Value("${security.hashing.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${security.hashing.login-threads:0}") int loginThreads,
+                                  @Value("${security.hashing.login-queue-capacity:50}") int loginQueueCapacity,
+                                  @Value("${security.hashing.login-wait:PT5S}") Duration loginWait) {
+        this.passwordEncoder = passwordEncoder;
+        int processors = Runtime.getRuntime().availableProcessors();
+        int poolSize = threads > 0 ? threads : processors;
+        this.executor = newExecutor(poolSize, queueCapacity, "password-hashing-", new ThreadPoolExecutor.CallerRunsPolicy());
+        int loginPoolSize = loginThreads > 0 ? loginThreads : Math.max(1, processors / 2);
+        this.loginExecutor = newExecutor(loginPoolSize, loginQueueCapacity, "login-hashing-", new ThreadPoolExecutor.AbortPolicy());
+        this.loginWaitMillis = loginWait.toMillis();
+        this.loginRejected = Counter.builder("security.hashing.rejected").tag("pool", "login").register(meterRegistry);
+        registerGauges(meterRegistry, "bulk", executor);
+        registerGauges(meterRegistry, "login", loginExecutor);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return onLoginExecutor(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return onLoginExecutor(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(executor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encoded.add(await(future));
+        }
+        return encoded;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        loginExecutor.shutdownNow();
+    }
+
+    private <T> T onLoginExecutor(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = loginExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            loginRejected.increment();
+            throw new TooManyRequestsException("The server is busy signing people in, please try again shortly", e);
+        }
+        try {
+            return future.get(loginWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            loginRejected.increment();
+            throw new TooManyRequestsException("The server is busy signing people in, please try again shortly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int poolSize, int queueCapacity, String namePrefix,
+                                                  RejectedExecutionHandler rejectionHandler) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectionHandler);
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, String pool, ThreadPoolExecutor executor) {
+        Gauge.builder("security.hashing.queue.depth", executor, e -> e.getQueue().size()).tag("pool", pool).register(meterRegistry);
+        Gauge.builder("security.hashing.active", executor, ThreadPoolExecutor::getActiveCount).tag("pool", pool).register(meterRegistry);
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.teacher.home.SchoolStatisticsDto;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.AssignmentDeletedEvent;
+import com.example.OnlineNotebook.models.events.AssignmentPostedEvent;
+import com.example.OnlineNotebook.models.events.CourseCreatedEvent;
+import com.example.OnlineNotebook.models.events.EnrollmentChangedEvent;
+import com.example.OnlineNotebook.models.events.UserRegisteredEvent;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class SchoolStatisticsService {
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final AssignmentRepository assignmentRepository;
+    private volatile Counters counters;
+
+    public SchoolStatisticsService(UserRepository userRepository,
+                                   CourseRepository courseRepository,
+                                   AssignmentRepository assignmentRepository) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.assignmentRepository = assignmentRepository;
+    }
+
+    public SchoolStatisticsDto getStatistics(UUID teacherId) {
+        if (counters == null) {
+            reconcile();
+        }
+        Counters current = counters;
+        Set<UUID> teacherCourses = teacherId != null ? current.teacherCourses.getOrDefault(teacherId, Set.of()) : Set.of();
+        long teacherStudents = teacherCourses.stream()
+                .map(current.courseStudents::get)
+                .filter(Objects::nonNull)
+                .mapToLong(AtomicLong::get)
+                .sum();
+        AtomicLong teacherAssignments = teacherId != null ? current.teacherAssignments.get(teacherId) : null;
+        return SchoolStatisticsDto.builder()
+                .totalStudents(current.students.get())
+                .totalTeachers(current.teachers.get())
+                .activeClasses(current.courses.get())
+                .postedAssignments(current.assignments.get())
+                .teacherClasses(teacherCourses.size())
+                .teacherStudents(teacherStudents)
+                .teacherAssignments(teacherAssignments != null ? teacherAssignments.get() : 0)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        if (event.userType() == UserType.STUDENT) {
+            current.students.incrementAndGet();
+            if (event.courseId() != null) {
+                current.courseStudents.computeIfAbsent(event.courseId(), id -> new AtomicLong()).incrementAndGet();
+            }
+        } else if (event.userType() == UserType.TEACHER) {
+            current.teachers.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseCreated(CourseCreatedEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        current.courses.incrementAndGet();
+        if (event.teacherId() != null) {
+            current.teacherCourses.computeIfAbsent(event.teacherId(), id -> ConcurrentHashMap.newKeySet()).add(event.courseId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentPosted(AssignmentPostedEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        current.assignments.incrementAndGet();
+        current.teacherAssignments.computeIfAbsent(event.teacherId(), id -> new AtomicLong()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentDeleted(AssignmentDeletedEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        current.assignments.decrementAndGet();
+        AtomicLong teacherAssignments = current.teacherAssignments.get(event.teacherId());
+        if (teacherAssignments != null) {
+            teacherAssignments.decrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (counters == null) {
+            return;
+        }
+        Map<UUID, AtomicLong> courseStudents = new ConcurrentHashMap<>();
+        userRepository.countByCourseAndUserType(UserType.STUDENT)
+                .forEach(count -> courseStudents.put(count.getCourseId(), new AtomicLong(count.getTotal())));
+        Counters current = counters;
+        event.courseIds().forEach(courseId -> {
+            AtomicLong total = courseStudents.get(courseId);
+            if (total != null) {
+                current.courseStudents.put(courseId, total);
+            } else {
+                current.courseStudents.remove(courseId);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${statistics.reconcile-cron:0 */15 * * * ?}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("Reconciling school statistics failed", e);
+        }
+    }
+
+    public synchronized void reconcile() {
+        Counters fresh = new Counters();
+        fresh.students.set(userRepository.countByUserType(UserType.STUDENT));
+        fresh.teachers.set(userRepository.countByUserType(UserType.TEACHER));
+        fresh.courses.set(courseRepository.countByArchivedFalse());
+        fresh.assignments.set(assignmentRepository.count());
+        courseRepository.findAllOwners().stream()
+                .filter(course -> course.getTeacherId() != null)
+                .forEach(course -> fresh.teacherCourses
+                        .computeIfAbsent(course.getTeacherId(), id -> ConcurrentHashMap.newKeySet())
+                        .add(course.getId()));
+        userRepository.countByCourseAndUserType(UserType.STUDENT)
+                .forEach(count -> fresh.courseStudents.put(count.getCourseId(), new AtomicLong(count.getTotal())));
+        assignmentRepository.countByTeacher()
+                .forEach(count -> fresh.teacherAssignments.put(count.getTeacherId(), new AtomicLong(count.getTotal())));
+
+        Counters previous = counters;
+        if (previous != null && (previous.students.get() != fresh.students.get()
+                || previous.teachers.get() != fresh.teachers.get()
+                || previous.courses.get() != fresh.courses.get()
+                || previous.assignments.get() != fresh.assignments.get())) {
+            log.info("School statistics drifted and were corrected: students {} -> {}, teachers {} -> {}, courses {} -> {}, assignments {} -> {}",
+                    previous.students.get(), fresh.students.get(), previous.teachers.get(), fresh.teachers.get(),
+                    previous.courses.get(), fresh.courses.get(), previous.assignments.get(), fresh.assignments.get());
+        }
+        counters = fresh;
+    }
+
+    private static final class Counters {
+        private final AtomicLong students = new AtomicLong();
+        private final AtomicLong teachers = new AtomicLong();
+        private final AtomicLong courses = new AtomicLong();
+        private final AtomicLong assignments = new AtomicLong();
+        private final Map<UUID, Set<UUID>> teacherCourses = new ConcurrentHashMap<>();
+        private final Map<UUID, AtomicLong> courseStudents = new ConcurrentHashMap<>();
+        private final Map<UUID, AtomicLong> teacherAssignments = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverCourseDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverStatusDto;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ArchivedAssignmentRepository;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class SchoolYearRolloverService {
+    public static final String ROLLOVER_JOB = "school-year-rollover";
+    private static final Pattern GRADE_PREFIX = Pattern.compile("^(\\d+)(.*)$");
+    private static final List<String> EVICTED_CACHES = List.of("courses", "students", "studentHome", "assignments", "grades", "archivedSchoolYears");
+
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final GradeRepository gradeRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final ArchivedGradeRepository archivedGradeRepository;
+    private final ArchivedAssignmentRepository archivedAssignmentRepository;
+    private final BatchJobService batchJobService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobLeaseService jobLeaseService;
+    private final CacheManager cacheManager;
+    private final SearchIndexService searchIndexService;
+    private final SchoolStatisticsService schoolStatisticsService;
+    private final int chunkSize;
+    private final int finalGrade;
+    private final ExecutorService executor;
+    private volatile RolloverStatusDto current;
+    private volatile LocalDateTime lastSeenRollover;
+    private volatile boolean rolloverSeen;
+
+    public SchoolYearRolloverService(CourseRepository courseRepository,
+                                     UserRepository userRepository,
+                                     GradeRepository gradeRepository,
+                                     AssignmentRepository assignmentRepository,
+                                     ArchivedGradeRepository archivedGradeRepository,
+                                     ArchivedAssignmentRepository archivedAssignmentRepository,
+                                     BatchJobService batchJobService,
+                                     JobCheckpointRepository jobCheckpointRepository,
+                                     JobLeaseService jobLeaseService,
+                                     CacheManager cacheManager,
+                                     SearchIndexService searchIndexService,
+                                     SchoolStatisticsService schoolStatisticsService,
+                                     @Value("${rollover.chunk-size:100}") int chunkSize,
+                                     @Value("${rollover.final-grade:12}") int finalGrade) {
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.gradeRepository = gradeRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.archivedGradeRepository = archivedGradeRepository;
+        this.archivedAssignmentRepository = archivedAssignmentRepository;
+        this.batchJobService = batchJobService;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.cacheManager = cacheManager;
+        this.searchIndexService = searchIndexService;
+        this.schoolStatisticsService = schoolStatisticsService;
+        this.chunkSize = chunkSize;
+        this.finalGrade = finalGrade;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "school-year-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public RolloverPlanDto plan(String fromYear, String toYear) {
+        validate(fromYear, toYear);
+        Map<UUID, Long> studentsByCourse = userRepository.countByCourseAndUserType(UserType.STUDENT).stream()
+                .collect(Collectors.toMap(UserRepository.CourseCount::getCourseId, UserRepository.CourseCount::getTotal));
+
+        List<RolloverCourseDto> courses = new ArrayList<>();
+        Set<String> targetsToCreate = new HashSet<>();
+        long promoted = 0;
+        long graduated = 0;
+        for (Course course : courseRepository.findActiveBySchoolYear(fromYear)) {
+            String targetName = promotedName(course.getName(), finalGrade);
+            long students = studentsByCourse.getOrDefault(course.getId(), 0L);
+            boolean targetExists = targetName != null
+                    && courseRepository.findFirstByNameAndSchoolYearAndArchivedFalse(targetName, toYear).isPresent();
+            if (targetName == null) {
+                graduated += students;
+            } else {
+                promoted += students;
+                if (!targetExists) {
+                    targetsToCreate.add(targetName);
+                }
+            }
+            courses.add(RolloverCourseDto.builder()
+                    .courseId(course.getId())
+                    .name(course.getName())
+                    .targetName(targetName)
+                    .targetExists(targetExists)
+                    .students(students)
+                    .build());
+        }
+
+        return RolloverPlanDto.builder()
+                .fromYear(fromYear)
+                .toYear(toYear)
+                .coursesToCreate(targetsToCreate.size())
+                .coursesToArchive(courses.size())
+                .studentsToPromote(promoted)
+                .studentsToGraduate(graduated)
+                .gradesToArchive(gradeRepository.countByDateGradedBefore(LocalDateTime.now()))
+                .assignmentsToArchive(assignmentRepository.countByCourseSchoolYear(fromYear))
+                .courses(courses)
+                .build();
+    }
+
+    public synchronized RolloverStatusDto start(String fromYear, String toYear) {
+        validate(fromYear, toYear);
+        if (current != null && current.getStatus() == BatchJobStatus.RUNNING) {
+            throw new IllegalArgumentException("A school year rollover is already running");
+        }
+        if (courseRepository.findActiveBySchoolYear(fromYear).isEmpty()) {
+            throw new IllegalArgumentException("No active courses found for school year: " + fromYear);
+        }
+        current = RolloverStatusDto.builder()
+                .fromYear(fromYear)
+                .toYear(toYear)
+                .status(BatchJobStatus.RUNNING)
+                .step("queued")
+                .steps(List.of())
+                .startedAt(LocalDateTime.now())
+                .build();
+        executor.submit(() -> run(fromYear, toYear));
+        return getStatus();
+    }
+
+    public RolloverStatusDto getStatus() {
+        RolloverStatusDto status = current;
+        if (status == null) {
+            return null;
+        }
+        List<BatchJobStatusDto> steps = stepNames(status.getFromYear(), status.getToYear()).stream()
+                .map(batchJobService::getStatus)
+                .filter(step -> step != null)
+                .toList();
+        status.setSteps(steps);
+        return status;
+    }
+
+    public void run(String fromYear, String toYear) {
+        if (current == null || !fromYear.equals(current.getFromYear()) || !toYear.equals(current.getToYear())) {
+            current = RolloverStatusDto.builder()
+                    .fromYear(fromYear)
+                    .toYear(toYear)
+                    .status(BatchJobStatus.RUNNING)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+        }
+        try {
+            boolean ran = jobLeaseService.runExclusively(ROLLOVER_JOB, () -> execute(fromYear, toYear));
+            if (!ran) {
+                fail("Rollover is already running on another node");
+            }
+        } catch (RuntimeException e) {
+            log.warn("School year rollover {} -> {} failed", fromYear, toYear, e);
+            fail(String.valueOf(e.getMessage()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static String promotedName(String name, int finalGrade) {
+        Matcher matcher = GRADE_PREFIX.matcher(name);
+        if (!matcher.matches()) {
+            return name;
+        }
+        int grade = Integer.parseInt(matcher.group(1));
+        return grade >= finalGrade ? null : (grade + 1) + matcher.group(2);
+    }
+
+    private void execute(String fromYear, String toYear) {
+        List<String> names = stepNames(fromYear, toYear);
+        CourseCloneJob clone = new CourseCloneJob(names.get(0), chunkSize, fromYear, toYear, finalGrade, courseRepository);
+        GradeArchiveJob grades = new GradeArchiveJob(names.get(1), chunkSize * 20, fromYear,
+                gradeRepository, archivedGradeRepository);
+        StudentPromotionJob promotion = new StudentPromotionJob(names.get(2), chunkSize, fromYear, toYear, finalGrade,
+                courseRepository, userRepository);
+        AssignmentArchiveJob assignments = new AssignmentArchiveJob(names.get(3), chunkSize * 20, fromYear,
+                assignmentRepository, archivedAssignmentRepository);
+
+        if (!runStep("cloning courses", clone) || !runStep("archiving grades", grades)
+                || !runStep("promoting students", promotion) || !runStep("archiving assignments", assignments)) {
+            return;
+        }
+
+        current.setStep("archiving courses");
+        int archived = courseRepository.archiveSchoolYear(fromYear, LocalDateTime.now());
+        clearCaches();
+        jobCheckpointRepository.touch(names.get(names.size() - 1), LocalDateTime.now());
+        searchIndexService.rebuild();
+        schoolStatisticsService.reconcile();
+
+        current.setStep("done");
+        current.setStatus(BatchJobStatus.COMPLETED);
+        current.setFinishedAt(LocalDateTime.now());
+        log.info("School year rollover {} -> {} completed: {} courses created, {} grades and {} assignments archived, {} students promoted, {} graduated, {} courses archived",
+                fromYear, toYear, clone.getCreated(), grades.getArchived(), assignments.getArchived(),
+                promotion.getPromoted(), promotion.getGraduated(), archived);
+    }
+
+    // The rollover runs on one node; the others clear their caches once its checkpoints move.
+    @Scheduled(fixedDelayString = "${rollover.cache-sync-interval:PT1M}")
+    public void syncCachesWithRollover() {
+        LocalDateTime lastUpdated = jobCheckpointRepository.findLastUpdatedAt(ROLLOVER_JOB);
+        if (!rolloverSeen) {
+            lastSeenRollover = lastUpdated;
+            rolloverSeen = true;
+            return;
+        }
+        if (Objects.equals(lastUpdated, lastSeenRollover)) {
+            return;
+        }
+        lastSeenRollover = lastUpdated;
+        clearCaches();
+        log.info("Cleared school year caches after rollover progress at {}", lastUpdated);
+    }
+
+    private void clearCaches() {
+        EVICTED_CACHES.stream().map(cacheManager::getCache).filter(cache -> cache != null).forEach(Cache::clear);
+    }
+
+    private boolean runStep(String step, BatchJob<?> job) {
+        current.setStep(step);
+        BatchJobStatusDto result = batchJobService.run(job);
+        if (result.getStatus() != BatchJobStatus.COMPLETED) {
+            fail(step + " failed: " + result.getFailure());
+            return false;
+        }
+        return true;
+    }
+
+    private void fail(String failure) {
+        current.setStatus(BatchJobStatus.FAILED);
+        current.setFailure(failure);
+        current.setFinishedAt(LocalDateTime.now());
+    }
+
+    private void validate(String fromYear, String toYear) {
+        if (fromYear == null || fromYear.isBlank() || toYear == null || toYear.isBlank()) {
+            throw new IllegalArgumentException("Both the current and the next school year are required");
+        }
+        if (fromYear.equals(toYear)) {
+            throw new IllegalArgumentException("The next school year must differ from the current one");
+        }
+    }
+
+    private static List<String> stepNames(String fromYear, String toYear) {
+        String prefix = ROLLOVER_JOB + "-" + fromYear + "-to-" + toYear;
+        return List.of(prefix + "-courses", prefix + "-grades", prefix + "-students", prefix + "-assignments");
+    }
+}
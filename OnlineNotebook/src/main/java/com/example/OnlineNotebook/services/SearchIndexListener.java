@@ -0,0 +1,25 @@
+package com.example.OnlineNotebook.services;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class SearchIndexListener {
+    private final ObjectProvider<SearchIndexService> searchIndexService;
+
+    public SearchIndexListener(ObjectProvider<SearchIndexService> searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Object entity) {
+        searchIndexService.ifAvailable(index -> index.index(entity));
+    }
+
+    @PostRemove
+    public void afterRemove(Object entity) {
+        searchIndexService.ifAvailable(index -> index.remove(entity));
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.search.SearchResultDto;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.SearchResultType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.EnrollmentChangedEvent;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class SearchIndexService {
+    private static final int MAX_RESULTS = 50;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final Object lock = new Object();
+    private volatile Index serving;
+    private Index building;
+
+    public SearchIndexService(UserRepository userRepository,
+                              CourseRepository courseRepository,
+                              AssignmentRepository assignmentRepository) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.assignmentRepository = assignmentRepository;
+    }
+
+    public List<SearchResultDto> search(String query, UUID teacherId, int limit) {
+        List<String> terms = tokenize(query).stream()
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        if (serving == null) {
+            rebuild();
+        }
+        Index index = serving;
+
+        Set<UUID> matches = null;
+        for (String term : terms) {
+            Set<UUID> termMatches = index.match(term);
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.retainAll(termMatches);
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        String phrase = String.join(" ", tokenize(query));
+        return matches.stream()
+                .map(index.documents::get)
+                .filter(Objects::nonNull)
+                .filter(document -> teacherId == null || index.isVisibleTo(document, teacherId))
+                .sorted(Comparator.comparing((SearchDocument document) -> !document.sortKey().startsWith(phrase))
+                        .thenComparing(SearchDocument::type)
+                        .thenComparing(SearchDocument::sortKey))
+                .limit(Math.max(1, Math.min(limit, MAX_RESULTS)))
+                .map(SearchDocument::toDto)
+                .toList();
+    }
+
+    public void index(Object entity) {
+        SearchDocument document = toDocument(entity);
+        if (document != null) {
+            afterCommit(() -> apply(index -> index.put(document)));
+        }
+    }
+
+    public void remove(Object entity) {
+        UUID id = entity instanceof User user ? user.getId()
+                : entity instanceof Course course ? course.getId()
+                : entity instanceof Assignment assignment ? assignment.getId()
+                : null;
+        if (id != null) {
+            afterCommit(() -> apply(index -> index.remove(id)));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        userRepository.findSearchRowsByIdIn(event.studentIds()).forEach(row -> {
+            SearchDocument document = user(row.getId(), row.getFirstName(), row.getLastName(), row.getEmail(),
+                    row.getUserType(), row.getCourseId());
+            apply(index -> index.put(document));
+        });
+    }
+
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        Index next = new Index();
+        synchronized (lock) {
+            building = next;
+        }
+        try {
+            userRepository.findSearchRows().forEach(row -> next.put(user(row.getId(), row.getFirstName(),
+                    row.getLastName(), row.getEmail(), row.getUserType(), row.getCourseId())));
+            courseRepository.findSearchRows().forEach(row -> next.put(course(row.getId(), row.getName(),
+                    row.getDescription(), row.getSchoolYear(), row.getTeacherId())));
+            assignmentRepository.findSearchRows().forEach(row -> next.put(assignment(row.getId(), row.getTitle(),
+                    row.getDescription(), row.getCourseId(), row.getCourseName(), row.getTeacherId())));
+
+            synchronized (lock) {
+                serving = next;
+            }
+            log.info("Search index rebuilt with {} documents and {} terms in {} ms", next.documents.size(),
+                    next.postings.size(), System.currentTimeMillis() - started);
+        } finally {
+            synchronized (lock) {
+                building = null;
+            }
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        synchronized (lock) {
+            if (serving != null) {
+                change.accept(serving);
+            }
+            if (building != null) {
+                change.accept(building);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static SearchDocument toDocument(Object entity) {
+        if (entity instanceof User user) {
+            return user(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getUserType(),
+                    user.getCourse() != null ? user.getCourse().getId() : null);
+        }
+        if (entity instanceof Course course) {
+            return course(course.getId(), course.getName(), course.getDescription(), course.getSchoolYear(),
+                    course.getTeacher() != null ? course.getTeacher().getId() : null);
+        }
+        if (entity instanceof Assignment assignment) {
+            Course course = assignment.getCourse();
+            return assignment(assignment.getId(), assignment.getTitle(), assignment.getDescription(),
+                    course != null ? course.getId() : null, course != null ? course.getName() : null,
+                    assignment.getCreatedBy() != null ? assignment.getCreatedBy().getId() : null);
+        }
+        return null;
+    }
+
+    private static SearchDocument user(UUID id, String firstName, String lastName, String email, UserType userType, UUID courseId) {
+        String name = firstName + " " + lastName;
+        return new SearchDocument(SearchResultType.USER, id, name, email, userType, courseId, null,
+                name.toLowerCase(Locale.ROOT), terms(firstName, lastName, email));
+    }
+
+    private static SearchDocument course(UUID id, String name, String description, String schoolYear, UUID teacherId) {
+        return new SearchDocument(SearchResultType.COURSE, id, name, schoolYear, null, id, teacherId,
+                name.toLowerCase(Locale.ROOT), terms(name, description, schoolYear));
+    }
+
+    private static SearchDocument assignment(UUID id, String title, String description, UUID courseId, String courseName, UUID teacherId) {
+        return new SearchDocument(SearchResultType.ASSIGNMENT, id, title, courseName, null, courseId, teacherId,
+                title.toLowerCase(Locale.ROOT), terms(title, description));
+    }
+
+    private static Set<String> terms(String... fields) {
+        return Arrays.stream(fields)
+                .flatMap(field -> tokenize(field).stream())
+                .collect(Collectors.toSet());
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private record SearchDocument(SearchResultType type, UUID id, String title, String subtitle, UserType userType,
+                                  UUID courseId, UUID ownerId, String sortKey, Set<String> terms) {
+
+        SearchResultDto toDto() {
+            return SearchResultDto.builder()
+                    .type(type)
+                    .id(id)
+                    .title(title)
+                    .subtitle(subtitle)
+                    .userType(userType)
+                    .courseId(courseId)
+                    .build();
+        }
+    }
+
+    private static final class Index {
+        private final NavigableMap<String, Set<UUID>> postings = new ConcurrentSkipListMap<>();
+        private final Map<UUID, SearchDocument> documents = new ConcurrentHashMap<>();
+
+        void put(SearchDocument document) {
+            SearchDocument previous = documents.put(document.id(), document);
+            if (previous != null) {
+                previous.terms().stream()
+                        .filter(term -> !document.terms().contains(term))
+                        .forEach(term -> unlink(term, document.id()));
+            }
+            document.terms().forEach(term -> postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.id()));
+        }
+
+        void remove(UUID id) {
+            SearchDocument previous = documents.remove(id);
+            if (previous != null) {
+                previous.terms().forEach(term -> unlink(term, id));
+            }
+        }
+
+        Set<UUID> match(String prefix) {
+            Set<UUID> result = new HashSet<>();
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(result::addAll);
+            return result;
+        }
+
+        boolean isVisibleTo(SearchDocument document, UUID teacherId) {
+            if (document.type() == SearchResultType.USER) {
+                return document.userType() == UserType.STUDENT && teaches(document.courseId(), teacherId);
+            }
+            return teacherId.equals(document.ownerId()) || teaches(document.courseId(), teacherId);
+        }
+
+        private boolean teaches(UUID courseId, UUID teacherId) {
+            SearchDocument course = courseId != null ? documents.get(courseId) : null;
+            return course != null && course.type() == SearchResultType.COURSE && teacherId.equals(course.ownerId());
+        }
+
+        private void unlink(String term, UUID id) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
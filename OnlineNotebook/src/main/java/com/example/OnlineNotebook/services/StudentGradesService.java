@@ -5,11 +5,15 @@ import com.example.OnlineNotebook.models.dtos.student.grades.StudentGradesSummar
 import com.example.OnlineNotebook.models.dtos.student.grades.StudentGradesViewDto;
 import com.example.OnlineNotebook.models.dtos.student.grades.StudentSubjectGradesDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentProfileDto;
+import com.example.OnlineNotebook.models.entities.ArchivedGrade;
 import com.example.OnlineNotebook.models.entities.Grade;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
@@ -27,16 +31,29 @@ public class StudentGradesService {
 
     private final UserService userService;
     private final GradeRepository gradeRepository;
+    private final ArchivedGradeRepository archivedGradeRepository;
+    private final CacheManager cacheManager;
 
     public StudentGradesService(UserService userService,
-                                GradeRepository gradeRepository) {
+                                GradeRepository gradeRepository,
+                                ArchivedGradeRepository archivedGradeRepository,
+                                CacheManager cacheManager) {
         this.userService = userService;
         this.gradeRepository = gradeRepository;
+        this.archivedGradeRepository = archivedGradeRepository;
+        this.cacheManager = cacheManager;
     }
 
     public StudentGradesViewDto buildGradesView(UUID studentId) {
+        return buildGradesView(studentId, null);
+    }
+
+    public StudentGradesViewDto buildGradesView(UUID studentId, String schoolYear) {
         User student = userService.getById(studentId);
-        List<Grade> grades = gradeRepository.findByStudent(student);
+        boolean archived = schoolYear != null && !schoolYear.isBlank();
+        List<Grade> grades = archived
+                ? archivedGradeRepository.findByStudentIdAndSchoolYear(studentId, schoolYear).stream().map(this::toGrade).toList()
+                : gradeRepository.findByStudent(student);
 
         StudentGradesSummaryDto summary = buildSummary(grades);
         List<StudentSubjectGradesDto> subjects = buildSubjectSections(grades);
@@ -45,6 +62,29 @@ public class StudentGradesService {
                 .profile(buildProfile(student))
                 .summary(summary)
                 .subjects(subjects)
+                .schoolYear(archived ? schoolYear : null)
+                .archivedSchoolYears(findArchivedSchoolYears(studentId))
+                .build();
+    }
+
+    private List<String> findArchivedSchoolYears(UUID studentId) {
+        Cache cache = cacheManager.getCache("archivedSchoolYears");
+        if (cache == null) {
+            return archivedGradeRepository.findSchoolYearsByStudentId(studentId);
+        }
+        // Archived years only change on a rollover, and SchoolYearRolloverService clears this cache on every node.
+        return cache.get(studentId, () -> archivedGradeRepository.findSchoolYearsByStudentId(studentId));
+    }
+
+    private Grade toGrade(ArchivedGrade archivedGrade) {
+        return Grade.builder()
+                .id(archivedGrade.getId())
+                .subjectType(archivedGrade.getSubjectType())
+                .gradeLetter(archivedGrade.getGradeLetter())
+                .feedback(archivedGrade.getFeedback())
+                .gradeType(archivedGrade.getGradeType())
+                .gradedBy(archivedGrade.getGradedBy())
+                .dateGraded(archivedGrade.getDateGraded())
                 .build();
     }
 
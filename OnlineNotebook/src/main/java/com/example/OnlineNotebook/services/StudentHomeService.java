@@ -1,5 +1,7 @@
 package com.example.OnlineNotebook.services;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentAssignmentPreviewDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentGradePreviewDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
@@ -7,14 +9,12 @@ import com.example.OnlineNotebook.models.dtos.student.home.StudentLeaderboardEnt
 import com.example.OnlineNotebook.models.dtos.student.home.StudentProfileDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentQuickStatsDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentSubjectGradeDto;
-import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.Grade;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.SubjectType;
-import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -37,14 +37,14 @@ public class StudentHomeService {
 
     private final UserService userService;
     private final GradeRepository gradeRepository;
-    private final AssignmentRepository assignmentRepository;
+    private final AssignmentService assignmentService;
 
     public StudentHomeService(UserService userService,
                               GradeRepository gradeRepository,
-                              AssignmentRepository assignmentRepository) {
+                              AssignmentService assignmentService) {
         this.userService = userService;
         this.gradeRepository = gradeRepository;
-        this.assignmentRepository = assignmentRepository;
+        this.assignmentService = assignmentService;
     }
 
     @Cacheable(value = "studentHome", key = "#studentId")
@@ -52,7 +52,7 @@ public class StudentHomeService {
         User student = userService.getById(studentId);
         List<Grade> grades = gradeRepository.findByStudent(student);
         Course course = student.getCourse();
-        List<Assignment> assignments = course != null ? assignmentRepository.findByCourse(course) : List.of();
+        List<AssignmentSnapshot> assignments = course != null ? assignmentService.getAssignmentsByCourse(course.getId()) : List.of();
 
         return StudentHomeViewDto.builder()
                 .profile(buildProfile(student))
@@ -77,7 +77,7 @@ public class StudentHomeService {
                 .build();
     }
 
-    private StudentQuickStatsDto buildQuickStats(List<Grade> grades, List<Assignment> assignments) {
+    private StudentQuickStatsDto buildQuickStats(List<Grade> grades, List<AssignmentSnapshot> assignments) {
         double averageGrade = grades.stream()
                 .map(Grade::getGradeLetter)
                 .map(this::resolveGradeValue)
@@ -87,7 +87,7 @@ public class StudentHomeService {
                 .orElse(Double.NaN);
 
         int pendingAssignments = (int) assignments.stream()
-                .filter(assignment -> assignment.getDueDate().isAfter(LocalDateTime.now()))
+                .filter(assignment -> assignment.dueDate().isAfter(LocalDateTime.now()))
                 .count();
 
         String attendanceDisplay = buildAttendanceDisplay(assignments.size(), grades.size());
@@ -112,18 +112,18 @@ public class StudentHomeService {
                 .collect(Collectors.toList());
     }
 
-    private List<StudentAssignmentPreviewDto> buildUpcomingAssignments(List<Assignment> assignments) {
+    private List<StudentAssignmentPreviewDto> buildUpcomingAssignments(List<AssignmentSnapshot> assignments) {
         LocalDateTime now = LocalDateTime.now();
         return assignments.stream()
-                .filter(assignment -> !assignment.getDueDate().isBefore(now))
-                .sorted(Comparator.comparing(Assignment::getDueDate))
+                .filter(assignment -> !assignment.dueDate().isBefore(now))
+                .sorted(Comparator.comparing(AssignmentSnapshot::dueDate))
                 .limit(3)
                 .map(assignment -> StudentAssignmentPreviewDto.builder()
-                        .title(assignment.getTitle())
-                        .subject(resolveAssignmentSubject(assignment.getType(), assignment.getCourse()))
-                        .dueDateText(assignment.getDueDate().format(DUE_DATE_FORMATTER))
-                        .priorityLabel(resolvePriorityLabel(assignment.getDueDate()))
-                        .priorityLevel(resolvePriorityLevel(assignment.getDueDate()))
+                        .title(assignment.title())
+                        .subject(resolveAssignmentSubject(assignment.type(), assignment.courseName()))
+                        .dueDateText(assignment.dueDate().format(DUE_DATE_FORMATTER))
+                        .priorityLabel(resolvePriorityLabel(assignment.dueDate()))
+                        .priorityLevel(resolvePriorityLevel(assignment.dueDate()))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -155,7 +155,7 @@ public class StudentHomeService {
     }
 
     private List<StudentLeaderboardEntryDto> buildLeaderboard(Course course,
-                                                             List<Assignment> assignments,
+                                                             List<AssignmentSnapshot> assignments,
                                                              User currentStudent) {
         if (course == null) {
             return List.of();
@@ -168,9 +168,9 @@ public class StudentHomeService {
 
         AtomicInteger rankCounter = new AtomicInteger(1);
 
-        return userService.getStudentsByCourse(course).stream()
+        return userService.getStudentsByCourse(course.getId()).stream()
                 .map(student -> {
-                    List<Grade> studentGrades = gradeRepository.findByStudent(student);
+                    List<Grade> studentGrades = gradeRepository.findByStudentId(student.id());
                     double average = studentGrades.stream()
                             .map(Grade::getGradeLetter)
                             .map(this::resolveGradeValue)
@@ -189,21 +189,21 @@ public class StudentHomeService {
                 .limit(5)
                 .map(projection -> StudentLeaderboardEntryDto.builder()
                         .rank(rankCounter.getAndIncrement())
-                        .initials(buildInitials(projection.student().getFirstName(), projection.student().getLastName()))
+                        .initials(buildInitials(projection.student().firstName(), projection.student().lastName()))
                         .fullName(buildFullName(projection.student()))
-                        .className(projection.student().getStudentClass())
+                        .className(projection.student().studentClass())
                         .gradeDisplay(Double.isNaN(projection.average()) ? "--" : formatAverage(projection.average()))
                         .attendanceDisplay(projection.absencesDisplay())
-                        .currentUser(projection.student().getId().equals(currentStudent.getId()))
+                        .currentUser(projection.student().id().equals(currentStudent.getId()))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private String resolveAssignmentSubject(AssignmentType type, Course course) {
+    private String resolveAssignmentSubject(AssignmentType type, String courseName) {
         if (type != null) {
             return type.getDisplayType();
         }
-        return course != null ? course.getName() : "Course";
+        return courseName != null ? courseName : "Course";
     }
 
     private String resolvePriorityLabel(LocalDateTime dueDate) {
@@ -249,9 +249,9 @@ public class StudentHomeService {
         return (first + last).isBlank() ? "--" : first + last;
     }
 
-    private String buildFullName(User user) {
-        String firstName = user.getFirstName() != null ? user.getFirstName() : "";
-        String lastName = user.getLastName() != null ? user.getLastName() : "";
+    private String buildFullName(StudentSnapshot student) {
+        String firstName = student.firstName() != null ? student.firstName() : "";
+        String lastName = student.lastName() != null ? student.lastName() : "";
         return (firstName + " " + lastName).trim();
     }
 
@@ -271,7 +271,7 @@ public class StudentHomeService {
         return String.valueOf(absences);
     }
 
-    private record LeaderboardProjection(User student,
+    private record LeaderboardProjection(StudentSnapshot student,
                                          int gradedEntries,
                                          double average,
                                          String absencesDisplay) {
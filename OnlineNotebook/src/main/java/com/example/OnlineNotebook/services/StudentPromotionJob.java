@@ -0,0 +1,83 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StudentPromotionJob implements BatchJob<Course> {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final String name;
+    private final int chunkSize;
+    private final String fromYear;
+    private final String toYear;
+    private final int finalGrade;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final AtomicInteger promoted = new AtomicInteger();
+    private final AtomicInteger graduated = new AtomicInteger();
+
+    public StudentPromotionJob(String name, int chunkSize, String fromYear, String toYear, int finalGrade,
+                               CourseRepository courseRepository, UserRepository userRepository) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.finalGrade = finalGrade;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<Course> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        UUID afterId = afterCursor != null ? UUID.fromString(afterCursor) : FIRST_ID;
+        return courseRepository.findActiveBySchoolYearAfter(fromYear, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public String cursorOf(Course item) {
+        return item.getId().toString();
+    }
+
+    @Override
+    public void processChunk(BatchRun run, List<Course> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Course course : chunk) {
+            String targetName = SchoolYearRolloverService.promotedName(course.getName(), finalGrade);
+            if (targetName == null) {
+                graduated.addAndGet(userRepository.clearCourseFor(course, UserType.STUDENT, now));
+                continue;
+            }
+            Course target = courseRepository.findFirstByNameAndSchoolYearAndArchivedFalse(targetName, toYear)
+                    .orElseThrow(() -> new IllegalStateException("Course " + targetName + " for " + toYear + " does not exist"));
+            promoted.addAndGet(userRepository.moveCourse(course, target, target.getName(), UserType.STUDENT, now));
+        }
+    }
+
+    public int getPromoted() {
+        return promoted.get();
+    }
+
+    public int getGraduated() {
+        return graduated.get();
+    }
+}
@@ -2,6 +2,8 @@ package com.example.OnlineNotebook.services;
 
 import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
 import com.example.OnlineNotebook.client.service.AttendanceClientService;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentAssignmentPreviewDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentGradePreviewDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
@@ -9,14 +11,12 @@ import com.example.OnlineNotebook.models.dtos.student.home.StudentLeaderboardEnt
 import com.example.OnlineNotebook.models.dtos.student.home.StudentProfileDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentQuickStatsDto;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentSubjectGradeDto;
-import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.Grade;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.SubjectType;
-import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
 import org.springframework.stereotype.Service;
 
@@ -38,16 +38,16 @@ public class StudentService {
 
     private final UserService userService;
     private final GradeRepository gradeRepository;
-    private final AssignmentRepository assignmentRepository;
+    private final AssignmentService assignmentService;
     private final AttendanceClientService attendanceClientService;
 
     public StudentService(UserService userService,
                           GradeRepository gradeRepository,
-                          AssignmentRepository assignmentRepository,
+                          AssignmentService assignmentService,
                           AttendanceClientService attendanceClientService) {
         this.userService = userService;
         this.gradeRepository = gradeRepository;
-        this.assignmentRepository = assignmentRepository;
+        this.assignmentService = assignmentService;
         this.attendanceClientService = attendanceClientService;
     }
 
@@ -55,7 +55,7 @@ public class StudentService {
         User student = userService.getById(studentId);
         List<Grade> grades = gradeRepository.findByStudent(student);
         Course course = student.getCourse();
-        List<Assignment> assignments = course != null ? assignmentRepository.findByCourse(course) : List.of();
+        List<AssignmentSnapshot> assignments = course != null ? assignmentService.getAssignmentsByCourse(course.getId()) : List.of();
         
         List<AttendanceResponseDto> attendances = List.of();
         try {
@@ -91,7 +91,7 @@ public class StudentService {
                 .build();
     }
 
-    private StudentQuickStatsDto buildQuickStats(List<Grade> grades, List<Assignment> assignments, List<AttendanceResponseDto> attendances) {
+    private StudentQuickStatsDto buildQuickStats(List<Grade> grades, List<AssignmentSnapshot> assignments, List<AttendanceResponseDto> attendances) {
         double averageGrade = grades.stream()
                 .map(Grade::getGradeLetter)
                 .map(this::resolveGradeValue)
@@ -101,7 +101,7 @@ public class StudentService {
                 .orElse(Double.NaN);
 
         int pendingAssignments = (int) assignments.stream()
-                .filter(assignment -> assignment.getDueDate().isAfter(LocalDateTime.now()))
+                .filter(assignment -> assignment.dueDate().isAfter(LocalDateTime.now()))
                 .count();
 
         long absentCount = attendances.stream()
@@ -132,19 +132,19 @@ public class StudentService {
                 .collect(Collectors.toList());
     }
 
-    private List<StudentAssignmentPreviewDto> buildUpcomingAssignments(List<Assignment> assignments) {
+    private List<StudentAssignmentPreviewDto> buildUpcomingAssignments(List<AssignmentSnapshot> assignments) {
         LocalDateTime now = LocalDateTime.now();
         return assignments.stream()
-                .filter(assignment -> !assignment.getDueDate().isBefore(now))
-                .sorted(Comparator.comparing(Assignment::getDueDate))
+                .filter(assignment -> !assignment.dueDate().isBefore(now))
+                .sorted(Comparator.comparing(AssignmentSnapshot::dueDate))
                 .map(assignment -> StudentAssignmentPreviewDto.builder()
-                        .title(assignment.getTitle())
-                        .description(assignment.getDescription())
-                        .subject(resolveAssignmentSubject(assignment.getType(), assignment.getCourse()))
-                        .assignmentType(assignment.getType() != null ? assignment.getType().getDisplayType() : "Assignment")
-                        .dueDateText(assignment.getDueDate().format(DUE_DATE_FORMATTER))
-                        .priorityLabel(resolvePriorityLabel(assignment.getDueDate()))
-                        .priorityLevel(resolvePriorityLevel(assignment.getDueDate()))
+                        .title(assignment.title())
+                        .description(assignment.description())
+                        .subject(resolveAssignmentSubject(assignment.type(), assignment.courseName()))
+                        .assignmentType(assignment.type() != null ? assignment.type().getDisplayType() : "Assignment")
+                        .dueDateText(assignment.dueDate().format(DUE_DATE_FORMATTER))
+                        .priorityLabel(resolvePriorityLabel(assignment.dueDate()))
+                        .priorityLevel(resolvePriorityLevel(assignment.dueDate()))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -176,7 +176,7 @@ public class StudentService {
     }
 
     private List<StudentLeaderboardEntryDto> buildLeaderboard(Course course,
-                                                             List<Assignment> assignments,
+                                                             List<AssignmentSnapshot> assignments,
                                                              User currentStudent) {
         if (course == null) {
             return List.of();
@@ -189,9 +189,9 @@ public class StudentService {
 
         AtomicInteger rankCounter = new AtomicInteger(1);
 
-        return userService.getStudentsByCourse(course).stream()
+        return userService.getStudentsByCourse(course.getId()).stream()
                 .map(student -> {
-                    List<Grade> studentGrades = gradeRepository.findByStudent(student);
+                    List<Grade> studentGrades = gradeRepository.findByStudentId(student.id());
                     double average = studentGrades.stream()
                             .map(Grade::getGradeLetter)
                             .map(this::resolveGradeValue)
@@ -202,7 +202,7 @@ public class StudentService {
                     
                     List<AttendanceResponseDto> studentAttendances = List.of();
                     try {
-                        var response = attendanceClientService.getAttendances(student.getId(), student.getId());
+                        var response = attendanceClientService.getAttendances(student.id(), student.id());
                         if (response != null && response.getBody() != null) {
                             studentAttendances = response.getBody();
                         }
@@ -230,21 +230,21 @@ public class StudentService {
                 .limit(5)
                 .map(projection -> StudentLeaderboardEntryDto.builder()
                         .rank(rankCounter.getAndIncrement())
-                        .initials(buildInitials(projection.student().getFirstName(), projection.student().getLastName()))
+                        .initials(buildInitials(projection.student().firstName(), projection.student().lastName()))
                         .fullName(buildFullName(projection.student()))
-                        .className(projection.student().getStudentClass())
+                        .className(projection.student().studentClass())
                         .gradeDisplay(Double.isNaN(projection.average()) ? "--" : formatAverage(projection.average()))
                         .attendanceDisplay(projection.attendanceDisplay())
-                        .currentUser(projection.student().getId().equals(currentStudent.getId()))
+                        .currentUser(projection.student().id().equals(currentStudent.getId()))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private String resolveAssignmentSubject(AssignmentType type, Course course) {
+    private String resolveAssignmentSubject(AssignmentType type, String courseName) {
         if (type != null) {
             return type.getDisplayType();
         }
-        return course != null ? course.getName() : "Course";
+        return courseName != null ? courseName : "Course";
     }
 
     private String resolvePriorityLabel(LocalDateTime dueDate) {
@@ -290,9 +290,9 @@ public class StudentService {
         return (first + last).isBlank() ? "--" : first + last;
     }
 
-    private String buildFullName(User user) {
-        String firstName = user.getFirstName() != null ? user.getFirstName() : "";
-        String lastName = user.getLastName() != null ? user.getLastName() : "";
+    private String buildFullName(StudentSnapshot student) {
+        String firstName = student.firstName() != null ? student.firstName() : "";
+        String lastName = student.lastName() != null ? student.lastName() : "";
         return (firstName + " " + lastName).trim();
     }
 
@@ -312,7 +312,7 @@ public class StudentService {
         return String.valueOf(absences);
     }
 
-    private record LeaderboardProjection(User student,
+    private record LeaderboardProjection(StudentSnapshot student,
                                          int gradedEntries,
                                          double average,
                                          String attendanceDisplay,
@@ -1,6 +1,9 @@
 package com.example.OnlineNotebook.services;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.assignment.AssignmentFormDto;
 import com.example.OnlineNotebook.models.dtos.teacher.assignment.AssignmentSummaryDto;
 import com.example.OnlineNotebook.models.dtos.teacher.assignment.TeacherAssignmentsViewDto;
@@ -11,9 +14,12 @@ import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
+import com.example.OnlineNotebook.models.events.AssignmentDeletedEvent;
+import com.example.OnlineNotebook.models.events.AssignmentPostedEvent;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -30,16 +36,28 @@ public class TeacherService {
     private final CourseService courseService;
     private final UserService userService;
     private final AssignmentRepository assignmentRepository;
+    private final AssignmentService assignmentService;
     private final GradeService gradeService;
+    private final AssignmentDeadlineService assignmentDeadlineService;
+    private final SchoolStatisticsService schoolStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeacherService(CourseService courseService,
                           UserService userService,
                           AssignmentRepository assignmentRepository,
-                          GradeService gradeService) {
+                          AssignmentService assignmentService,
+                          GradeService gradeService,
+                          AssignmentDeadlineService assignmentDeadlineService,
+                          SchoolStatisticsService schoolStatisticsService,
+                          ApplicationEventPublisher eventPublisher) {
         this.courseService = courseService;
         this.userService = userService;
         this.assignmentRepository = assignmentRepository;
+        this.assignmentService = assignmentService;
         this.gradeService = gradeService;
+        this.assignmentDeadlineService = assignmentDeadlineService;
+        this.schoolStatisticsService = schoolStatisticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     public TeacherHomeViewDto buildHomeView(User teacher) {
@@ -57,19 +75,20 @@ public class TeacherService {
 
         return TeacherHomeViewDto.builder()
                 .assignments(assignments)
+                .statistics(schoolStatisticsService.getStatistics(teacher.getId()))
                 .build();
     }
 
     public TeacherStudentsViewDto buildStudentsView(User teacher, UUID courseId, UUID studentId) {
-        List<Course> courses = courseService.getCoursesByTeacher(teacher);
+        List<CourseSnapshot> courses = courseService.getCoursesByTeacher(teacher);
 
         UUID requestedCourseId = courseId;
-        Course selectedCourse = null;
+        CourseSnapshot selectedCourse = null;
 
         if (requestedCourseId != null) {
             final UUID lookupCourseId = requestedCourseId;
             selectedCourse = courses.stream()
-                    .filter(course -> course.getId().equals(lookupCourseId))
+                    .filter(course -> course.id().equals(lookupCourseId))
                     .findFirst()
                     .orElse(null);
         }
@@ -78,25 +97,25 @@ public class TeacherService {
 
         if (selectedCourse == null && !courses.isEmpty()) {
             selectedCourse = courses.get(0);
-            resolvedCourseId = selectedCourse.getId();
+            resolvedCourseId = selectedCourse.id();
         }
 
-        List<User> students = selectedCourse != null
-                ? userService.getStudentsByCourse(selectedCourse)
+        List<StudentSnapshot> students = selectedCourse != null
+                ? userService.getStudentsByCourse(selectedCourse.id())
                 : List.of();
 
-        List<Assignment> assignments = selectedCourse != null
-                ? assignmentRepository.findByCourse(selectedCourse)
+        List<AssignmentSnapshot> assignments = selectedCourse != null
+                ? assignmentService.getAssignmentsByCourse(selectedCourse.id())
                 : List.of();
 
-        User selectedStudent = null;
+        StudentSnapshot selectedStudent = null;
         List<TeacherStudentGradeDto> studentGrades = Collections.emptyList();
         String gradeErrorMessage = null;
         boolean showModal = false;
 
         if (studentId != null) {
             selectedStudent = students.stream()
-                    .filter(student -> student.getId().equals(studentId))
+                    .filter(student -> student.id().equals(studentId))
                     .findFirst()
                     .orElse(null);
 
@@ -104,7 +123,7 @@ public class TeacherService {
                 try {
                     studentGrades = gradeService.getStudentGradesForTeacher(
                             teacher,
-                            selectedStudent.getId(),
+                            selectedStudent.id(),
                             resolvedCourseId);
                     showModal = true;
                 } catch (ResourceNotFoundException | IllegalArgumentException ex) {
@@ -129,11 +148,11 @@ public class TeacherService {
     }
 
     public TeacherAssignmentsViewDto buildAssignmentsView(User teacher) {
-        List<Course> courses = courseService.getCoursesByTeacher(teacher);
+        List<CourseSnapshot> courses = courseService.getCoursesByTeacher(teacher);
         List<AssignmentType> assignmentTypes = Arrays.asList(AssignmentType.values());
 
         AssignmentFormDto form = AssignmentFormDto.builder()
-                .courseId(!courses.isEmpty() ? courses.get(0).getId() : null)
+                .courseId(!courses.isEmpty() ? courses.get(0).id() : null)
                 .title("")
                 .description("")
                 .assignmentType(!assignmentTypes.isEmpty() ? assignmentTypes.get(0) : null)
@@ -179,6 +198,8 @@ public class TeacherService {
                 .build();
 
         Assignment savedAssignment = assignmentRepository.save(assignment);
+        assignmentDeadlineService.schedule(savedAssignment.getId(), course.getId(), savedAssignment.getDueDate());
+        eventPublisher.publishEvent(new AssignmentPostedEvent(savedAssignment.getId(), teacher.getId()));
         log.info("Assignment created successfully with id: {}", savedAssignment.getId());
         return savedAssignment;
     }
@@ -194,7 +215,13 @@ public class TeacherService {
         }
 
         assignmentRepository.delete(assignment);
+        assignmentDeadlineService.cancel(assignmentId);
+        eventPublisher.publishEvent(new AssignmentDeletedEvent(assignmentId, teacher.getId()));
         log.info("Assignment deleted successfully - assignmentId: {}", assignmentId);
     }
 
+    public List<AssignmentSnapshot> getArchivedAssignments(UUID teacherId, String schoolYear) {
+        return assignmentService.getArchivedAssignments(teacherId, schoolYear);
+    }
+
 }
@@ -0,0 +1,132 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.entities.ImportJobRow;
+import com.example.OnlineNotebook.repositories.ImportJobRepository;
+import com.example.OnlineNotebook.repositories.ImportJobRowRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class UserImportJob implements BatchJob<ImportJobRow> {
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final UUID jobId;
+    private final int chunkSize;
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobRowRepository importJobRowRepository;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    public UserImportJob(UUID jobId, int chunkSize,
+                         ImportJobRepository importJobRepository,
+                         ImportJobRowRepository importJobRowRepository,
+                         UserImportService userImportService,
+                         ObjectMapper objectMapper) {
+        this.jobId = jobId;
+        this.chunkSize = chunkSize;
+        this.importJobRepository = importJobRepository;
+        this.importJobRowRepository = importJobRowRepository;
+        this.userImportService = userImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    public static String nameOf(UUID jobId) {
+        return "user-import-" + jobId;
+    }
+
+    @Override
+    public String getName() {
+        return nameOf(jobId);
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public List<ImportJobRow> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+        int afterRow = afterCursor != null ? Integer.parseInt(afterCursor) : 0;
+        return importJobRowRepository.findByJobIdAndProcessedFalseAndRowNumberGreaterThanOrderByRowNumber(
+                jobId, afterRow, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public String cursorOf(ImportJobRow item) {
+        return String.valueOf(item.getRowNumber());
+    }
+
+    // Users, row results and job counters share the chunk transaction; the checkpoint moves after it commits.
+    @Override
+    public void processChunk(BatchRun run, List<ImportJobRow> chunk) {
+        List<BulkImportUserDto> users = new ArrayList<>(chunk.size());
+        List<Integer> rowNumbers = new ArrayList<>(chunk.size());
+        for (ImportJobRow row : chunk) {
+            users.add(parse(row.getPayload()));
+            rowNumbers.add(row.getRowNumber());
+        }
+
+        List<BulkImportRowResult> results = userImportService.importRows(users, rowNumbers, new HashMap<>());
+        Map<UUID, BulkImportRowResult> resultsByRowId = new HashMap<>();
+        int succeeded = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            resultsByRowId.put(chunk.get(i).getId(), results.get(i));
+            if (results.get(i).isSuccess()) {
+                succeeded++;
+            }
+        }
+
+        // Load the chunk into this transaction once and let the flush write the results as one JDBC batch.
+        List<ImportJobRow> rows = importJobRowRepository.findAllById(resultsByRowId.keySet());
+        for (ImportJobRow row : rows) {
+            BulkImportRowResult result = resultsByRowId.get(row.getId());
+            row.setProcessed(true);
+            row.setSuccess(result.isSuccess());
+            row.setMessage(truncate(result.getMessage()));
+            row.setUserId(result.getUserId());
+            row.setPayload(null);
+        }
+        importJobRowRepository.saveAllAndFlush(rows);
+        importJobRepository.addProgress(jobId, succeeded, chunk.size() - succeeded, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean canSkip(RuntimeException failure) {
+        return failure instanceof DataIntegrityViolationException;
+    }
+
+    @Override
+    public void skip(BatchRun run, ImportJobRow item, RuntimeException failure) {
+        ImportJobRow row = importJobRowRepository.findById(item.getId()).orElseThrow();
+        row.setProcessed(true);
+        row.setSuccess(false);
+        row.setMessage(truncate("Could not save user: " + ((DataIntegrityViolationException) failure).getMostSpecificCause().getMessage()));
+        row.setPayload(null);
+        importJobRowRepository.save(row);
+        importJobRepository.addProgress(jobId, 0, 1, LocalDateTime.now());
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    private BulkImportUserDto parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, BulkImportUserDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored import row is not valid JSON", e);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.OnlineNotebook.services;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
+import com.example.OnlineNotebook.models.events.UserRegisteredEvent;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.util.BulkImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class UserImportService {
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectMapper objectMapper;
+    private final EmailIndexService emailIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public UserImportService(UserRepository userRepository,
+                             CourseRepository courseRepository,
+                             PasswordHashingService passwordHashingService,
+                             ObjectMapper objectMapper,
+                             EmailIndexService emailIndexService,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${users.import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.objectMapper = objectMapper;
+        this.emailIndexService = emailIndexService;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    public BulkRegistrationResult importUsers(List<BulkImportUserDto> users) {
+        List<Integer> rowNumbers = IntStream.rangeClosed(1, users.size()).boxed().toList();
+        return summarize(importRows(users, rowNumbers, new HashMap<>()));
+    }
+
+    public BulkImportReader openStream(Reader input, BulkImportFormat format) {
+        BulkImportReader reader = new BulkImportReader(input, format, objectMapper);
+        reader.readHeader();
+        return reader;
+    }
+
+    public BulkRegistrationResult importStream(BulkImportReader reader, Consumer<List<BulkImportRowResult>> sink) {
+        int succeeded = 0;
+        int failed = 0;
+        List<BulkImportUserDto> batch = new ArrayList<>(batchSize);
+        List<Integer> rowNumbers = new ArrayList<>(batchSize);
+        List<BulkImportRowResult> results = new ArrayList<>(batchSize);
+
+        BulkImportReader.Row row;
+        do {
+            row = reader.next();
+            if (row != null && row.error() != null) {
+                results.add(BulkImportRowResult.builder().row(row.number()).success(false).message(row.error()).build());
+            } else if (row != null) {
+                batch.add(row.user());
+                rowNumbers.add(row.number());
+            }
+            if (batch.size() + results.size() >= batchSize || (row == null && (!batch.isEmpty() || !results.isEmpty()))) {
+                if (!batch.isEmpty()) {
+                    results.addAll(importRows(batch, rowNumbers, new HashMap<>()));
+                }
+                for (BulkImportRowResult result : results) {
+                    if (result.isSuccess()) {
+                        succeeded++;
+                    } else {
+                        failed++;
+                    }
+                }
+                sink.accept(List.copyOf(results));
+                batch.clear();
+                rowNumbers.clear();
+                results.clear();
+            }
+        } while (row != null);
+
+        int processed = succeeded + failed;
+        return BulkRegistrationResult.builder()
+                .success(failed == 0)
+                .message(String.format("Processed %d users: %d successful, %d failed", processed, succeeded, failed))
+                .processed(processed)
+                .succeeded(succeeded)
+                .failed(failed)
+                .build();
+    }
+
+    public List<BulkImportRowResult> importRows(List<BulkImportUserDto> rows, List<Integer> rowNumbers, Map<String, Integer> seenEmails) {
+        BulkImportRowResult[] results = new BulkImportRowResult[rows.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            BulkImportUserDto row = rows.get(i);
+            String error = validate(row);
+            if (error == null) {
+                Integer firstSeen = seenEmails.putIfAbsent(normalize(row.getEmail()), rowNumbers.get(i));
+                if (firstSeen != null) {
+                    error = "Duplicate email in import, first seen on row " + firstSeen;
+                }
+            }
+            if (error != null) {
+                results[i] = failed(rowNumbers.get(i), row, error);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<String> existingEmails = findExistingEmails(candidates.stream().map(i -> rows.get(i).getEmail()).toList());
+        candidates.removeIf(i -> {
+            if (existingEmails.contains(normalize(rows.get(i).getEmail()))) {
+                results[i] = failed(rowNumbers.get(i), rows.get(i), "Email already exists: " + rows.get(i).getEmail());
+                return true;
+            }
+            return false;
+        });
+
+        Map<String, Course> coursesByName = findCoursesByName(candidates.stream().map(i -> rows.get(i).getStudentClass()).toList());
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Integer> batch = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+            insertBatch(rows, batch, rowNumbers, coursesByName, results);
+        }
+
+        if (!rows.isEmpty()) {
+            log.info("Imported rows {}-{}: {} created", rowNumbers.get(0), rowNumbers.get(rows.size() - 1),
+                    Arrays.stream(results).filter(BulkImportRowResult::isSuccess).count());
+        }
+        return Arrays.asList(results);
+    }
+
+    public BulkRegistrationResult summarize(List<BulkImportRowResult> results) {
+        int succeeded = (int) results.stream().filter(BulkImportRowResult::isSuccess).count();
+        int failed = results.size() - succeeded;
+        return BulkRegistrationResult.builder()
+                .success(failed == 0)
+                .message(String.format("Processed %d users: %d successful, %d failed", results.size(), succeeded, failed))
+                .processed(results.size())
+                .succeeded(succeeded)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    private void insertBatch(List<BulkImportUserDto> rows, List<Integer> batch, List<Integer> rowNumbers,
+                             Map<String, Course> coursesByName, BulkImportRowResult[] results) {
+        List<String> encodedPasswords = passwordHashingService.encodeAll(
+                batch.stream().map(i -> rows.get(i).getPassword()).toList());
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(batch.size());
+        for (int j = 0; j < batch.size(); j++) {
+            users.add(toUser(rows.get(batch.get(j)), encodedPasswords.get(j), coursesByName, now));
+        }
+
+        try {
+            userRepository.saveAll(users);
+            for (int j = 0; j < batch.size(); j++) {
+                results[batch.get(j)] = succeeded(rowNumbers.get(batch.get(j)), users.get(j));
+                registered(users.get(j));
+            }
+        } catch (DataAccessException e) {
+            // Only reached outside a surrounding transaction; UserImportJob chunks flush at commit and are retried by BatchJobService.
+            log.warn("Batch insert of {} users failed, retrying row by row", users.size(), e);
+            for (int j = 0; j < batch.size(); j++) {
+                int index = batch.get(j);
+                User user = users.get(j);
+                user.setId(null);
+                try {
+                    results[index] = succeeded(rowNumbers.get(index), userRepository.save(user));
+                    registered(user);
+                } catch (DataAccessException rowFailure) {
+                    results[index] = failed(rowNumbers.get(index), rows.get(index), "Could not save user: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void registered(User user) {
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getUserType(),
+                user.getCourse() != null ? user.getCourse().getId() : null));
+    }
+
+    private User toUser(BulkImportUserDto row, String encodedPassword, Map<String, Course> coursesByName, LocalDateTime now) {
+        String studentClass = row.getStudentClass();
+        return User.builder()
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .password(encodedPassword)
+                .email(row.getEmail())
+                .userType(row.getUserType())
+                .studentClass(studentClass)
+                .course(studentClass != null && !studentClass.isEmpty() ? coursesByName.get(studentClass) : null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Set<String> findExistingEmails(List<String> candidates) {
+        List<String> emails = candidates.stream().filter(emailIndexService::mightContain).toList();
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>();
+        userRepository.findEmailsByEmailIn(emails).forEach(email -> existing.add(normalize(email)));
+        return existing;
+    }
+
+    private Map<String, Course> findCoursesByName(List<String> studentClasses) {
+        Set<String> names = studentClasses.stream()
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.toSet());
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        return courseRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Course::getName, Function.identity(), (first, second) -> first));
+    }
+
+    private String validate(BulkImportUserDto row) {
+        if (row.getEmail() == null || row.getEmail().isBlank()) {
+            return "Email is required";
+        }
+        if (row.getPassword() == null || row.getPassword().isEmpty()) {
+            return "Password is required";
+        }
+        if (row.getFirstName() == null || row.getFirstName().isBlank()
+                || row.getLastName() == null || row.getLastName().isBlank()) {
+            return "First and last name are required";
+        }
+        if (row.getUserType() == null) {
+            return "User type is required";
+        }
+        return null;
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BulkImportRowResult succeeded(int row, User user) {
+        return BulkImportRowResult.builder()
+                .row(row)
+                .email(user.getEmail())
+                .success(true)
+                .message("User created successfully")
+                .userId(user.getId())
+                .build();
+    }
+
+    private static BulkImportRowResult failed(int row, BulkImportUserDto dto, String message) {
+        return BulkImportRowResult.builder()
+                .row(row)
+                .email(dto.getEmail())
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -1,52 +1,89 @@
 package com.example.OnlineNotebook.services;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserPage;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
 import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
 import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.dtos.auth.AccessTokenDto;
 import com.example.OnlineNotebook.models.dtos.auth.EditProfileDto;
+import com.example.OnlineNotebook.models.dtos.auth.LoginDto;
 import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
 import com.example.OnlineNotebook.models.dtos.admin.UserRegistrationResult;
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
 import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.UserRegisteredEvent;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
 import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.util.BulkImportReader;
+import com.example.OnlineNotebook.util.RequestMemo;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class UserService implements UserDetailsService {
+    private static final int MAX_USERS_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CourseRepository courseRepository;
     private final AssignmentRepository assignmentRepository;
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, CourseRepository courseRepository, AssignmentRepository assignmentRepository) {
+    private final UserImportService userImportService;
+    private final ImportJobService importJobService;
+    private final EmailIndexService emailIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtTokenService jwtTokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginRateLimitService loginRateLimitService;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, CourseRepository courseRepository, AssignmentRepository assignmentRepository, UserImportService userImportService, ImportJobService importJobService, EmailIndexService emailIndexService, ApplicationEventPublisher eventPublisher, JwtTokenService jwtTokenService, PasswordHashingService passwordHashingService, LoginRateLimitService loginRateLimitService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.courseRepository = courseRepository;
         this.assignmentRepository = assignmentRepository;
+        this.userImportService = userImportService;
+        this.importJobService = importJobService;
+        this.emailIndexService = emailIndexService;
+        this.eventPublisher = eventPublisher;
+        this.jwtTokenService = jwtTokenService;
+        this.passwordHashingService = passwordHashingService;
+        this.loginRateLimitService = loginRateLimitService;
     }
 
     public boolean emailExists(String email) {
-        return userRepository.existsByEmail(email);
+        return emailIndexService.mightContain(email) && userRepository.existsByEmail(email);
     }
 
     @Transactional
@@ -66,7 +103,8 @@ public class UserService implements UserDetailsService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        userRepository.save(user);
+        saveNewUser(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getUserType(), null));
         log.info("User registered successfully with email: {}", registerDto.getEmail());
     }
 
@@ -102,7 +140,18 @@ public class UserService implements UserDetailsService {
             user.setCourse(course);
         }
 
-        userRepository.save(user);
+        saveNewUser(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getUserType(),
+                user.getCourse() != null ? user.getCourse().getId() : null));
+    }
+
+    private void saveNewUser(User user) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Registration lost a race on existing email: {}", user.getEmail());
+            throw new IllegalArgumentException("Email already exists: " + user.getEmail(), e);
+        }
     }
 
     private Course findCourseByStudentClass(String studentClass) {
@@ -110,35 +159,67 @@ public class UserService implements UserDetailsService {
     }
 
     public BulkRegistrationResult registerBulkUsers(List<BulkImportUserDto> users) {
-        int successCount = 0;
-        int failureCount = 0;
+        return userImportService.importUsers(users);
+    }
 
-        for (BulkImportUserDto bulkImportDto : users) {
-            try {
-                registerUserFromBulkImport(bulkImportDto);
-                successCount++;
-            } catch (Exception e) {
-                failureCount++;
-            }
-        }
+    public BulkImportReader openBulkUsersStream(Reader input, BulkImportFormat format) {
+        return userImportService.openStream(input, format);
+    }
 
-        String message = String.format("Processed %d users: %d successful, %d failed", users.size(), successCount, failureCount);
-        
-        return BulkRegistrationResult.builder()
-                .success(failureCount == 0)
-                .message(message)
-                .build();
+    public BulkRegistrationResult registerBulkUsersStream(BulkImportReader reader, Consumer<List<BulkImportRowResult>> sink) {
+        return userImportService.importStream(reader, sink);
+    }
+
+    public UUID submitBulkImportJob(List<BulkImportUserDto> users) {
+        return importJobService.submit(users);
     }
 
+    public ImportJobStatusDto getBulkImportJob(UUID jobId) {
+        return importJobService.getJob(jobId);
+    }
+
+    public List<ImportJobStatusDto> getRecentBulkImportJobs() {
+        return importJobService.getRecentJobs();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new ResourceNotFoundException("Email not found: " + email));
-        return new UserData(user.getId(), email, user.getPassword(), user.getUserType());
+        return new UserData(user.getId(), email, user.getPassword(), user.getUserType(), CurrentUserSnapshot.from(user));
+    }
+
+    public AccessTokenDto issueAccessToken(LoginDto loginDto, String clientAddress) {
+        loginRateLimitService.acquire(loginDto.getEmail(), clientAddress);
+        User user = userRepository.findByEmail(loginDto.getEmail()).orElse(null);
+        if (user == null || !passwordHashingService.matches(loginDto.getPassword(), user.getPassword())) {
+            loginRateLimitService.onFailure(clientAddress);
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        loginRateLimitService.onSuccess(loginDto.getEmail());
+        UserData userData = UserData.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .userType(user.getUserType())
+                .build();
+        return AccessTokenDto.builder()
+                .accessToken(jwtTokenService.generateAccessToken(userData))
+                .tokenType("Bearer")
+                .expiresIn(jwtTokenService.getExpiresInSeconds())
+                .build();
     }
 
     public User getById(UUID id) {
-        return userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        return RequestMemo.computeIfAbsent(memoKey(id), () -> userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id)));
+    }
+
+    public User getReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
+
+    public CurrentUserSnapshot getCurrentUser(UserData userData) {
+        CurrentUserSnapshot profile = userData.getProfile();
+        return profile != null ? profile : CurrentUserSnapshot.from(getById(userData.getId()));
     }
 
     public List<Map<String, Object>> getRecentUsers(int limit) {
@@ -159,19 +240,44 @@ public class UserService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
     
-    @Cacheable(value = "students", key = "#course.id")
-    public List<User> getStudentsByCourse(Course course) {
-        return userRepository.findByCourse(course).stream()
-                .filter(user -> user.getUserType() == UserType.STUDENT)
-                .collect(Collectors.toList());
+    public AdminUserPage getUsersPage(UserType userType, UUID courseId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_USERS_PAGE_SIZE));
+        LocalDateTime beforeCreatedAt = null;
+        UUID beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                beforeCreatedAt = LocalDateTime.parse(parts[0]);
+                beforeId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        List<AdminUserRow> rows = userRepository.findAdminUserRows(userType, courseId, beforeCreatedAt, beforeId, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AdminUserRow last = rows.get(pageSize - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.createdAt() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new AdminUserPage(List.copyOf(rows), nextCursor);
+    }
+
+    @Cacheable(value = "students", key = "#courseId")
+    public List<StudentSnapshot> getStudentsByCourse(UUID courseId) {
+        return userRepository.findByCourseIdAndUserType(courseId, UserType.STUDENT).stream()
+                .map(StudentSnapshot::from)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     public long getTotalStudentsCount() {
-        return userRepository.findByUserType(UserType.STUDENT).size();
+        return userRepository.countByUserType(UserType.STUDENT);
     }
 
     public long getActiveClassesCount() {
-        return courseRepository.count();
+        return courseRepository.countByArchivedFalse();
     }
 
     public long getPostedAssignmentsCount() {
@@ -212,22 +318,36 @@ public class UserService implements UserDetailsService {
                 throw new IllegalArgumentException("Current password is required to change password");
             }
 
-            if (!passwordEncoder.matches(editProfileDto.getCurrentPassword(), user.getPassword())) {
+            if (!passwordHashingService.matches(editProfileDto.getCurrentPassword(), user.getPassword())) {
                 throw new IllegalArgumentException("Current password is incorrect");
             }
 
-            if (passwordEncoder.matches(editProfileDto.getNewPassword(), user.getPassword())) {
+            if (passwordHashingService.matches(editProfileDto.getNewPassword(), user.getPassword())) {
                 throw new IllegalArgumentException("New password must be different from current password");
             }
 
-            user.setPassword(passwordEncoder.encode(editProfileDto.getNewPassword()));
+            user.setPassword(passwordHashingService.encode(editProfileDto.getNewPassword()));
         }
 
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        RequestMemo.put(memoKey(userId), user);
+        refreshPrincipal(user);
         log.info("Profile updated successfully for userId: {}", userId);
     }
 
+    private void refreshPrincipal(User user) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserData userData
+                && user.getId().equals(userData.getId())) {
+            userData.setProfile(CurrentUserSnapshot.from(user));
+        }
+    }
+
+    private static String memoKey(UUID userId) {
+        return "user:" + userId;
+    }
+
     private void validatePasswordChange(EditProfileDto editProfileDto, User user) {
         if (editProfileDto.getNewPassword() != null && !editProfileDto.getNewPassword().isEmpty()) {
             if (!editProfileDto.getNewPassword().equals(editProfileDto.getConfirmPassword())) {
@@ -0,0 +1,30 @@
+package com.example.OnlineNotebook.services.batch;
+
+import java.util.List;
+
+public interface BatchJob<T> {
+
+    String getName();
+
+    int getChunkSize();
+
+    List<T> readChunk(BatchRun run, String afterCursor, int chunkSize);
+
+    String cursorOf(T item);
+
+    void processChunk(BatchRun run, List<T> chunk);
+
+    // Restarts a resumed run from the beginning; only safe when reads skip items that are already done.
+    default boolean rescanOnResume() {
+        return false;
+    }
+
+    // Lets a failed chunk be retried one item per transaction instead of failing the run.
+    default boolean canSkip(RuntimeException failure) {
+        return false;
+    }
+
+    default void skip(BatchRun run, T item, RuntimeException failure) {
+        throw failure;
+    }
+}
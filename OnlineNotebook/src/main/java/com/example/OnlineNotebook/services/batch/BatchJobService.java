@@ -0,0 +1,260 @@
+package com.example.OnlineNotebook.services.batch;
+
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.models.entities.JobCheckpoint;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+public class BatchJobService {
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate checkpointTransaction;
+    private final ExecutorService executor;
+    private final int maxChunksInFlight;
+    private final Map<String, AtomicInteger> chunksInFlight = new ConcurrentHashMap<>();
+
+    public BatchJobService(JobCheckpointRepository jobCheckpointRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${batch.pool-size:4}") int poolSize) {
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointTransaction = new TransactionTemplate(transactionManager);
+        this.checkpointTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxChunksInFlight = poolSize * 2;
+    }
+
+    public <T> BatchJobStatusDto run(BatchJob<T> job) {
+        LocalDateTime attemptedAt = LocalDateTime.now();
+        JobCheckpoint checkpoint = start(job.getName(), attemptedAt);
+        BatchRun run = new BatchRun(job.getName(), checkpoint.getStartedAt(), attemptedAt, checkpoint.getCursor() != null);
+        String cursor = run.resumed() && job.rescanOnResume() ? null : checkpoint.getCursor();
+        if (run.resumed()) {
+            log.info("Resuming batch job {} after cursor {}", job.getName(), cursor);
+        }
+
+        Watermark watermark = new Watermark(checkpoint);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore permits = new Semaphore(maxChunksInFlight);
+        AtomicInteger inFlight = chunksInFlight.computeIfAbsent(job.getName(), name -> new AtomicInteger());
+        List<Future<?>> futures = new ArrayList<>();
+        long index = 0;
+
+        try {
+            while (failure.get() == null) {
+                List<T> chunk = job.readChunk(run, cursor, job.getChunkSize());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                cursor = job.cursorOf(chunk.get(chunk.size() - 1));
+                permits.acquire();
+                inFlight.incrementAndGet();
+                long chunkIndex = index++;
+                String chunkCursor = cursor;
+                futures.add(executor.submit(() -> {
+                    try {
+                        process(job, run, chunk, () -> watermark.completed(chunkIndex, chunkCursor, chunk.size()));
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        permits.release();
+                    }
+                }));
+                if (chunk.size() < job.getChunkSize()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+        awaitAll(futures, failure);
+
+        return finish(watermark, failure.get());
+    }
+
+    public List<BatchJobStatusDto> getStatuses() {
+        return jobCheckpointRepository.findAllByOrderByNameAsc().stream().map(this::toDto).toList();
+    }
+
+    public BatchJobStatusDto getStatus(String name) {
+        return jobCheckpointRepository.findById(name).map(this::toDto).orElse(null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void process(BatchJob<T> job, BatchRun run, List<T> chunk, Runnable onCommit) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                job.processChunk(run, chunk);
+                afterCommit(onCommit);
+            });
+        } catch (RuntimeException e) {
+            if (!job.canSkip(e)) {
+                throw e;
+            }
+            log.warn("Chunk of batch job {} failed, retrying its {} items one at a time", job.getName(), chunk.size(), e);
+            for (int i = 0; i < chunk.size(); i++) {
+                T item = chunk.get(i);
+                Runnable onItemCommit = i == chunk.size() - 1 ? onCommit : () -> { };
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        job.processChunk(run, List.of(item));
+                        afterCommit(onItemCommit);
+                    });
+                } catch (RuntimeException itemFailure) {
+                    if (!job.canSkip(itemFailure)) {
+                        throw itemFailure;
+                    }
+                    transactionTemplate.executeWithoutResult(status -> {
+                        job.skip(run, item, itemFailure);
+                        afterCommit(onItemCommit);
+                    });
+                }
+            }
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures, AtomicReference<Throwable> failure) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+                return;
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            }
+        }
+    }
+
+    private JobCheckpoint start(String name, LocalDateTime now) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(name)
+                .filter(existing -> existing.getStatus() != BatchJobStatus.COMPLETED)
+                .orElseGet(() -> JobCheckpoint.builder().name(name).startedAt(now).build());
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        checkpoint.setUpdatedAt(now);
+        checkpoint.setFinishedAt(null);
+        checkpoint.setFailure(null);
+        return jobCheckpointRepository.save(checkpoint);
+    }
+
+    private BatchJobStatusDto finish(Watermark watermark, Throwable failure) {
+        synchronized (watermark) {
+            JobCheckpoint checkpoint = watermark.checkpoint;
+            checkpoint.setFinishedAt(LocalDateTime.now());
+            checkpoint.setUpdatedAt(checkpoint.getFinishedAt());
+            if (failure == null) {
+                checkpoint.setStatus(BatchJobStatus.COMPLETED);
+                log.info("Batch job {} completed: {} items in {} chunks",
+                        checkpoint.getName(), checkpoint.getItemsProcessed(), checkpoint.getChunksCompleted());
+            } else {
+                checkpoint.setStatus(BatchJobStatus.FAILED);
+                checkpoint.setFailure(truncate(String.valueOf(failure.getMessage())));
+                log.warn("Batch job {} failed after cursor {}, next run resumes from there",
+                        checkpoint.getName(), checkpoint.getCursor(), failure);
+            }
+            watermark.checkpoint = jobCheckpointRepository.save(checkpoint);
+            return toDto(watermark.checkpoint);
+        }
+    }
+
+    private BatchJobStatusDto toDto(JobCheckpoint checkpoint) {
+        AtomicInteger inFlight = chunksInFlight.get(checkpoint.getName());
+        return BatchJobStatusDto.builder()
+                .name(checkpoint.getName())
+                .status(checkpoint.getStatus())
+                .cursor(checkpoint.getCursor())
+                .chunksCompleted(checkpoint.getChunksCompleted())
+                .itemsProcessed(checkpoint.getItemsProcessed())
+                .chunksInFlight(inFlight != null ? inFlight.get() : 0)
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .finishedAt(checkpoint.getFinishedAt())
+                .failure(checkpoint.getFailure())
+                .build();
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private class Watermark {
+        private JobCheckpoint checkpoint;
+        private final TreeMap<Long, ChunkResult> pending = new TreeMap<>();
+        private long next;
+
+        private Watermark(JobCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        private synchronized void completed(long index, String cursor, int size) {
+            pending.put(index, new ChunkResult(cursor, size));
+            boolean advanced = false;
+            while (!pending.isEmpty() && pending.firstKey() == next) {
+                ChunkResult result = pending.pollFirstEntry().getValue();
+                checkpoint.setCursor(result.cursor());
+                checkpoint.setItemsProcessed(checkpoint.getItemsProcessed() + result.size());
+                checkpoint.setChunksCompleted(checkpoint.getChunksCompleted() + 1);
+                next++;
+                advanced = true;
+            }
+            if (advanced) {
+                // Only called once the chunk has committed, so a rolled-back chunk never moves the cursor.
+                checkpoint.setUpdatedAt(LocalDateTime.now());
+                checkpointTransaction.executeWithoutResult(status -> jobCheckpointRepository.advance(checkpoint.getName(),
+                        checkpoint.getCursor(), checkpoint.getChunksCompleted(), checkpoint.getItemsProcessed(),
+                        checkpoint.getUpdatedAt()));
+            }
+        }
+    }
+
+    private record ChunkResult(String cursor, int size) {
+    }
+}
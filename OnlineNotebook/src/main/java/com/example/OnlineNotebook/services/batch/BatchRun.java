@@ -0,0 +1,7 @@
+package com.example.OnlineNotebook.services.batch;
+
+import java.time.LocalDateTime;
+
+// startedAt stays fixed across resumes; attemptedAt is when the current attempt began.
+public record BatchRun(String jobName, LocalDateTime startedAt, LocalDateTime attemptedAt, boolean resumed) {
+}
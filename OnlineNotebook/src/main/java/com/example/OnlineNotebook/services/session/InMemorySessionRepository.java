@@ -0,0 +1,56 @@
+package com.example.OnlineNotebook.services.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(value = "sessions.store-type", havingValue = "memory")
+public class InMemorySessionRepository implements SessionRepository {
+    private final Map<String, SessionRecord> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public SessionRecord find(String id) {
+        SessionRecord session = sessions.get(id);
+        if (session != null && session.isExpired(LocalDateTime.now())) {
+            sessions.remove(id, session);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public void save(SessionRecord session) {
+        sessions.put(session.id(), session);
+    }
+
+    @Override
+    public void touch(String id, LocalDateTime lastAccessedAt, LocalDateTime expiresAt) {
+        sessions.computeIfPresent(id, (key, session) -> new SessionRecord(session.id(), session.principalId(),
+                session.createdAt(), lastAccessedAt, session.maxInactiveInterval(), session.attributes()));
+    }
+
+    @Override
+    public void delete(String id) {
+        sessions.remove(id);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int batchSize) {
+        List<String> expired = sessions.values().stream()
+                .filter(session -> session.isExpired(now))
+                .limit(batchSize)
+                .map(SessionRecord::id)
+                .toList();
+        expired.forEach(sessions::remove);
+        return expired.size();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.OnlineNotebook.services.session;
+
+import com.example.OnlineNotebook.models.entities.StoredSession;
+import com.example.OnlineNotebook.repositories.StoredSessionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(value = "sessions.store-type", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcSessionRepository implements SessionRepository {
+    private final StoredSessionRepository storedSessionRepository;
+
+    public JdbcSessionRepository(StoredSessionRepository storedSessionRepository) {
+        this.storedSessionRepository = storedSessionRepository;
+    }
+
+    @Override
+    public SessionRecord find(String id) {
+        StoredSession stored = storedSessionRepository.findById(id).orElse(null);
+        if (stored == null) {
+            return null;
+        }
+        if (!stored.getExpiresAt().isAfter(LocalDateTime.now())) {
+            storedSessionRepository.deleteByIdIn(List.of(id));
+            return null;
+        }
+        return new SessionRecord(stored.getId(), stored.getPrincipalId(), stored.getCreatedAt(), stored.getLastAccessedAt(),
+                Duration.ofSeconds(stored.getMaxInactiveSeconds()), stored.getAttributes());
+    }
+
+    @Override
+    public void save(SessionRecord session) {
+        storedSessionRepository.save(StoredSession.builder()
+                .id(session.id())
+                .principalId(session.principalId())
+                .createdAt(session.createdAt())
+                .lastAccessedAt(session.lastAccessedAt())
+                .maxInactiveSeconds((int) session.maxInactiveInterval().toSeconds())
+                .expiresAt(session.expiresAt())
+                .attributes(session.attributes())
+                .build());
+    }
+
+    @Override
+    public void touch(String id, LocalDateTime lastAccessedAt, LocalDateTime expiresAt) {
+        storedSessionRepository.touch(id, lastAccessedAt, expiresAt);
+    }
+
+    @Override
+    public void delete(String id) {
+        storedSessionRepository.deleteByIdIn(List.of(id));
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int batchSize) {
+        List<String> ids = storedSessionRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+        return ids.isEmpty() ? 0 : storedSessionRepository.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.OnlineNotebook.services.session;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PersistentSession implements HttpSession {
+    private final ServletContext servletContext;
+    private final LocalDateTime createdAt;
+    private final Map<String, Object> attributes;
+    private final boolean isNew;
+    private String id;
+    private LocalDateTime lastAccessedAt;
+    private Duration maxInactiveInterval;
+    private boolean invalidated;
+
+    public PersistentSession(ServletContext servletContext, String id, LocalDateTime createdAt, LocalDateTime lastAccessedAt,
+                             Duration maxInactiveInterval, Map<String, Object> attributes, boolean isNew) {
+        this.servletContext = servletContext;
+        this.id = id;
+        this.createdAt = createdAt;
+        this.lastAccessedAt = lastAccessedAt;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.attributes = new ConcurrentHashMap<>(attributes);
+        this.isNew = isNew;
+    }
+
+    @Override
+    public long getCreationTime() {
+        checkValid();
+        return toEpochMillis(createdAt);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        checkValid();
+        return toEpochMillis(lastAccessedAt);
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        maxInactiveInterval = Duration.ofSeconds(interval);
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return (int) maxInactiveInterval.toSeconds();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        checkValid();
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        checkValid();
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        checkValid();
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        checkValid();
+        attributes.remove(name);
+    }
+
+    @Override
+    public void invalidate() {
+        checkValid();
+        invalidated = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        checkValid();
+        return isNew;
+    }
+
+    public boolean isInvalidated() {
+        return invalidated;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public Duration getMaxInactiveDuration() {
+        return maxInactiveInterval;
+    }
+
+    public void changeId(String id) {
+        this.id = id;
+    }
+
+    public void setLastAccessedAt(LocalDateTime lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    private void checkValid() {
+        if (invalidated) {
+            throw new IllegalStateException("Session " + id + " has been invalidated");
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
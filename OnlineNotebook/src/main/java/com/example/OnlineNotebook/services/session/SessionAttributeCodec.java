@@ -0,0 +1,147 @@
+package com.example.OnlineNotebook.services.session;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class SessionAttributeCodec {
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(String.join(";",
+            "maxdepth=32", "maxbytes=262144", "maxarray=4096",
+            // security context, compacted to the principal and its profile snapshot
+            "com.example.OnlineNotebook.services.session.SessionAttributeCodec$StoredPrincipal",
+            "com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot",
+            "com.example.OnlineNotebook.models.enums.UserType",
+            // csrf token, saved request and flash attributes
+            "org.springframework.security.web.csrf.DefaultCsrfToken",
+            "org.springframework.security.web.savedrequest.DefaultSavedRequest",
+            "org.springframework.security.web.savedrequest.SavedCookie",
+            "org.springframework.web.servlet.FlashMap",
+            "org.springframework.util.LinkedMultiValueMap",
+            "org.springframework.util.MultiValueMapAdapter",
+            // values those types are built from
+            "java.util.ArrayList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.Map$Entry", "java.util.TreeMap",
+            "java.lang.String$CaseInsensitiveComparator", "java.util.Locale", "java.util.UUID",
+            "java.lang.Object", "java.lang.String", "java.lang.Enum", "java.lang.Number", "java.lang.Integer", "java.lang.Long", "java.lang.Boolean",
+            "!*"));
+
+    record StoredPrincipal(UUID id, String email, UserType userType, CurrentUserSnapshot profile) implements Serializable {
+    }
+
+    public byte[] encode(Map<String, Object> attributes) {
+        Map<String, byte[]> encoded = new TreeMap<>();
+        attributes.forEach((name, value) -> {
+            byte[] bytes = serialize(compact(value));
+            if (bytes == null) {
+                log.debug("Session attribute {} is not serializable and was not stored", name);
+            } else {
+                encoded.put(name, bytes);
+            }
+        });
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(encoded.size());
+            for (Map.Entry<String, byte[]> entry : encoded.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public Map<String, Object> decode(byte[] data) {
+        Map<String, Object> attributes = new TreeMap<>();
+        if (data == null || data.length == 0) {
+            return attributes;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] bytes = in.readNBytes(in.readInt());
+                Object value = deserialize(bytes);
+                if (value == null) {
+                    log.debug("Session attribute {} could not be restored and was dropped", name);
+                } else {
+                    attributes.put(name, expand(value));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Stored session attributes are corrupt, starting with an empty session", e);
+            attributes.clear();
+        }
+        return attributes;
+    }
+
+    public UUID principalId(Map<String, Object> attributes) {
+        for (Object value : attributes.values()) {
+            if (value instanceof SecurityContext context && context.getAuthentication() != null
+                    && context.getAuthentication().getPrincipal() instanceof UserData userData) {
+                return userData.getId();
+            }
+        }
+        return null;
+    }
+
+    private Object compact(Object value) {
+        if (value instanceof SecurityContext context && context.getAuthentication() != null
+                && context.getAuthentication().isAuthenticated()
+                && context.getAuthentication().getPrincipal() instanceof UserData userData) {
+            return new StoredPrincipal(userData.getId(), userData.getEmail(), userData.getUserType(), userData.getProfile());
+        }
+        return value;
+    }
+
+    private Object expand(Object value) {
+        if (value instanceof StoredPrincipal principal) {
+            UserData userData = UserData.builder()
+                    .id(principal.id())
+                    .email(principal.email())
+                    .userType(principal.userType())
+                    .profile(principal.profile())
+                    .build();
+            Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                    userData, null, userData.getAuthorities());
+            return new SecurityContextImpl(authentication);
+        }
+        return value;
+    }
+
+    private byte[] serialize(Object value) {
+        if (!(value instanceof Serializable)) {
+            return null;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            return null;
+        }
+        return buffer.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
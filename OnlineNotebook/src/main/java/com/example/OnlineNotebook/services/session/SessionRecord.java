@@ -0,0 +1,21 @@
+package com.example.OnlineNotebook.services.session;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SessionRecord(String id,
+                            UUID principalId,
+                            LocalDateTime createdAt,
+                            LocalDateTime lastAccessedAt,
+                            Duration maxInactiveInterval,
+                            byte[] attributes) {
+
+    public LocalDateTime expiresAt() {
+        return lastAccessedAt.plus(maxInactiveInterval);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt().isAfter(now);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.OnlineNotebook.services.session;
+
+import java.time.LocalDateTime;
+
+public interface SessionRepository {
+
+    SessionRecord find(String id);
+
+    void save(SessionRecord session);
+
+    void touch(String id, LocalDateTime lastAccessedAt, LocalDateTime expiresAt);
+
+    void delete(String id);
+
+    int deleteExpired(LocalDateTime now, int batchSize);
+}
@@ -0,0 +1,132 @@
+package com.example.OnlineNotebook.util;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BulkImportReader {
+    private final BufferedReader reader;
+    private final BulkImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private int rowNumber;
+
+    public BulkImportReader(Reader reader, BulkImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // Reads and checks the CSV header up front, so a bad file is rejected before any row is imported.
+    public void readHeader() {
+        if (format == BulkImportFormat.CSV && csvColumns == null) {
+            String line = nextLine();
+            csvColumns = line != null ? parseHeader(line) : Map.of();
+        }
+    }
+
+    public Row next() {
+        readHeader();
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        rowNumber++;
+        try {
+            return new Row(rowNumber, format == BulkImportFormat.CSV ? parseCsv(line) : parseJson(line), null);
+        } catch (IllegalArgumentException | IOException e) {
+            return new Row(rowNumber, null, "Could not parse row: " + e.getMessage());
+        }
+    }
+
+    private String nextLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BulkImportUserDto parseJson(String line) throws IOException {
+        return objectMapper.readValue(line, BulkImportUserDto.class);
+    }
+
+    private BulkImportUserDto parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        String userType = column(values, "usertype");
+        return BulkImportUserDto.builder()
+                .firstName(column(values, "firstname"))
+                .lastName(column(values, "lastname"))
+                .email(column(values, "email"))
+                .password(column(values, "password"))
+                .userType(userType != null ? UserType.valueOf(userType.trim().toUpperCase()) : null)
+                .studentClass(column(values, "studentclass"))
+                .build();
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = csvColumns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("email")) {
+            throw new IllegalArgumentException("CSV header must contain an email column");
+        }
+        return columns;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    public record Row(int number, BulkImportUserDto user, String error) {
+    }
+}
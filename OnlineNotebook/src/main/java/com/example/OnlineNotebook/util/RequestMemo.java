@@ -0,0 +1,50 @@
+package com.example.OnlineNotebook.util;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class RequestMemo {
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    private RequestMemo() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T computeIfAbsent(String key, Supplier<T> loader) {
+        Map<String, Object> memo = memo();
+        if (memo == null) {
+            return loader.get();
+        }
+        Object value = memo.get(key);
+        if (value == null) {
+            value = loader.get();
+            memo.put(key, value);
+        }
+        return (T) value;
+    }
+
+    public static void put(String key, Object value) {
+        Map<String, Object> memo = memo();
+        if (memo != null) {
+            memo.put(key, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> memo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.OnlineNotebook.APITest.AdminController;
+
+import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class BulkEnrollmentApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public CourseService courseService() {
+            return mock(CourseService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void transferStudents_whenAdmin_thenReturnsResult() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        when(courseService.transferStudents(List.of(studentId), courseId)).thenReturn(BulkEnrollmentResult.builder()
+                .success(true)
+                .message("Transferred 1 of 1 students")
+                .requested(1)
+                .updated(1)
+                .affectedCourseIds(Set.of(courseId))
+                .build());
+
+        mockMvc.perform(post("/api/v1/admin/enrollments/transfer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\":[\"" + studentId + "\"],\"courseId\":\"" + courseId + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.affectedCourseIds[0]").value(courseId.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void enrollStudents_whenAdmin_thenDelegatesToCourseService() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        when(courseService.enrollStudents(List.of(studentId), courseId)).thenReturn(BulkEnrollmentResult.builder().updated(1).build());
+
+        mockMvc.perform(post("/api/v1/admin/enrollments")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\":[\"" + studentId + "\"],\"courseId\":\"" + courseId + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void unenrollStudents_whenNoStudents_thenReturnsBadRequest() throws Exception {
+        when(courseService.unenrollStudents(List.of())).thenThrow(new IllegalArgumentException("At least one student ID is required"));
+
+        mockMvc.perform(post("/api/v1/admin/enrollments/unenroll")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void transferStudents_whenNotAdmin_thenForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/enrollments/transfer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\":[]}"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.OnlineNotebook.APITest.AdminController;
 
 import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
 import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
 import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -46,6 +48,11 @@ class CreateBulkUsersApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
@@ -145,6 +152,41 @@ class CreateBulkUsersApiTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createBulkUsers_whenRowsFail_thenReturnPerRowResults() throws Exception {
+        List<BulkImportUserDto> users = Arrays.asList(
+                BulkImportUserDto.builder()
+                        .firstName("Ivan")
+                        .lastName("Schweicarov")
+                        .email("existing@example.com")
+                        .password("12312312")
+                        .userType(UserType.STUDENT)
+                        .build()
+        );
+
+        BulkRegistrationResult result = BulkRegistrationResult.builder()
+                .success(false)
+                .message("Processed 1 users: 0 successful, 1 failed")
+                .results(List.of(BulkImportRowResult.builder()
+                        .row(1)
+                        .email("existing@example.com")
+                        .success(false)
+                        .message("Email already exists: existing@example.com")
+                        .build()))
+                .build();
+
+        when(userService.registerBulkUsers(any(List.class))).thenReturn(result);
+
+        mockMvc.perform(post("/api/v1/admin/users/import")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(users)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.results[0].row").value(1))
+                .andExpect(jsonPath("$.results[0].message").value("Email already exists: existing@example.com"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void createBulkUsers_whenNotAdmin_thenReturnForbidden() throws Exception {
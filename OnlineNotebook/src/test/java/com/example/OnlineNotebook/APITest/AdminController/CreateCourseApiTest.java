@@ -7,6 +7,7 @@ import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,11 @@ class CreateCourseApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
@@ -6,6 +6,7 @@ import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,11 @@ class CreateUserApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
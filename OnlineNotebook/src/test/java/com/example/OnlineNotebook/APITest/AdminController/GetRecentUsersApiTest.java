@@ -3,6 +3,7 @@ package com.example.OnlineNotebook.APITest.AdminController;
 import com.example.OnlineNotebook.controller.AdminController;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +44,11 @@ class GetRecentUsersApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
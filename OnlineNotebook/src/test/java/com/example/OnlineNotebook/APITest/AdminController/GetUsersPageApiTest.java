@@ -0,0 +1,96 @@
+package com.example.OnlineNotebook.APITest.AdminController;
+
+import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserPage;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class GetUsersPageApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public CourseService courseService() {
+            return mock(CourseService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUsersPage_whenAdmin_thenReturnsRowsAndNextCursor() throws Exception {
+        UUID courseId = UUID.randomUUID();
+        AdminUserRow row = new AdminUserRow(UUID.randomUUID(), "Ivan", "Petrov", "ivan@test.com",
+                UserType.STUDENT, courseId, "10A", LocalDateTime.of(2025, 3, 1, 10, 0));
+        when(userService.getUsersPage(UserType.STUDENT, courseId, "abc", 20)).thenReturn(new AdminUserPage(List.of(row), "next"));
+
+        mockMvc.perform(get("/api/v1/admin/users/page")
+                        .param("userType", "STUDENT")
+                        .param("courseId", courseId.toString())
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].email").value("ivan@test.com"))
+                .andExpect(jsonPath("$.users[0].courseName").value("10A"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUsersPage_whenNoParams_thenUsesDefaults() throws Exception {
+        when(userService.getUsersPage(null, null, null, 50)).thenReturn(new AdminUserPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/admin/users/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users").isEmpty());
+
+        verify(userService).getUsersPage(null, null, null, 50);
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getUsersPage_whenNotAdmin_thenForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/users/page"))
+                .andExpect(status().isForbidden());
+    }
+}
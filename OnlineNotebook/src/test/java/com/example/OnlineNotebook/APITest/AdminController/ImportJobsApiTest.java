@@ -0,0 +1,119 @@
+package com.example.OnlineNotebook.APITest.AdminController;
+
+import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class ImportJobsApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public CourseService courseService() {
+            return mock(CourseService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void submitBulkImportJob_whenAdmin_thenReturnsAcceptedWithJobId() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(userService.submitBulkImportJob(anyList())).thenReturn(jobId);
+
+        mockMvc.perform(post("/api/v1/admin/users/import/jobs")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"firstName\":\"Ivan\",\"lastName\":\"Petrov\",\"email\":\"ivan@test.com\",\"password\":\"secret\",\"userType\":\"STUDENT\"}]"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.jobId").value(jobId.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getBulkImportJob_whenAdmin_thenReturnsProgressAndFailures() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(userService.getBulkImportJob(jobId)).thenReturn(ImportJobStatusDto.builder()
+                .id(jobId)
+                .status(ImportJobStatus.RUNNING)
+                .totalRows(10)
+                .processedRows(4)
+                .succeeded(3)
+                .failed(1)
+                .failures(List.of(BulkImportRowResult.builder().row(2).email("b@test.com").message("Email already exists: b@test.com").build()))
+                .build());
+
+        mockMvc.perform(get("/api/v1/admin/users/import/jobs/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.processedRows").value(4))
+                .andExpect(jsonPath("$.failures[0].row").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getBulkImportJobs_whenAdmin_thenReturnsRecentJobs() throws Exception {
+        when(userService.getRecentBulkImportJobs()).thenReturn(List.of(
+                ImportJobStatusDto.builder().id(UUID.randomUUID()).status(ImportJobStatus.COMPLETED).totalRows(5).build()));
+
+        mockMvc.perform(get("/api/v1/admin/users/import/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$[0].totalRows").value(5));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void submitBulkImportJob_whenNotAdmin_thenReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/users/import/jobs")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.OnlineNotebook.APITest.AdminController;
+
+import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverStatusDto;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class RolloverApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public CourseService courseService() {
+            return mock(CourseService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void planRollover_whenAdmin_thenReturnsDryRunCounts() throws Exception {
+        when(courseService.planRollover("2024-2025", "2025-2026")).thenReturn(RolloverPlanDto.builder()
+                .fromYear("2024-2025")
+                .toYear("2025-2026")
+                .coursesToCreate(3)
+                .studentsToPromote(75)
+                .courses(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/v1/admin/rollover/plan")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromYear\":\"2024-2025\",\"toYear\":\"2025-2026\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coursesToCreate").value(3))
+                .andExpect(jsonPath("$.studentsToPromote").value(75));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startRollover_whenAdmin_thenReturnsAccepted() throws Exception {
+        when(courseService.startRollover("2024-2025", "2025-2026")).thenReturn(RolloverStatusDto.builder()
+                .fromYear("2024-2025")
+                .toYear("2025-2026")
+                .status(BatchJobStatus.RUNNING)
+                .step("queued")
+                .steps(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/v1/admin/rollover")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromYear\":\"2024-2025\",\"toYear\":\"2025-2026\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.step").value("queued"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startRollover_whenAlreadyRunning_thenReturnsBadRequest() throws Exception {
+        when(courseService.startRollover("2024-2025", "2025-2026"))
+                .thenThrow(new IllegalArgumentException("A school year rollover is already running"));
+
+        mockMvc.perform(post("/api/v1/admin/rollover")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromYear\":\"2024-2025\",\"toYear\":\"2025-2026\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getRolloverStatus_whenNothingStarted_thenReturnsNoContent() throws Exception {
+        when(courseService.getRolloverStatus()).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/admin/rollover"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void startRollover_whenNotAdmin_thenForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/rollover")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromYear\":\"2024-2025\",\"toYear\":\"2025-2026\"}"))
+                .andExpect(status().isForbidden());
+    }
+}
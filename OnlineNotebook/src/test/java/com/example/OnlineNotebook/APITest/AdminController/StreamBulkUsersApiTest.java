@@ -0,0 +1,111 @@
+package com.example.OnlineNotebook.APITest.AdminController;
+
+import com.example.OnlineNotebook.controller.AdminController;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import com.example.OnlineNotebook.util.BulkImportReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class StreamBulkUsersApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public CourseService courseService() {
+            return mock(CourseService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamBulkUsers_whenCsv_thenStreamsRowResultsFollowedBySummary() throws Exception {
+        BulkImportReader reader = mock(BulkImportReader.class);
+        doReturn(reader).when(userService).openBulkUsersStream(any(), eq(BulkImportFormat.CSV));
+        doAnswer(invocation -> {
+            Consumer<List<BulkImportRowResult>> sink = invocation.getArgument(1);
+            sink.accept(List.of(BulkImportRowResult.builder().row(1).email("ivan@test.com").success(true).userId(UUID.randomUUID()).build()));
+            return BulkRegistrationResult.builder().success(true).message("Processed 1 users: 1 successful, 0 failed").processed(1).succeeded(1).build();
+        }).when(userService).registerBulkUsersStream(eq(reader), any());
+
+        mockMvc.perform(post("/api/v1/admin/users/import/stream")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("firstName,lastName,email,password,userType\nIvan,Petrov,ivan@test.com,secret,STUDENT\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"email\":\"ivan@test.com\"")))
+                .andExpect(content().string(containsString("\"message\":\"Processed 1 users: 1 successful, 0 failed\"")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamBulkUsers_whenCsvHeaderIsInvalid_thenReturnsBadRequestBeforeStreaming() throws Exception {
+        doThrow(new IllegalArgumentException("CSV header must contain an email column"))
+                .when(userService).openBulkUsersStream(any(), eq(BulkImportFormat.CSV));
+        clearInvocations(userService);
+
+        mockMvc.perform(post("/api/v1/admin/users/import/stream")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("firstName,lastName\nIvan,Petrov\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$.message").value("CSV header must contain an email column"));
+        verify(userService, never()).registerBulkUsersStream(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void streamBulkUsers_whenNotAdmin_thenReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/users/import/stream")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+}
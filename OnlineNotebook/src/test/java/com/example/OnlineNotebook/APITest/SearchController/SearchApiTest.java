@@ -0,0 +1,105 @@
+package com.example.OnlineNotebook.APITest.SearchController;
+
+import com.example.OnlineNotebook.controller.SearchController;
+import com.example.OnlineNotebook.models.dtos.search.SearchResultDto;
+import com.example.OnlineNotebook.models.enums.SearchResultType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+class SearchApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public SearchIndexService searchIndexService() {
+            return mock(SearchIndexService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        reset(searchIndexService);
+    }
+
+    @Test
+    void search_whenAdmin_thenSearchesWholeIndex() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        when(searchIndexService.search("ivan", null, 20)).thenReturn(List.of(SearchResultDto.builder()
+                .type(SearchResultType.USER)
+                .id(studentId)
+                .title("Ivan Petrov")
+                .subtitle("ivan@test.com")
+                .userType(UserType.STUDENT)
+                .build()));
+
+        mockMvc.perform(get("/api/v1/search").param("q", "ivan").with(user(userData(UserType.ADMIN))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(studentId.toString()))
+                .andExpect(jsonPath("$[0].type").value("USER"))
+                .andExpect(jsonPath("$[0].title").value("Ivan Petrov"));
+    }
+
+    @Test
+    void search_whenTeacher_thenScopesSearchToTeacher() throws Exception {
+        UserData teacher = userData(UserType.TEACHER);
+        when(searchIndexService.search("10", teacher.getId(), 5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/search").param("q", "10").param("limit", "5").with(user(teacher)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+
+        verify(searchIndexService).search("10", teacher.getId(), 5);
+    }
+
+    @Test
+    void search_whenStudent_thenForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/search").param("q", "ivan").with(user(userData(UserType.STUDENT))))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(searchIndexService);
+    }
+
+    private UserData userData(UserType userType) {
+        return UserData.builder()
+                .id(UUID.randomUUID())
+                .email(userType.name().toLowerCase() + "@test.com")
+                .password("password")
+                .userType(userType)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.OnlineNotebook.APITest.TeacherController;
+
+import com.example.OnlineNotebook.controller.teacher.GradeController;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.GradeService;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(GradeController.class)
+class BearerTokenApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public GradeService gradeService() {
+            return mock(GradeService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Test
+    void getStudentGrades_whenBearerTokenValid_thenAuthenticatesWithoutSessionOrUserLookup() throws Exception {
+        UUID teacherId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        User teacher = User.builder().id(teacherId).userType(UserType.TEACHER).build();
+        when(jwtTokenService.parseAccessToken("valid-token")).thenReturn(UserData.builder()
+                .id(teacherId)
+                .email("teacher@example.com")
+                .userType(UserType.TEACHER)
+                .build());
+        when(userService.getReference(teacherId)).thenReturn(teacher);
+        when(gradeService.getStudentGradesForTeacher(eq(teacher), eq(studentId), any())).thenReturn(List.of());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/teacher/students/{studentId}/grades", studentId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+        verify(userService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void getStudentGrades_whenBearerTokenInvalid_thenReturnsUnauthorized() throws Exception {
+        when(jwtTokenService.parseAccessToken("forged-token")).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/teacher/students/{studentId}/grades", UUID.randomUUID())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer forged-token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\""));
+    }
+
+    @Test
+    void getStudentGrades_whenStudentToken_thenReturnsForbidden() throws Exception {
+        when(jwtTokenService.parseAccessToken("student-token")).thenReturn(UserData.builder()
+                .id(UUID.randomUUID())
+                .userType(UserType.STUDENT)
+                .build());
+
+        mockMvc.perform(get("/api/v1/teacher/students/{studentId}/grades", UUID.randomUUID())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer student-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getStudentGrades_whenNoCredentials_thenReturnsUnauthorizedInsteadOfLoginRedirect() throws Exception {
+        mockMvc.perform(get("/api/v1/teacher/students/{studentId}/grades", UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+    }
+}
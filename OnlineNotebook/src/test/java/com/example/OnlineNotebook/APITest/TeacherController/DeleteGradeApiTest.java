@@ -6,6 +6,7 @@ import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.security.UserData;
 import com.example.OnlineNotebook.services.GradeService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +48,11 @@ class DeleteGradeApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
@@ -78,7 +84,7 @@ class DeleteGradeApiTest {
                 .build();
 
         Authentication auth = new UsernamePasswordAuthenticationToken(userData, null, userData.getAuthorities());
-        when(userService.getById(teacherId)).thenReturn(teacher);
+        when(userService.getReference(teacherId)).thenReturn(teacher);
         doNothing().when(gradeService).deleteGradeForTeacher(eq(teacher), eq(gradeId));
 
         mockMvc.perform(delete("/api/v1/teacher/grades/{gradeId}", gradeId)
@@ -7,6 +7,7 @@ import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
 import com.example.OnlineNotebook.security.UserData;
 import com.example.OnlineNotebook.services.GradeService;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +52,11 @@ class GetStudentGradesApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
@@ -99,7 +105,7 @@ class GetStudentGradesApiTest {
         grades.add(grade1);
 
         Authentication auth = new UsernamePasswordAuthenticationToken(userData, null, userData.getAuthorities());
-        when(userService.getById(teacherId)).thenReturn(teacher);
+        when(userService.getReference(teacherId)).thenReturn(teacher);
         when(gradeService.getStudentGradesForTeacher(eq(teacher), eq(studentId), any(UUID.class)))
                 .thenReturn(grades);
 
@@ -134,7 +140,7 @@ class GetStudentGradesApiTest {
 
         List<TeacherStudentGradeDto> grades = new ArrayList<>();
         Authentication auth = new UsernamePasswordAuthenticationToken(userData, null, userData.getAuthorities());
-        when(userService.getById(teacherId)).thenReturn(teacher);
+        when(userService.getReference(teacherId)).thenReturn(teacher);
         when(gradeService.getStudentGradesForTeacher(eq(teacher), eq(studentId), eq(null)))
                 .thenReturn(grades);
 
@@ -2,6 +2,7 @@ package com.example.OnlineNotebook.APITest.UserController;
 
 import com.example.OnlineNotebook.controller.UserController;
 import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.JwtTokenService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +29,11 @@ class GetIndexApiTest {
         public AuthRoleHandler authRoleHandler() {
             return mock(AuthRoleHandler.class);
         }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
     }
 
     @Autowired
@@ -0,0 +1,94 @@
+package com.example.OnlineNotebook.APITest.UserController;
+
+import com.example.OnlineNotebook.controller.UserController;
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.models.dtos.auth.AccessTokenDto;
+import com.example.OnlineNotebook.models.dtos.auth.LoginDto;
+import com.example.OnlineNotebook.security.AuthRoleHandler;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserController.class)
+class IssueTokenApiTest {
+
+    @TestConfiguration
+    static class MockConfiguration {
+        @Bean
+        public UserService userService() {
+            return mock(UserService.class);
+        }
+
+        @Bean
+        public AuthRoleHandler authRoleHandler() {
+            return mock(AuthRoleHandler.class);
+        }
+
+        @Bean
+        public JwtTokenService jwtTokenService() {
+            return mock(JwtTokenService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void issueToken_whenCredentialsValid_thenReturnsBearerTokenWithoutSession() throws Exception {
+        when(userService.issueAccessToken(any(LoginDto.class), any())).thenReturn(AccessTokenDto.builder()
+                .accessToken("signed-token")
+                .tokenType("Bearer")
+                .expiresIn(3600)
+                .build());
+
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"teacher@example.com\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("signed-token"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(3600))
+                .andExpect(request().sessionAttributeDoesNotExist("SPRING_SECURITY_CONTEXT"));
+    }
+
+    @Test
+    void issueToken_whenCredentialsInvalid_thenReturnsUnauthorizedWithChallenge() throws Exception {
+        when(userService.issueAccessToken(any(LoginDto.class), any()))
+                .thenThrow(new BadCredentialsException("Invalid email or password"));
+
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"teacher@example.com\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer"))
+                .andExpect(content().string("Invalid email or password"));
+    }
+
+    @Test
+    void issueToken_whenRateLimited_thenReturnsTooManyRequests() throws Exception {
+        when(userService.issueAccessToken(any(LoginDto.class), any()))
+                .thenThrow(new TooManyRequestsException("Too many login attempts, please try again later"));
+
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"teacher@example.com\",\"password\":\"guess\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().string("Too many login attempts, please try again later"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.OnlineNotebook.Benchmark;
+
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares validating one bearer token with a new parser per call (the old path), a shared parser, and the digest-keyed cache.
+// Run with: java -cp <test classpath> com.example.OnlineNotebook.Benchmark.JwtTokenServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256";
+
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private JwtTokenService jwtTokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(secretKey).build();
+        jwtTokenService = new JwtTokenService(SECRET, 1, 10000);
+        token = jwtTokenService.generateAccessToken(UserData.builder()
+                .id(UUID.randomUUID())
+                .email("student@example.com")
+                .userType(UserType.STUDENT)
+                .build());
+        jwtTokenService.isValidToken(token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jwtTokenService.close();
+    }
+
+    @Benchmark
+    public Claims newParserPerCall() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public boolean cachedDigestLookup() {
+        return jwtTokenService.isValidToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtTokenServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.OnlineNotebook.IntegrationTest.AssignmentSchedulerService;
+
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.JobCheckpoint;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.models.enums.AssignmentType;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.AssignmentSchedulerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "assignments.status-update.chunk-size=2")
+class AssignmentSchedulerServiceITest {
+
+    @Autowired
+    private AssignmentSchedulerService assignmentSchedulerService;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private User teacher;
+    private Course course;
+    private Course otherCourse;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .firstName("Ivan")
+                .lastName("Blagoev")
+                .email("scheduler." + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .userType(UserType.TEACHER)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        course = courseRepository.save(Course.builder()
+                .name("10A")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .subjects(List.of())
+                .build());
+        otherCourse = courseRepository.save(Course.builder()
+                .name("10B")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .subjects(List.of())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        assignmentRepository.deleteAll(assignmentRepository.findByCreatedByOrderByAssignedDateDesc(teacher));
+        courseRepository.deleteAll(List.of(course, otherCourse));
+        userRepository.delete(teacher);
+        jobCheckpointRepository.deleteAll();
+    }
+
+    @Test
+    void updateAssignmentStatuses_whenAssignmentsAreOverdue_thenMarksOnlyThoseAsMissed() {
+        Assignment overdue = save(course, LocalDateTime.now().minusDays(1), null);
+        Assignment turnedIn = save(course, LocalDateTime.now().minusDays(1), AssignmentStatus.TURNED_IN);
+        Assignment upcoming = save(otherCourse, LocalDateTime.now().plusDays(1), null);
+
+        Set<UUID> affectedCourseIds = assignmentSchedulerService.updateAssignmentStatuses();
+
+        assertTrue(affectedCourseIds.contains(course.getId()));
+        assertFalse(affectedCourseIds.contains(otherCourse.getId()));
+        assertEquals(AssignmentStatus.MISSED, assignmentRepository.findById(overdue.getId()).orElseThrow().getStatus());
+        assertEquals(AssignmentStatus.TURNED_IN, assignmentRepository.findById(turnedIn.getId()).orElseThrow().getStatus());
+        assertNull(assignmentRepository.findById(upcoming.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateAssignmentStatuses_whenRunTwice_thenSecondRunFindsNothing() {
+        save(course, LocalDateTime.now().minusHours(2), null);
+
+        assignmentSchedulerService.updateAssignmentStatuses();
+
+        assertTrue(assignmentSchedulerService.updateAssignmentStatuses().isEmpty());
+    }
+
+    @Test
+    void updateAssignmentStatuses_whenMoreRowsThanChunkSize_thenProcessesEveryChunkAndRecordsCheckpoint() {
+        for (int i = 0; i < 5; i++) {
+            save(i % 2 == 0 ? course : otherCourse, LocalDateTime.now().minusDays(1), null);
+        }
+
+        Set<UUID> affectedCourseIds = assignmentSchedulerService.updateAssignmentStatuses();
+
+        assertEquals(Set.of(course.getId(), otherCourse.getId()), affectedCourseIds);
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(AssignmentSchedulerService.STATUS_UPDATE_JOB).orElseThrow();
+        assertEquals(BatchJobStatus.COMPLETED, checkpoint.getStatus());
+        assertEquals(5, checkpoint.getItemsProcessed());
+        assertTrue(assignmentRepository.findByCreatedByOrderByAssignedDateDesc(teacher).stream()
+                .allMatch(assignment -> assignment.getStatus() == AssignmentStatus.MISSED));
+    }
+
+    private Assignment save(Course course, LocalDateTime dueDate, AssignmentStatus status) {
+        return assignmentRepository.save(Assignment.builder()
+                .title("Homework")
+                .type(AssignmentType.HOMEWORK)
+                .dueDate(dueDate)
+                .assignedDate(dueDate.minusDays(7))
+                .status(status)
+                .course(course)
+                .createdBy(teacher)
+                .build());
+    }
+}
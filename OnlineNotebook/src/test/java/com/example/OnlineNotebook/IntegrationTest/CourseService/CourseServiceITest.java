@@ -2,6 +2,7 @@ package com.example.OnlineNotebook.IntegrationTest.CourseService;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
 import com.example.OnlineNotebook.models.dtos.course.CourseDto;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.SubjectType;
@@ -232,12 +233,12 @@ public class CourseServiceITest {
         entityManager.clear();
 
         teacher = userRepository.findById(teacher.getId()).orElse(null);
-        List<Course> courses = courseService.getCoursesByTeacher(teacher);
+        List<CourseSnapshot> courses = courseService.getCoursesByTeacher(teacher);
 
         assertNotNull(courses);
         assertTrue(courses.size() >= 2);
-        assertTrue(courses.stream().anyMatch(c -> c.getId().equals(course1Id)));
-        assertTrue(courses.stream().anyMatch(c -> c.getId().equals(course2Id)));
+        assertTrue(courses.stream().anyMatch(c -> c.id().equals(course1Id)));
+        assertTrue(courses.stream().anyMatch(c -> c.id().equals(course2Id)));
     }
 
     @Test
@@ -256,7 +257,7 @@ public class CourseServiceITest {
         entityManager.clear();
 
         newTeacher = userRepository.findById(newTeacher.getId()).orElse(null);
-        List<Course> courses = courseService.getCoursesByTeacher(newTeacher);
+        List<CourseSnapshot> courses = courseService.getCoursesByTeacher(newTeacher);
 
         assertNotNull(courses);
         assertTrue(courses.isEmpty());
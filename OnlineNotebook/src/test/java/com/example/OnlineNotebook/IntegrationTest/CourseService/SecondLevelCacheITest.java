@@ -0,0 +1,111 @@
+package com.example.OnlineNotebook.IntegrationTest.CourseService;
+
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.CourseService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheITest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User teacher;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        teacher = userRepository.save(User.builder()
+                .firstName("Ivan")
+                .lastName("Blagoev")
+                .email("l2." + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .userType(UserType.TEACHER)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        course = courseRepository.save(Course.builder()
+                .name("Test Kurs")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .subjects(List.of(SubjectType.MATH, SubjectType.SCIENCE))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteById(course.getId());
+        userRepository.deleteById(teacher.getId());
+    }
+
+    @Test
+    void getCourseById_whenLoadedAgain_thenShouldBeServedFromSecondLevelCache() {
+        courseService.getCourseById(course.getId());
+        long courseHits = region("entity.course").getHitCount();
+        long subjectHits = region("entity.course.subjects").getHitCount();
+
+        Course result = courseService.getCourseById(course.getId());
+
+        assertEquals(List.of(SubjectType.MATH, SubjectType.SCIENCE), result.getSubjects());
+        assertEquals(courseHits + 1, region("entity.course").getHitCount());
+        assertEquals(subjectHits + 1, region("entity.course.subjects").getHitCount());
+    }
+
+    @Test
+    void findUserById_whenLoadedAgain_thenShouldBeServedFromSecondLevelCache() {
+        userRepository.findById(teacher.getId());
+        long userHits = region("entity.user").getHitCount();
+
+        User result = userRepository.findById(teacher.getId()).orElseThrow();
+
+        assertEquals(teacher.getEmail(), result.getEmail());
+        assertEquals(userHits + 1, region("entity.user").getHitCount());
+    }
+
+    @Test
+    void getCourseById_whenCourseIsUpdated_thenShouldReturnFreshState() {
+        courseService.getCourseById(course.getId());
+
+        Course loaded = courseService.getCourseById(course.getId());
+        loaded.setName("Renamed Kurs");
+        courseRepository.save(loaded);
+
+        assertEquals("Renamed Kurs", courseService.getCourseById(course.getId()).getName());
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+}
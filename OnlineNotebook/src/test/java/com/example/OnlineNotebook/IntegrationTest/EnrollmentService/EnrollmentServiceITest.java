@@ -0,0 +1,110 @@
+package com.example.OnlineNotebook.IntegrationTest.EnrollmentService;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EnrollmentService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentServiceITest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private User teacher;
+    private Course from;
+    private Course to;
+    private List<User> students;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(user("enroll.teacher@test.com", UserType.TEACHER, null));
+        from = courseRepository.save(Course.builder().name("Enroll-From").schoolYear("2024-2025").teacher(teacher).build());
+        to = courseRepository.save(Course.builder().name("Enroll-To").schoolYear("2024-2025").teacher(teacher).build());
+        students = userRepository.saveAll(List.of(
+                user("enroll.student1@test.com", UserType.STUDENT, from),
+                user("enroll.student2@test.com", UserType.STUDENT, from),
+                user("enroll.student3@test.com", UserType.STUDENT, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(students);
+        courseRepository.deleteAll(List.of(from, to));
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    void transfer_whenStudentsMove_thenRosterCachesReflectNewCourses() {
+        assertEquals(2, userService.getStudentsByCourse(from.getId()).size());
+        assertEquals(0, userService.getStudentsByCourse(to.getId()).size());
+
+        BulkEnrollmentResult result = enrollmentService.transfer(
+                List.of(students.get(0).getId(), students.get(2).getId()), to.getId());
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of("enroll.student2@test.com"),
+                userService.getStudentsByCourse(from.getId()).stream().map(StudentSnapshot::email).toList());
+        assertEquals(2, userService.getStudentsByCourse(to.getId()).size());
+        User moved = userRepository.findById(students.get(2).getId()).orElseThrow();
+        assertEquals("Enroll-To", moved.getStudentClass());
+    }
+
+    @Test
+    void enroll_whenSomeStudentsAlreadyHaveCourse_thenOnlyAssignsUnenrolledOnes() {
+        BulkEnrollmentResult result = enrollmentService.enroll(students.stream().map(User::getId).toList(), to.getId());
+
+        assertFalse(result.isSuccess());
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, userRepository.findByCourseIdAndUserType(from.getId(), UserType.STUDENT).size());
+    }
+
+    @Test
+    void unenroll_whenStudentsEnrolled_thenClearsCourseAndClass() {
+        BulkEnrollmentResult result = enrollmentService.unenroll(List.of(students.get(0).getId(), students.get(1).getId(), teacher.getId()));
+
+        assertEquals(2, result.getUpdated());
+        assertTrue(userService.getStudentsByCourse(from.getId()).isEmpty());
+        User unenrolled = userRepository.findById(students.get(0).getId()).orElseThrow();
+        assertNull(unenrolled.getCourse());
+        assertNull(unenrolled.getStudentClass());
+    }
+
+    private User user(String email, UserType userType, Course course) {
+        return User.builder()
+                .firstName("Enroll")
+                .lastName("Test")
+                .email(email)
+                .password("password")
+                .userType(userType)
+                .course(course)
+                .studentClass(course != null ? course.getName() : null)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.OnlineNotebook.IntegrationTest.GradeService;
+
+import com.example.OnlineNotebook.models.dtos.teacher.grade.UpdateGradeFeedbackDto;
+import com.example.OnlineNotebook.models.dtos.teacher.student.TeacherStudentGradeDto;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.Grade;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.GradeLetter;
+import com.example.OnlineNotebook.models.enums.GradeType;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.GradeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class GradeOwnershipITest {
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GradeRepository gradeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User teacher;
+    private User otherTeacher;
+    private User ownStudent;
+    private User otherStudent;
+    private User unassignedStudent;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        teacher = userRepository.save(user("Ivan", UserType.TEACHER, null));
+        otherTeacher = userRepository.save(user("Krum", UserType.TEACHER, null));
+        Course course = courseRepository.save(course("10A", teacher));
+        Course otherCourse = courseRepository.save(course("11A", otherTeacher));
+        ownStudent = userRepository.save(user("Petar", UserType.STUDENT, course));
+        otherStudent = userRepository.save(user("Maria", UserType.STUDENT, otherCourse));
+        unassignedStudent = userRepository.save(user("Georgi", UserType.STUDENT, null));
+    }
+
+    @Test
+    void deleteGradeForTeacher_whenTeacherOnlyGradedStudentOfAnotherCourse_thenDeletesWithoutLoadingEntities() {
+        UUID gradeId = saveGrade(otherStudent, teacher, LocalDateTime.now()).getId();
+        prepare();
+
+        gradeService.deleteGradeForTeacher(teacher, gradeId);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(gradeRepository.existsById(gradeId));
+    }
+
+    @Test
+    void updateGradeFeedback_whenTeacherOwnsCourseButDidNotGrade_thenUpdatesWithoutLoadingEntities() {
+        UUID gradeId = saveGrade(ownStudent, otherTeacher, LocalDateTime.now()).getId();
+        prepare();
+
+        gradeService.updateGradeFeedback(teacher, gradeId, UpdateGradeFeedbackDto.builder().feedback(" Well done ").build());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals("Well done", gradeRepository.findById(gradeId).orElseThrow().getFeedback());
+    }
+
+    @Test
+    void updateGradeFeedback_whenStudentHasNoCourseAndOtherTeacherGraded_thenLeavesGradeUnchanged() {
+        Grade grade = saveGrade(unassignedStudent, otherTeacher, LocalDateTime.now());
+        grade.setFeedback("Original");
+        UUID gradeId = gradeRepository.save(grade).getId();
+        prepare();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> gradeService.updateGradeFeedback(teacher, gradeId, UpdateGradeFeedbackDto.builder().feedback("Changed").build()));
+
+        assertEquals("You are not allowed to update this grade", exception.getMessage());
+        assertEquals("Original", gradeRepository.findById(gradeId).orElseThrow().getFeedback());
+    }
+
+    @Test
+    void deleteGradeForTeacher_whenTeacherNeitherOwnsCourseNorGraded_thenKeepsGrade() {
+        UUID gradeId = saveGrade(otherStudent, otherTeacher, LocalDateTime.now()).getId();
+        prepare();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> gradeService.deleteGradeForTeacher(teacher, gradeId));
+
+        assertEquals("You are not allowed to delete this grade", exception.getMessage());
+        assertTrue(gradeRepository.existsById(gradeId));
+    }
+
+    @Test
+    void getStudentGradesForTeacher_whenTeacherOwnsCourse_thenReturnsNewestFirstWithGraderNames() {
+        saveGrade(ownStudent, teacher, LocalDateTime.now().minusDays(3));
+        saveGrade(ownStudent, otherTeacher, LocalDateTime.now().minusDays(1));
+        prepare();
+
+        List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(
+                userRepository.getReferenceById(teacher.getId()), ownStudent.getId(), null);
+
+        assertEquals(2, result.size());
+        assertEquals("Krum Teacher", result.get(0).getGradedBy());
+        assertEquals("Ivan Teacher", result.get(1).getGradedBy());
+    }
+
+    private void prepare() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Grade saveGrade(User student, User gradedBy, LocalDateTime dateGraded) {
+        return gradeRepository.save(Grade.builder()
+                .student(student)
+                .subjectType(SubjectType.MATH)
+                .gradeType(GradeType.TEST)
+                .gradeLetter(GradeLetter.GOOD)
+                .gradedBy(gradedBy)
+                .dateGraded(dateGraded)
+                .build());
+    }
+
+    private User user(String firstName, UserType userType, Course course) {
+        return User.builder()
+                .firstName(firstName)
+                .lastName(userType == UserType.TEACHER ? "Teacher" : "Student")
+                .email(firstName.toLowerCase() + "." + UUID.randomUUID() + "@test.com")
+                .password("password")
+                .userType(userType)
+                .course(course)
+                .build();
+    }
+
+    private Course course(String name, User owner) {
+        return Course.builder()
+                .name(name)
+                .description("Ownership Course")
+                .schoolYear("2024-2025")
+                .teacher(owner)
+                .subjects(List.of(SubjectType.MATH))
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.OnlineNotebook.IntegrationTest.ImportJobService;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.entities.ImportJob;
+import com.example.OnlineNotebook.models.entities.ImportJobRow;
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ImportJobRepository;
+import com.example.OnlineNotebook.repositories.ImportJobRowRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.JobLeaseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
+import com.example.OnlineNotebook.services.ImportJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "users.import.batch-size=2")
+@ActiveProfiles("test")
+class ImportJobServiceITest {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportJobRowRepository importJobRowRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmailIndexService emailIndexService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        importJobRowRepository.deleteAll();
+        importJobRepository.deleteAll();
+        jobCheckpointRepository.deleteAll();
+        jobLeaseRepository.deleteAll();
+        userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@import-job.test"))
+                .forEach(userRepository::delete);
+    }
+
+    @Test
+    void submit_whenJobRunsInBackground_thenImportsUsersAndRecordsProgress() throws Exception {
+        List<BulkImportUserDto> users = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> user("user" + i + "@import-job.test"))
+                .collect(Collectors.toList());
+        users.add(user("USER1@import-job.test"));
+
+        UUID jobId = importJobService.submit(users);
+        ImportJobStatusDto status = awaitFinished(jobId);
+
+        assertEquals(ImportJobStatus.COMPLETED, status.getStatus());
+        assertEquals(6, status.getTotalRows());
+        assertEquals(6, status.getProcessedRows());
+        assertEquals(5, status.getSucceeded());
+        assertEquals(1, status.getFailed());
+        assertEquals(6, status.getFailures().get(0).getRow());
+        assertTrue(userRepository.existsByEmail("user5@import-job.test"));
+        assertTrue(importJobRowRepository.findAll().stream().allMatch(row -> row.isProcessed() && row.getPayload() == null));
+    }
+
+    @Test
+    void run_whenJobWasInterrupted_thenProcessesOnlyRemainingRows() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.RUNNING)
+                .totalRows(3)
+                .processedRows(1)
+                .succeeded(1)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        importJobRowRepository.saveAll(List.of(
+                ImportJobRow.builder().jobId(job.getId()).rowNumber(1).email("done@import-job.test")
+                        .processed(true).success(true).build(),
+                pending(job.getId(), 2, "second@import-job.test"),
+                pending(job.getId(), 3, "third@import-job.test")));
+
+        importJobService.run(job.getId());
+
+        ImportJobStatusDto status = importJobService.getJob(job.getId());
+        assertEquals(ImportJobStatus.COMPLETED, status.getStatus());
+        assertEquals(3, status.getProcessedRows());
+        assertEquals(3, status.getSucceeded());
+        assertFalse(userRepository.existsByEmail("done@import-job.test"));
+        assertTrue(userRepository.existsByEmail("second@import-job.test"));
+        assertTrue(userRepository.existsByEmail("third@import-job.test"));
+    }
+
+    @Test
+    void run_whenEmailIsTakenAfterTheExistenceCheck_thenSkipsOnlyThatRow() throws Exception {
+        emailIndexService.rebuild();
+        LocalDateTime now = LocalDateTime.now();
+        // Inserted behind the entity listeners, like a registration on another node the local email index has not seen.
+        jdbcTemplate.update("insert into users (id, first_name, last_name, password, email, user_type, created_at, updated_at) " +
+                "values (?, 'Taken', 'User', 'encoded', 'taken@import-job.test', 'STUDENT', ?, ?)", UUID.randomUUID(), now, now);
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .totalRows(3)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        importJobRowRepository.saveAll(List.of(
+                pending(job.getId(), 1, "first@import-job.test"),
+                pending(job.getId(), 2, "taken@import-job.test"),
+                pending(job.getId(), 3, "third@import-job.test")));
+
+        importJobService.run(job.getId());
+
+        ImportJobStatusDto status = importJobService.getJob(job.getId());
+        assertEquals(ImportJobStatus.COMPLETED, status.getStatus());
+        assertEquals(3, status.getProcessedRows());
+        assertEquals(2, status.getSucceeded());
+        assertEquals(1, status.getFailed());
+        assertEquals(2, status.getFailures().get(0).getRow());
+        assertTrue(status.getFailures().get(0).getMessage().contains("taken@import-job.test"));
+        assertTrue(userRepository.existsByEmail("first@import-job.test"));
+        assertTrue(userRepository.existsByEmail("third@import-job.test"));
+    }
+
+    @Test
+    void run_whenJobFails_thenClearsStoredPayloads() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .totalRows(3)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        importJobRowRepository.saveAll(List.of(
+                ImportJobRow.builder().jobId(job.getId()).rowNumber(1).email("broken@import-job.test").payload("{not json").build(),
+                pending(job.getId(), 2, "second@import-job.test"),
+                pending(job.getId(), 3, "third@import-job.test")));
+
+        importJobService.run(job.getId());
+
+        assertEquals(ImportJobStatus.FAILED, importJobService.getJob(job.getId()).getStatus());
+        assertTrue(importJobRowRepository.findAll().stream()
+                .filter(row -> row.getJobId().equals(job.getId()))
+                .allMatch(row -> row.getPayload() == null));
+    }
+
+    private ImportJobRow pending(UUID jobId, int rowNumber, String email) throws Exception {
+        return ImportJobRow.builder()
+                .jobId(jobId)
+                .rowNumber(rowNumber)
+                .email(email)
+                .payload(objectMapper.writeValueAsString(user(email)))
+                .build();
+    }
+
+    private ImportJobStatusDto awaitFinished(UUID jobId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            ImportJobStatusDto status = importJobService.getJob(jobId);
+            if (status.getStatus() == ImportJobStatus.COMPLETED || status.getStatus() == ImportJobStatus.FAILED) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        fail("Import job " + jobId + " did not finish");
+        return null;
+    }
+
+    private BulkImportUserDto user(String email) {
+        return BulkImportUserDto.builder()
+                .firstName("Ivan")
+                .lastName("Petrov")
+                .email(email)
+                .password("password123")
+                .userType(UserType.STUDENT)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.OnlineNotebook.IntegrationTest.JdbcSessionRepository;
+
+import com.example.OnlineNotebook.repositories.StoredSessionRepository;
+import com.example.OnlineNotebook.services.session.JdbcSessionRepository;
+import com.example.OnlineNotebook.services.session.SessionRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcSessionRepositoryITest {
+
+    @Autowired
+    private StoredSessionRepository storedSessionRepository;
+
+    private JdbcSessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = new JdbcSessionRepository(storedSessionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storedSessionRepository.deleteAll();
+    }
+
+    @Test
+    void save_whenSessionStored_thenFindReturnsAttributesAndPrincipal() {
+        UUID principalId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        sessionRepository.save(new SessionRecord("session-1", principalId, now, now, Duration.ofMinutes(30), new byte[]{1, 2, 3}));
+
+        SessionRecord found = sessionRepository.find("session-1");
+
+        assertNotNull(found);
+        assertEquals(principalId, found.principalId());
+        assertEquals(Duration.ofMinutes(30), found.maxInactiveInterval());
+        assertArrayEquals(new byte[]{1, 2, 3}, found.attributes());
+    }
+
+    @Test
+    void find_whenSessionExpired_thenReturnsNullAndDeletesIt() {
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+        sessionRepository.save(new SessionRecord("stale", null, past, past, Duration.ofMinutes(30), new byte[0]));
+
+        assertNull(sessionRepository.find("stale"));
+        assertFalse(storedSessionRepository.existsById("stale"));
+    }
+
+    @Test
+    void touch_whenSessionAccessed_thenExtendsExpiry() {
+        LocalDateTime created = LocalDateTime.now().minusMinutes(29);
+        sessionRepository.save(new SessionRecord("active", null, created, created, Duration.ofMinutes(30), new byte[0]));
+        LocalDateTime now = LocalDateTime.now();
+
+        sessionRepository.touch("active", now, now.plusMinutes(30));
+
+        assertTrue(storedSessionRepository.findById("active").orElseThrow().getExpiresAt().isAfter(now.plusMinutes(29)));
+    }
+
+    @Test
+    void deleteExpired_whenMoreExpiredThanBatch_thenDeletesOneBatchAndKeepsLiveSessions() {
+        LocalDateTime past = LocalDateTime.now().minusHours(2);
+        for (int i = 0; i < 5; i++) {
+            sessionRepository.save(new SessionRecord("expired-" + i, null, past, past, Duration.ofMinutes(30), new byte[0]));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        sessionRepository.save(new SessionRecord("live", null, now, now, Duration.ofMinutes(30), new byte[0]));
+
+        assertEquals(3, sessionRepository.deleteExpired(now, 3));
+        assertEquals(2, sessionRepository.deleteExpired(now, 3));
+        assertEquals(0, sessionRepository.deleteExpired(now, 3));
+        assertTrue(storedSessionRepository.existsById("live"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.OnlineNotebook.IntegrationTest.JobLeaseService;
+
+import com.example.OnlineNotebook.repositories.JobLeaseRepository;
+import com.example.OnlineNotebook.services.JobLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobLeaseServiceITest {
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private List<JobLeaseService> nodes;
+
+    @BeforeEach
+    void setUp() {
+        nodes = List.of(node("node-a"), node("node-b"), node("node-c"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteAll();
+    }
+
+    @Test
+    void runExclusively_whenAllNodesTriggerAtOnce_thenJobRunsOnExactlyOneNode() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Boolean> results = runOnAllNodes(node -> {
+            start.await();
+            return node.runExclusively("nightly", runs::incrementAndGet);
+        }, start);
+
+        assertEquals(1, runs.get());
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    void runExclusively_whenLeaseIsStillHeldAfterRun_thenSameTriggerIsNotRepeatedElsewhere() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(nodes.get(0).runExclusively("nightly", runs::incrementAndGet));
+        assertFalse(nodes.get(1).runExclusively("nightly", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void tryAcquire_whenLeaseExpired_thenAnotherNodeTakesOver() {
+        assertTrue(nodes.get(0).tryAcquire("nightly", Duration.ofMinutes(5)));
+        assertFalse(nodes.get(1).tryAcquire("nightly", Duration.ofMinutes(5)));
+
+        nodes.get(0).release("nightly", LocalDateTime.now().minusSeconds(1));
+
+        assertTrue(nodes.get(1).tryAcquire("nightly", Duration.ofMinutes(5)));
+        assertEquals("node-b", jobLeaseRepository.findById("nightly").orElseThrow().getOwner());
+    }
+
+    @Test
+    void runPartitioned_whenNodesRunConcurrently_thenEachPartitionIsProcessedExactlyOnce() throws Exception {
+        int partitions = 8;
+        Map<Integer, String> processedBy = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Integer> claimed = runOnAllNodes(node -> {
+            start.await();
+            return node.runPartitioned("status-update", partitions, partition -> {
+                if (processedBy.putIfAbsent(partition, node.getNodeId()) != null) {
+                    duplicates.incrementAndGet();
+                }
+                sleep();
+            });
+        }, start);
+
+        assertEquals(0, duplicates.get());
+        assertEquals(partitions, processedBy.size());
+        assertEquals(partitions, claimed.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private <T> List<T> runOnAllNodes(NodeTask<T> task, CountDownLatch start) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        try {
+            List<Future<T>> futures = nodes.stream()
+                    .map(node -> executor.submit((Callable<T>) () -> task.run(node)))
+                    .toList();
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JobLeaseService node(String nodeId) {
+        return new JobLeaseService(jobLeaseRepository, nodeId, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface NodeTask<T> {
+        T run(JobLeaseService node) throws Exception;
+    }
+}
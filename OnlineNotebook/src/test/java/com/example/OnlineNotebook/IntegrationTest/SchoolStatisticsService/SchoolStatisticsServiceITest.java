@@ -0,0 +1,106 @@
+package com.example.OnlineNotebook.IntegrationTest.SchoolStatisticsService;
+
+import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
+import com.example.OnlineNotebook.models.dtos.course.CourseDto;
+import com.example.OnlineNotebook.models.dtos.teacher.home.SchoolStatisticsDto;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.CourseService;
+import com.example.OnlineNotebook.services.SchoolStatisticsService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchoolStatisticsServiceITest {
+
+    @Autowired
+    private SchoolStatisticsService schoolStatisticsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        schoolStatisticsService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail("stats.teacher@test.com").ifPresent(teacher -> {
+            courseRepository.deleteAll(courseRepository.findByTeacher(teacher));
+            userRepository.delete(teacher);
+        });
+        userRepository.findByEmail("stats.student@test.com").ifPresent(userRepository::delete);
+        schoolStatisticsService.reconcile();
+    }
+
+    @Test
+    void getStatistics_whenUsersAndCoursesAreCreated_thenCountsFollowCommittedEvents() {
+        SchoolStatisticsDto before = schoolStatisticsService.getStatistics(null);
+
+        userService.registerUser(register("stats.teacher@test.com", UserType.TEACHER));
+        userService.registerUser(register("stats.student@test.com", UserType.STUDENT));
+        User teacher = userRepository.findByEmail("stats.teacher@test.com").orElseThrow();
+        courseService.createCourse(CourseDto.builder()
+                .name("Stats 10A")
+                .schoolYear("2025-2026")
+                .teacherId(teacher.getId())
+                .subjects(List.of())
+                .build());
+
+        SchoolStatisticsDto after = schoolStatisticsService.getStatistics(teacher.getId());
+        assertEquals(before.getTotalStudents() + 1, after.getTotalStudents());
+        assertEquals(before.getTotalTeachers() + 1, after.getTotalTeachers());
+        assertEquals(before.getActiveClasses() + 1, after.getActiveClasses());
+        assertEquals(1, after.getTeacherClasses());
+    }
+
+    @Test
+    void getStatistics_whenRegistrationRollsBack_thenCountsAreUnchanged() {
+        SchoolStatisticsDto before = schoolStatisticsService.getStatistics(null);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.registerUser(register("stats.student@test.com", UserType.STUDENT));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before.getTotalStudents(), schoolStatisticsService.getStatistics(null).getTotalStudents());
+        assertFalse(userRepository.existsByEmail("stats.student@test.com"));
+    }
+
+    private RegisterDto register(String email, UserType userType) {
+        return RegisterDto.builder()
+                .firstName("Stats")
+                .lastName("User")
+                .email(email)
+                .password("password123")
+                .userType(userType)
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.OnlineNotebook.IntegrationTest.SchoolYearRolloverService;
+
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverStatusDto;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.Grade;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.models.enums.GradeLetter;
+import com.example.OnlineNotebook.models.enums.GradeType;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.AssignmentService;
+import com.example.OnlineNotebook.services.SchoolYearRolloverService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchoolYearRolloverServiceITest {
+    private static final String FROM_YEAR = "2090-2091";
+    private static final String TO_YEAR = "2091-2092";
+
+    @Autowired
+    private SchoolYearRolloverService rolloverService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private GradeRepository gradeRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private ArchivedGradeRepository archivedGradeRepository;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User teacher;
+    private Course eleventh;
+    private Course twelfth;
+    private List<User> students;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(user("rollover.teacher@test.com", UserType.TEACHER, null));
+        eleventh = courseRepository.save(Course.builder().name("11R").schoolYear(FROM_YEAR).teacher(teacher).build());
+        twelfth = courseRepository.save(Course.builder().name("12R").schoolYear(FROM_YEAR).teacher(teacher).build());
+        students = userRepository.saveAll(List.of(
+                user("rollover.student1@test.com", UserType.STUDENT, eleventh),
+                user("rollover.student2@test.com", UserType.STUDENT, eleventh),
+                user("rollover.student3@test.com", UserType.STUDENT, twelfth)));
+        gradeRepository.save(Grade.builder()
+                .student(students.get(0))
+                .gradedBy(teacher)
+                .subjectType(SubjectType.MATH)
+                .gradeType(GradeType.END_OF_YEAR_EXAM)
+                .gradeLetter(GradeLetter.EXCELLENT)
+                .dateGraded(LocalDateTime.now().minusDays(1))
+                .build());
+        assignmentRepository.save(Assignment.builder()
+                .title("Rollover essay")
+                .dueDate(LocalDateTime.now().minusDays(3))
+                .assignedDate(LocalDateTime.now().minusDays(10))
+                .createdBy(teacher)
+                .course(eleventh)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        students.forEach(student -> {
+            jdbcTemplate.update("delete from grade where student_id = ?", student.getId());
+            jdbcTemplate.update("delete from grade_archive where student_id = ?", student.getId());
+        });
+        jdbcTemplate.update("delete from assignment where created_by_id = ?", teacher.getId());
+        jdbcTemplate.update("delete from assignment_archive where created_by_id = ?", teacher.getId());
+        userRepository.deleteAll(students);
+        courseRepository.deleteAll(courseRepository.findActiveBySchoolYear(TO_YEAR));
+        courseRepository.deleteAll(List.of(eleventh, twelfth));
+        userRepository.delete(teacher);
+        jobCheckpointRepository.deleteAll();
+    }
+
+    @Test
+    void plan_whenDryRun_thenLeavesDataUntouched() {
+        RolloverPlanDto plan = rolloverService.plan(FROM_YEAR, TO_YEAR);
+
+        assertEquals(1, plan.getCoursesToCreate());
+        assertEquals(2, plan.getCoursesToArchive());
+        assertEquals(2, plan.getStudentsToPromote());
+        assertEquals(1, plan.getStudentsToGraduate());
+        assertTrue(plan.getGradesToArchive() >= 1);
+        assertEquals(1, plan.getAssignmentsToArchive());
+        assertTrue(courseRepository.findActiveBySchoolYear(TO_YEAR).isEmpty());
+        assertEquals(1, gradeRepository.findByStudent(students.get(0)).size());
+    }
+
+    @Test
+    void run_whenYearEnds_thenPromotesGraduatesAndMovesHistoryToArchive() {
+        rolloverService.run(FROM_YEAR, TO_YEAR);
+
+        RolloverStatusDto status = rolloverService.getStatus();
+        assertEquals(BatchJobStatus.COMPLETED, status.getStatus(), status.getFailure());
+        assertEquals(4, status.getSteps().size());
+
+        List<Course> created = courseRepository.findActiveBySchoolYear(TO_YEAR);
+        assertEquals(List.of("12R"), created.stream().map(Course::getName).toList());
+        Course target = created.get(0);
+        assertEquals(teacher.getId(), target.getTeacher().getId());
+
+        User promoted = userRepository.findById(students.get(0).getId()).orElseThrow();
+        assertEquals(target.getId(), promoted.getCourse().getId());
+        assertEquals("12R", promoted.getStudentClass());
+        User graduated = userRepository.findById(students.get(2).getId()).orElseThrow();
+        assertNull(graduated.getCourse());
+
+        assertTrue(gradeRepository.findByStudent(students.get(0)).isEmpty());
+        assertEquals(List.of(FROM_YEAR), archivedGradeRepository.findSchoolYearsByStudentId(students.get(0).getId()));
+        assertEquals(1, archivedGradeRepository.findByStudentIdAndSchoolYear(students.get(0).getId(), FROM_YEAR).size());
+        assertTrue(assignmentRepository.findByCourseId(eleventh.getId()).isEmpty());
+        assertEquals(List.of("Rollover essay"), assignmentService.getArchivedAssignments(teacher.getId(), FROM_YEAR).stream()
+                .map(AssignmentSnapshot::title)
+                .toList());
+        assertTrue(courseRepository.findActiveBySchoolYear(FROM_YEAR).isEmpty());
+        assertTrue(courseRepository.findById(eleventh.getId()).orElseThrow().isArchived());
+    }
+
+    private User user(String email, UserType userType, Course course) {
+        return User.builder()
+                .firstName("Rollover")
+                .lastName("Test")
+                .email(email)
+                .password("password")
+                .userType(userType)
+                .course(course)
+                .studentClass(course != null ? course.getName() : null)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.OnlineNotebook.IntegrationTest.SearchIndexService;
+
+import com.example.OnlineNotebook.models.dtos.search.SearchResultDto;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.AssignmentType;
+import com.example.OnlineNotebook.models.enums.SearchResultType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexServiceITest {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User teacher;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexService.rebuild();
+        teacher = userRepository.save(User.builder()
+                .firstName("Zhelyazko")
+                .lastName("Teacherov")
+                .email("search.teacher@test.com")
+                .password("password")
+                .userType(UserType.TEACHER)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .name("Searchclass")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        assignmentRepository.deleteAll(assignmentRepository.findByCourseId(course.getId()));
+        userRepository.findByEmail("search.student@test.com").ifPresent(userRepository::delete);
+        courseRepository.deleteById(course.getId());
+        userRepository.deleteById(teacher.getId());
+    }
+
+    @Test
+    void search_whenEntitiesAreSavedUpdatedAndDeleted_thenIndexFollowsCommittedChanges() {
+        User student = userRepository.save(User.builder()
+                .firstName("Zornitsa")
+                .lastName("Studentova")
+                .email("search.student@test.com")
+                .password("password")
+                .userType(UserType.STUDENT)
+                .course(course)
+                .build());
+        assignmentRepository.save(Assignment.builder()
+                .title("Zoology essay")
+                .type(AssignmentType.HOMEWORK)
+                .assignedDate(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(3))
+                .course(course)
+                .createdBy(teacher)
+                .build());
+
+        List<SearchResultDto> results = searchIndexService.search("zo", teacher.getId(), 20);
+        assertEquals(List.of(SearchResultType.USER, SearchResultType.ASSIGNMENT),
+                results.stream().map(SearchResultDto::getType).toList());
+
+        student.setLastName("Renamedova");
+        userRepository.save(student);
+        assertTrue(searchIndexService.search("studentova", null, 20).isEmpty());
+        assertEquals(1, searchIndexService.search("renamed", null, 20).size());
+
+        userRepository.delete(student);
+        assertTrue(searchIndexService.search("zornitsa", null, 20).isEmpty());
+    }
+
+    @Test
+    void search_whenTransactionRollsBack_thenChangeIsNotIndexed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userRepository.saveAndFlush(User.builder()
+                    .firstName("Rolledback")
+                    .lastName("Student")
+                    .email("search.student@test.com")
+                    .password("password")
+                    .userType(UserType.STUDENT)
+                    .build());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(searchIndexService.search("rolledback", null, 20).isEmpty());
+    }
+
+    @Test
+    void rebuild_whenCalled_thenIndexesExistingRows() {
+        searchIndexService.rebuild();
+
+        List<SearchResultDto> results = searchIndexService.search("searchclass", null, 20);
+
+        assertEquals(1, results.size());
+        assertEquals(course.getId(), results.get(0).getId());
+        assertEquals("2024-2025", results.get(0).getSubtitle());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.OnlineNotebook.IntegrationTest.SessionRepositoryFilter;
+
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.session.InMemorySessionRepository;
+import com.example.OnlineNotebook.services.session.SessionAttributeCodec;
+import com.example.OnlineNotebook.services.session.SessionRecord;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormLoginSessionITest {
+    private static final String EMAIL = "session.teacher@test.com";
+    private static final String STUDENT_EMAIL = "session.student@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private InMemorySessionRepository sessionRepository;
+
+    @Autowired
+    private SessionAttributeCodec codec;
+
+    private User teacher;
+    private Course course;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .firstName("Session")
+                .lastName("Teacher")
+                .email(EMAIL)
+                .password(passwordEncoder.encode("password123"))
+                .userType(UserType.TEACHER)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .name("8S")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .subjects(List.of(SubjectType.MATH))
+                .build());
+        student = userRepository.save(User.builder()
+                .firstName("Session")
+                .lastName("Student")
+                .email(STUDENT_EMAIL)
+                .password(passwordEncoder.encode("password123"))
+                .userType(UserType.STUDENT)
+                .studentClass("8S")
+                .course(course)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(student);
+        courseRepository.delete(course);
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    void formLogin_whenCredentialsValid_thenSessionCookieAuthenticatesLaterRequests() throws Exception {
+        MvcResult login = mockMvc.perform(formLogin("/login").userParameter("email").user(EMAIL).password("password123"))
+                .andExpect(redirectedUrl("/teacher/home"))
+                .andReturn();
+        Cookie session = login.getResponse().getCookie("SESSION");
+        assertNotNull(session);
+        assertTrue(session.isHttpOnly());
+        assertNull(login.getResponse().getCookie("JSESSIONID"));
+
+        mockMvc.perform(get("/teacher/home").cookie(session))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/teacher/home").accept(MediaType.TEXT_HTML))
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+
+    @Test
+    void formLogin_whenStudentHasCourse_thenStoredSessionRestoresCourseSnapshot() throws Exception {
+        Cookie session = mockMvc.perform(formLogin("/login").userParameter("email").user(STUDENT_EMAIL).password("password123"))
+                .andExpect(redirectedUrl("/student/home"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertNotNull(session);
+
+        SessionRecord stored = sessionRepository.find(session.getValue());
+        assertEquals(student.getId(), stored.principalId());
+        SecurityContext context = (SecurityContext) codec.decode(stored.attributes()).get("SPRING_SECURITY_CONTEXT");
+        UserData principal = (UserData) context.getAuthentication().getPrincipal();
+        assertEquals(course.getId(), principal.getProfile().courseId());
+        assertEquals("8S", principal.getProfile().courseName());
+
+        mockMvc.perform(get("/student/home").cookie(session))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void logout_whenSessionActive_thenDeletesStoredSessionAndClearsCookie() throws Exception {
+        Cookie session = mockMvc.perform(formLogin("/login").userParameter("email").user(EMAIL).password("password123"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertNotNull(sessionRepository.find(session.getValue()));
+
+        MvcResult logout = mockMvc.perform(post("/logout").cookie(session).with(csrf()))
+                .andExpect(redirectedUrl("/login"))
+                .andReturn();
+
+        assertNull(sessionRepository.find(session.getValue()));
+        assertEquals(0, logout.getResponse().getCookie("SESSION").getMaxAge());
+        mockMvc.perform(get("/teacher/home").cookie(session).accept(MediaType.TEXT_HTML))
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+}
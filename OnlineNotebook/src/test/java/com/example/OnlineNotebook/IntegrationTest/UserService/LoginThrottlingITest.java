@@ -0,0 +1,84 @@
+package com.example.OnlineNotebook.IntegrationTest.UserService;
+
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginThrottlingITest {
+    private static final String EMAIL = "throttled.teacher@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User teacher;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .firstName("Throttled")
+                .lastName("Teacher")
+                .email(EMAIL)
+                .password(passwordEncoder.encode("password123"))
+                .userType(UserType.TEACHER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    void formLogin_whenAccountBucketExhausted_thenRejectsEvenCorrectPassword() throws Exception {
+        mockMvc.perform(formLogin("/login").userParameter("email").user(EMAIL).password("password123"))
+                .andExpect(authenticated());
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(formLogin("/login").userParameter("email").user(EMAIL).password("wrong-" + i))
+                    .andExpect(redirectedUrl("/login?error"))
+                    .andExpect(unauthenticated());
+        }
+
+        mockMvc.perform(formLogin("/login").userParameter("email").user(EMAIL).password("password123"))
+                .andExpect(redirectedUrl("/login?error"))
+                .andExpect(unauthenticated());
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + EMAIL + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void issueToken_whenEmailUnknown_thenReturnsUnauthorizedWithBearerChallenge() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"nobody@test.com\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer"));
+    }
+}
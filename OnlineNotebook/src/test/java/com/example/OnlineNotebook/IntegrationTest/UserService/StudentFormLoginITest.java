@@ -0,0 +1,100 @@
+package com.example.OnlineNotebook.IntegrationTest.UserService;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.SubjectType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentFormLoginITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User teacher;
+    private Course course;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .firstName("Course")
+                .lastName("Teacher")
+                .email("login.teacher." + UUID.randomUUID() + "@test.com")
+                .password(passwordEncoder.encode("password123"))
+                .userType(UserType.TEACHER)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .name("9B")
+                .schoolYear("2024-2025")
+                .teacher(teacher)
+                .subjects(List.of(SubjectType.MATH))
+                .build());
+        student = userRepository.save(User.builder()
+                .firstName("Enrolled")
+                .lastName("Student")
+                .email("login.student." + UUID.randomUUID() + "@test.com")
+                .password(passwordEncoder.encode("password123"))
+                .userType(UserType.STUDENT)
+                .studentClass("9B")
+                .course(course)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(student);
+        courseRepository.delete(course);
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    void loadUserByUsername_whenStudentHasCourseAndNoOpenSession_thenSnapshotCarriesCourse() {
+        UserData userData = (UserData) userService.loadUserByUsername(student.getEmail());
+
+        CurrentUserSnapshot profile = userData.getProfile();
+        assertEquals(course.getId(), profile.courseId());
+        assertEquals("9B", profile.courseName());
+    }
+
+    @Test
+    void formLogin_whenStudentHasCourse_thenRedirectsToStudentHome() throws Exception {
+        mockMvc.perform(formLogin("/login").userParameter("email").user(student.getEmail()).password("password123"))
+                .andExpect(redirectedUrl("/student/home"));
+    }
+}
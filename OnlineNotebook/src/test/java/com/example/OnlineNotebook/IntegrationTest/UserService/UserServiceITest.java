@@ -1,9 +1,12 @@
 package com.example.OnlineNotebook.IntegrationTest.UserService;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserPage;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
 import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
 import com.example.OnlineNotebook.models.dtos.auth.EditProfileDto;
 import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
@@ -25,7 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -176,6 +181,31 @@ class UserServiceITest {
         assertEquals(course.getId(), savedUser.getCourse().getId());
     }
 
+    @Test
+    void registerUserFromBulkImport_whenRolloverClonedCourseName_thenEnrollsIntoNewestSchoolYear() {
+        Course nextYear = courseRepository.save(Course.builder()
+                .name("10A")
+                .description("Cloned Course")
+                .schoolYear("2025-2026")
+                .teacher(course.getTeacher())
+                .build());
+        BulkImportUserDto bulkDto = BulkImportUserDto.builder()
+                .firstName("Nikolay")
+                .lastName("Nikolov")
+                .email("nikolay@test.com")
+                .password("password123")
+                .userType(UserType.STUDENT)
+                .studentClass("10A")
+                .build();
+
+        userService.registerUserFromBulkImport(bulkDto);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(nextYear.getId(), userRepository.findByEmail("nikolay@test.com").orElseThrow().getCourse().getId());
+        assertEquals(List.of(nextYear.getId()), courseRepository.findByNameIn(Set.of("10A")).stream().map(Course::getId).toList());
+    }
+
     @Test
     void registerUserFromBulkImport_whenNoStudentClass_thenCreateUserWithoutCourse() {
         BulkImportUserDto bulkDto = BulkImportUserDto.builder()
@@ -352,11 +382,11 @@ class UserServiceITest {
         entityManager.flush();
         entityManager.clear();
 
-        List<User> students = userService.getStudentsByCourse(course);
+        List<StudentSnapshot> students = userService.getStudentsByCourse(course.getId());
 
         assertNotNull(students);
         assertEquals(2, students.size());
-        assertTrue(students.stream().allMatch(s -> s.getUserType() == UserType.STUDENT));
+        assertTrue(students.stream().allMatch(s -> course.getId().equals(s.courseId())));
     }
 
     @Test
@@ -599,4 +629,52 @@ class UserServiceITest {
             userService.updateUserProfile(nonExistentId, editDto);
         });
     }
+
+    @Test
+    void getUsersPage_whenWalkingAllPages_thenReturnsEveryUserOnceNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(User.builder()
+                    .firstName("Page")
+                    .lastName("User" + i)
+                    .email("page" + i + "@test.com")
+                    .password("password")
+                    .userType(UserType.STUDENT)
+                    .course(course)
+                    .build());
+        }
+        long total = userRepository.count();
+
+        Set<UUID> seen = new HashSet<>();
+        AdminUserRow previous = null;
+        String cursor = null;
+        do {
+            AdminUserPage page = userService.getUsersPage(null, null, cursor, 2);
+            for (AdminUserRow row : page.users()) {
+                assertTrue(seen.add(row.id()));
+                if (previous != null) {
+                    assertFalse(row.createdAt().isAfter(previous.createdAt()));
+                }
+                previous = row;
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(total, seen.size());
+    }
+
+    @Test
+    void getUsersPage_whenFilteredByTypeAndCourse_thenReturnsOnlyMatchingRows() {
+        existingUser.setCourse(course);
+        userRepository.save(existingUser);
+
+        AdminUserPage students = userService.getUsersPage(UserType.STUDENT, course.getId(), null, 50);
+        AdminUserPage teachers = userService.getUsersPage(UserType.TEACHER, null, null, 50);
+
+        assertEquals(1, students.users().size());
+        assertEquals("ivan@test.com", students.users().get(0).email());
+        assertEquals("10A", students.users().get(0).courseName());
+        assertNull(students.nextCursor());
+        assertTrue(teachers.users().stream().allMatch(row -> row.userType() == UserType.TEACHER));
+        assertTrue(teachers.users().stream().anyMatch(row -> row.email().equals("krum@test.com")));
+    }
 }
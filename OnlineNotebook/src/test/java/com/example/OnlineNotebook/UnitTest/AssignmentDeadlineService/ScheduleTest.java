@@ -0,0 +1,159 @@
+package com.example.OnlineNotebook.UnitTest.AssignmentDeadlineService;
+
+import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository.PendingDeadline;
+import com.example.OnlineNotebook.services.AssignmentDeadlineService;
+import com.example.OnlineNotebook.services.AssignmentSchedulerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleTest {
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+    @Mock
+    private AssignmentSchedulerService assignmentSchedulerService;
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ScheduledFuture<Object> timer;
+
+    private AssignmentDeadlineService assignmentDeadlineService;
+    private LocalDateTime dueDate;
+
+    @BeforeEach
+    void setUp() {
+        assignmentDeadlineService = new AssignmentDeadlineService(assignmentRepository, assignmentSchedulerService, taskScheduler, 7);
+        dueDate = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void schedule_whenAssignmentsShareDueDate_thenUsesSingleTimerAtEndOfDueDay() {
+        stubTimer();
+
+        assignmentDeadlineService.schedule(UUID.randomUUID(), UUID.randomUUID(), dueDate);
+        assignmentDeadlineService.schedule(UUID.randomUUID(), UUID.randomUUID(), dueDate.toLocalDate().atStartOfDay());
+
+        LocalDateTime endOfDueDay = dueDate.toLocalDate().plusDays(1).atStartOfDay();
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), eq(endOfDueDay.atZone(ZoneId.systemDefault()).toInstant()));
+        assertEquals(2, assignmentDeadlineService.pendingCount());
+    }
+
+    @Test
+    void schedule_whenAssignmentIsDueToday_thenWaitsUntilMidnight() {
+        stubTimer();
+
+        assignmentDeadlineService.schedule(UUID.randomUUID(), UUID.randomUUID(), LocalDate.now().atStartOfDay());
+
+        LocalDateTime midnight = LocalDate.now().plusDays(1).atStartOfDay();
+        verify(taskScheduler).schedule(any(Runnable.class), eq(midnight.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @Test
+    void schedule_whenDueDateIsBeyondHorizon_thenDoesNotScheduleTimer() {
+        assignmentDeadlineService.schedule(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now().plusDays(30));
+
+        verifyNoInteractions(taskScheduler);
+        assertEquals(0, assignmentDeadlineService.pendingCount());
+    }
+
+    @Test
+    void cancel_whenLastAssignmentForDueDate_thenCancelsTimer() {
+        stubTimer();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        assignmentDeadlineService.schedule(first, UUID.randomUUID(), dueDate);
+        assignmentDeadlineService.schedule(second, UUID.randomUUID(), dueDate);
+
+        assignmentDeadlineService.cancel(first);
+        verify(timer, never()).cancel(anyBoolean());
+
+        assignmentDeadlineService.cancel(second);
+        verify(timer, times(1)).cancel(false);
+        assertEquals(0, assignmentDeadlineService.pendingCount());
+    }
+
+    @Test
+    void schedule_whenDueDateChanges_thenMovesAssignmentToNewTimer() {
+        stubTimer();
+        UUID assignmentId = UUID.randomUUID();
+        assignmentDeadlineService.schedule(assignmentId, UUID.randomUUID(), dueDate);
+
+        assignmentDeadlineService.schedule(assignmentId, UUID.randomUUID(), dueDate.plusDays(1));
+
+        verify(timer, times(1)).cancel(false);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+        assertEquals(1, assignmentDeadlineService.pendingCount());
+    }
+
+    @Test
+    void timer_whenFired_thenMarksDueAssignmentsMissedAndEvictsTheirCourses() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(timer).when(taskScheduler).schedule(task.capture(), any(Instant.class));
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        assignmentDeadlineService.schedule(firstId, courseId, dueDate);
+        assignmentDeadlineService.schedule(secondId, courseId, dueDate);
+        when(assignmentRepository.updateStatusWhereStatusIsNull(anyCollection(), eq(AssignmentStatus.MISSED))).thenReturn(2);
+
+        task.getValue().run();
+
+        verify(assignmentRepository).updateStatusWhereStatusIsNull(eq(Set.of(firstId, secondId)), eq(AssignmentStatus.MISSED));
+        verify(assignmentSchedulerService).evictCourseCaches(Set.of(courseId));
+        assertEquals(0, assignmentDeadlineService.pendingCount());
+    }
+
+    @Test
+    void timer_whenAnotherNodeAlreadyMarkedThem_thenStillEvictsLocalCaches() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(timer).when(taskScheduler).schedule(task.capture(), any(Instant.class));
+        UUID courseId = UUID.randomUUID();
+        assignmentDeadlineService.schedule(UUID.randomUUID(), courseId, dueDate);
+        when(assignmentRepository.updateStatusWhereStatusIsNull(anyCollection(), eq(AssignmentStatus.MISSED))).thenReturn(0);
+
+        task.getValue().run();
+
+        verify(assignmentSchedulerService).evictCourseCaches(Set.of(courseId));
+    }
+
+    @Test
+    void loadUpcoming_thenSchedulesPendingDeadlinesFromRepository() {
+        stubTimer();
+        PendingDeadline deadline = mock(PendingDeadline.class);
+        when(deadline.getId()).thenReturn(UUID.randomUUID());
+        when(deadline.getCourseId()).thenReturn(UUID.randomUUID());
+        when(deadline.getDueDate()).thenReturn(dueDate);
+        when(assignmentRepository.findPendingDeadlines(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(deadline));
+
+        assignmentDeadlineService.loadUpcoming();
+
+        assertEquals(1, assignmentDeadlineService.pendingCount());
+    }
+
+    private void stubTimer() {
+        doReturn(timer).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+}
@@ -1,25 +1,40 @@
 package com.example.OnlineNotebook.UnitTest.AssignmentSchedulerService;
 
-import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
 import com.example.OnlineNotebook.models.enums.AssignmentStatus;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository.OverdueAssignment;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
 import com.example.OnlineNotebook.services.AssignmentSchedulerService;
+import com.example.OnlineNotebook.services.AssignmentStatusJob;
+import com.example.OnlineNotebook.services.JobLeaseService;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import com.example.OnlineNotebook.services.batch.BatchRun;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,167 +43,231 @@ class AssignmentSchedulerServiceUTest {
     @Mock
     private AssignmentRepository assignmentRepository;
 
-    @InjectMocks
-    private AssignmentSchedulerService assignmentSchedulerService;
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    @Mock
+    private BatchJobService batchJobService;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
 
-    private LocalDateTime now;
-    private LocalDateTime pastDate;
-    private LocalDateTime futureDate;
+    private CacheManager cacheManager;
+    private AssignmentSchedulerService assignmentSchedulerService;
+    private BatchRun run;
 
     @BeforeEach
     void setUp() {
-        now = LocalDateTime.now();
-        pastDate = now.minusDays(1);
-        futureDate = now.plusDays(1);
+        cacheManager = new ConcurrentMapCacheManager("assignments", "studentHome");
+        assignmentSchedulerService = new AssignmentSchedulerService(assignmentRepository, userRepository, courseRepository,
+                cacheManager, jobLeaseService, batchJobService, jobCheckpointRepository, 2, 2);
+        run = new BatchRun(AssignmentSchedulerService.STATUS_UPDATE_JOB, LocalDateTime.now(), LocalDateTime.now(), false);
     }
 
     @Test
-    void updateAssignmentStatuses_WhenAssignmentIsPastDueAndStatusIsNull_ShouldSetStatusToMissed() {
-        Assignment assignment = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Test Assignment")
-                .dueDate(pastDate)
-                .status(null)
-                .assignedDate(pastDate.minusDays(7))
-                .build();
-
-        List<Assignment> assignments = Collections.singletonList(assignment);
-        when(assignmentRepository.findAll()).thenReturn(assignments);
-        when(assignmentRepository.save(any(Assignment.class))).thenReturn(assignment);
+    void statusJob_WhenNoCursor_ShouldReadFromTheStartInIdOrder() {
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, null, assignmentRepository);
+        when(assignmentRepository.findOverdue(run.attemptedAt(), new UUID(0L, 0L), PageRequest.of(0, 2)))
+                .thenReturn(Collections.emptyList());
 
-        assignmentSchedulerService.updateAssignmentStatuses();
+        assertTrue(job.readChunk(run, null, 2).isEmpty());
+    }
 
-        ArgumentCaptor<Assignment> assignmentCaptor = ArgumentCaptor.forClass(Assignment.class);
-        verify(assignmentRepository, times(1)).save(assignmentCaptor.capture());
-        assertEquals(AssignmentStatus.MISSED, assignmentCaptor.getValue().getStatus());
+    @Test
+    void statusJob_WhenResumingFailedRun_ShouldUseResumeTimeAsOverdueCutoff() {
+        LocalDateTime resumedAt = LocalDateTime.now();
+        BatchRun resumed = new BatchRun("job", resumedAt.minusDays(2), resumedAt, true);
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, null, assignmentRepository);
+        when(assignmentRepository.findOverdue(resumedAt, new UUID(0L, 0L), PageRequest.of(0, 2)))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(job.readChunk(resumed, null, 2).isEmpty());
+        verify(assignmentRepository, never()).findOverdue(eq(resumed.startedAt()), any(UUID.class), any());
     }
 
     @Test
-    void updateAssignmentStatuses_WhenAssignmentIsPastDueButStatusIsNotNull_ShouldNotUpdateStatus() {
-        Assignment assignment = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Test Assignment")
-                .dueDate(pastDate)
-                .status(AssignmentStatus.TURNED_IN)
-                .assignedDate(pastDate.minusDays(7))
-                .build();
+    void statusJob_WhenResumingFailedRun_ShouldRescanFromTheStart() {
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, null, assignmentRepository);
 
-        List<Assignment> assignments = Collections.singletonList(assignment);
-        when(assignmentRepository.findAll()).thenReturn(assignments);
+        assertTrue(job.rescanOnResume());
+    }
 
-        assignmentSchedulerService.updateAssignmentStatuses();
+    @Test
+    void statusJob_WhenCursorGiven_ShouldReadAfterTheLastProcessedId() {
+        UUID courseId = UUID.randomUUID();
+        OverdueAssignment last = overdue(courseId);
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, List.of(courseId), assignmentRepository);
+        when(assignmentRepository.findOverdueInCourses(run.attemptedAt(), List.of(courseId), last.getId(), PageRequest.of(0, 2)))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(job.readChunk(run, job.cursorOf(last), 2).isEmpty());
+    }
 
-        verify(assignmentRepository, never()).save(any(Assignment.class));
-        assertEquals(AssignmentStatus.TURNED_IN, assignment.getStatus());
+    @Test
+    void statusJob_WhenChunkProcessed_ShouldMarkItMissedInOneStatement() {
+        UUID courseId = UUID.randomUUID();
+        OverdueAssignment assignment = overdue(courseId);
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, null, assignmentRepository);
+        when(assignmentRepository.updateStatusWhereStatusIsNull(List.of(assignment.getId()), AssignmentStatus.MISSED))
+                .thenReturn(1);
+
+        job.processChunk(run, List.of(assignment));
+
+        assertEquals(Set.of(courseId), job.getAffectedCourseIds());
+        assertEquals(1, job.getUpdated());
+        verify(assignmentRepository, never()).save(any());
     }
 
     @Test
-    void updateAssignmentStatuses_WhenAssignmentIsNotPastDue_ShouldNotUpdateStatus() {
-        Assignment assignment = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Test Assignment")
-                .dueDate(futureDate)
-                .status(null)
-                .assignedDate(now)
-                .build();
+    void statusJob_WhenNothingWasUpdated_ShouldNotReportAffectedCourses() {
+        AssignmentStatusJob job = new AssignmentStatusJob("job", 2, null, assignmentRepository);
+        when(assignmentRepository.updateStatusWhereStatusIsNull(anyCollection(), eq(AssignmentStatus.MISSED))).thenReturn(0);
 
-        List<Assignment> assignments = Collections.singletonList(assignment);
-        when(assignmentRepository.findAll()).thenReturn(assignments);
+        job.processChunk(run, List.of(overdue(UUID.randomUUID())));
 
-        assignmentSchedulerService.updateAssignmentStatuses();
+        assertTrue(job.getAffectedCourseIds().isEmpty());
+    }
 
-        verify(assignmentRepository, never()).save(any(Assignment.class));
-        assertNull(assignment.getStatus());
+    @Test
+    void updateAssignmentStatuses_ShouldRunAsBatchJobAndEvictOnlyAffectedCacheEntries() {
+        UUID affectedCourseId = UUID.randomUUID();
+        UUID otherCourseId = UUID.randomUUID();
+        UUID affectedStudentId = UUID.randomUUID();
+        UUID otherStudentId = UUID.randomUUID();
+        cacheManager.getCache("assignments").put(affectedCourseId, List.of());
+        cacheManager.getCache("assignments").put(otherCourseId, List.of());
+        cacheManager.getCache("studentHome").put(affectedStudentId, "view");
+        cacheManager.getCache("studentHome").put(otherStudentId, "view");
+        OverdueAssignment assignment = overdue(affectedCourseId);
+        when(assignmentRepository.findOverdue(any(LocalDateTime.class), any(UUID.class), any())).thenReturn(List.of(assignment));
+        when(assignmentRepository.updateStatusWhereStatusIsNull(anyCollection(), eq(AssignmentStatus.MISSED))).thenReturn(1);
+        when(userRepository.findIdsByCourseIdInAndUserType(Set.of(affectedCourseId), UserType.STUDENT))
+                .thenReturn(List.of(affectedStudentId));
+        driveJobOnce();
+
+        Set<UUID> result = assignmentSchedulerService.updateAssignmentStatuses();
+
+        assertEquals(Set.of(affectedCourseId), result);
+        assertNull(cacheManager.getCache("assignments").get(affectedCourseId));
+        assertNotNull(cacheManager.getCache("assignments").get(otherCourseId));
+        assertNull(cacheManager.getCache("studentHome").get(affectedStudentId));
+        assertNotNull(cacheManager.getCache("studentHome").get(otherStudentId));
     }
 
     @Test
-    void updateAssignmentStatuses_WhenNoAssignmentsExist_ShouldNotSaveAnything() {
-        when(assignmentRepository.findAll()).thenReturn(Collections.emptyList());
+    void updateAssignmentStatuses_WhenNoAssignmentsAreOverdue_ShouldNotEvictAnything() {
+        when(assignmentRepository.findOverdue(any(LocalDateTime.class), any(UUID.class), any())).thenReturn(Collections.emptyList());
+        driveJobOnce();
 
-        assignmentSchedulerService.updateAssignmentStatuses();
+        Set<UUID> result = assignmentSchedulerService.updateAssignmentStatuses();
 
-        verify(assignmentRepository, never()).save(any(Assignment.class));
+        assertTrue(result.isEmpty());
+        verify(assignmentRepository, never()).updateStatusWhereStatusIsNull(anyCollection(), any());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
-    void updateAssignmentStatuses_WhenMultipleAssignmentsWithDifferentScenarios_ShouldUpdateOnlyEligibleOnes() {
-        Assignment pastDueNullStatus = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Past Due - Null Status")
-                .dueDate(pastDate)
-                .status(null)
-                .assignedDate(pastDate.minusDays(7))
-                .build();
-
-        Assignment pastDueWithStatus = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Past Due - With Status")
-                .dueDate(pastDate)
-                .status(AssignmentStatus.TURNED_IN)
-                .assignedDate(pastDate.minusDays(7))
-                .build();
-
-        Assignment futureDueNullStatus = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Future Due - Null Status")
-                .dueDate(futureDate)
-                .status(null)
-                .assignedDate(now)
-                .build();
-
-        Assignment pastDueNullStatus2 = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Past Due - Null Status 2")
-                .dueDate(pastDate.minusHours(5))
-                .status(null)
-                .assignedDate(pastDate.minusDays(7))
-                .build();
-
-        List<Assignment> assignments = Arrays.asList(
-                pastDueNullStatus,
-                pastDueWithStatus,
-                futureDueNullStatus,
-                pastDueNullStatus2
-        );
-
-        when(assignmentRepository.findAll()).thenReturn(assignments);
-        when(assignmentRepository.save(any(Assignment.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        assignmentSchedulerService.updateAssignmentStatuses();
-
-        ArgumentCaptor<Assignment> assignmentCaptor = ArgumentCaptor.forClass(Assignment.class);
-        verify(assignmentRepository, times(2)).save(assignmentCaptor.capture());
-
-        List<Assignment> savedAssignments = assignmentCaptor.getAllValues();
-        assertEquals(2, savedAssignments.size());
-        assertTrue(savedAssignments.stream().allMatch(a -> a.getStatus() == AssignmentStatus.MISSED));
-        assertTrue(savedAssignments.contains(pastDueNullStatus));
-        assertTrue(savedAssignments.contains(pastDueNullStatus2));
+    void updateAssignmentStatuses_WhenPartitionGiven_ShouldRunJobOnlyForCoursesInThatPartition() {
+        UUID courseInPartition = courseInPartition(0);
+        UUID courseOutsidePartition = courseInPartition(1);
+        when(courseRepository.findAllIds()).thenReturn(List.of(courseInPartition, courseOutsidePartition));
+        when(assignmentRepository.findOverdueInCourses(any(LocalDateTime.class), eq(List.of(courseInPartition)), any(UUID.class), any()))
+                .thenReturn(Collections.emptyList());
+        ArgumentCaptor<BatchJob<OverdueAssignment>> job = driveJobOnce();
+
+        Set<UUID> result = assignmentSchedulerService.updateAssignmentStatuses(0);
+
+        assertTrue(result.isEmpty());
+        assertEquals(AssignmentSchedulerService.STATUS_UPDATE_JOB + "-0-of-2", job.getValue().getName());
+        verify(assignmentRepository, never()).findOverdue(any(LocalDateTime.class), any(UUID.class), any());
     }
 
     @Test
-    void updateAssignmentStatuses_WhenAssignmentDueDateIsExactlyNow_ShouldNotUpdateStatus() {
-        LocalDateTime dueDate = now.plusSeconds(1);
-        Assignment assignment = Assignment.builder()
-                .id(UUID.randomUUID())
-                .title("Test Assignment")
-                .dueDate(dueDate)
-                .status(null)
-                .assignedDate(dueDate.minusDays(7))
-                .build();
+    void runStatusUpdate_ShouldRunUnderPartitionedLease() {
+        assignmentSchedulerService.runStatusUpdate();
+
+        verify(jobLeaseService).runPartitioned(eq(AssignmentSchedulerService.STATUS_UPDATE_JOB), eq(2), any());
+    }
+
+    @Test
+    void syncCachesWithStatusUpdates_WhenAnotherNodeCommittedProgress_ShouldClearLocalAssignmentCaches() {
+        LocalDateTime lastNight = LocalDateTime.now().minusDays(1);
+        when(jobCheckpointRepository.findLastUpdatedAt(AssignmentSchedulerService.STATUS_UPDATE_JOB))
+                .thenReturn(lastNight, lastNight, LocalDateTime.now());
+        UUID courseId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+
+        assignmentSchedulerService.syncCachesWithStatusUpdates();
+        cacheManager.getCache("assignments").put(courseId, List.of());
+        cacheManager.getCache("studentHome").put(studentId, "view");
+        assignmentSchedulerService.syncCachesWithStatusUpdates();
+
+        assertNotNull(cacheManager.getCache("assignments").get(courseId));
+        assertNotNull(cacheManager.getCache("studentHome").get(studentId));
+
+        assignmentSchedulerService.syncCachesWithStatusUpdates();
 
-        List<Assignment> assignments = Collections.singletonList(assignment);
-        when(assignmentRepository.findAll()).thenReturn(assignments);
+        assertNull(cacheManager.getCache("assignments").get(courseId));
+        assertNull(cacheManager.getCache("studentHome").get(studentId));
+    }
+
+    @Test
+    void syncCachesWithStatusUpdates_WhenJobNeverRan_ShouldKeepCaches() {
+        UUID courseId = UUID.randomUUID();
+        cacheManager.getCache("assignments").put(courseId, List.of());
 
-        assignmentSchedulerService.updateAssignmentStatuses();
+        assignmentSchedulerService.syncCachesWithStatusUpdates();
+        assignmentSchedulerService.syncCachesWithStatusUpdates();
 
-        verify(assignmentRepository, never()).save(any(Assignment.class));
-        assertNull(assignment.getStatus());
+        assertNotNull(cacheManager.getCache("assignments").get(courseId));
     }
 
     @Test
     void refreshLeaderboardCache_happyPath() {
 
-        assertDoesNotThrow(() -> assignmentSchedulerService.refreshLeaderboardCache());
+        assertDoesNotThrow(() -> assignmentSchedulerService.refreshStudentHomeCache());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<BatchJob<OverdueAssignment>> driveJobOnce() {
+        ArgumentCaptor<BatchJob<OverdueAssignment>> captor = ArgumentCaptor.forClass(BatchJob.class);
+        when(batchJobService.run(captor.capture())).thenAnswer(invocation -> {
+            BatchJob<OverdueAssignment> job = invocation.getArgument(0);
+            List<OverdueAssignment> chunk = job.readChunk(run, null, job.getChunkSize());
+            if (!chunk.isEmpty()) {
+                job.processChunk(run, chunk);
+            }
+            return BatchJobStatusDto.builder().name(job.getName()).status(BatchJobStatus.COMPLETED).build();
+        });
+        return captor;
+    }
+
+    private UUID courseInPartition(int partition) {
+        UUID courseId;
+        do {
+            courseId = UUID.randomUUID();
+        } while (JobLeaseService.partitionOf(courseId, 2) != partition);
+        return courseId;
+    }
+
+    private OverdueAssignment overdue(UUID courseId) {
+        UUID id = UUID.randomUUID();
+        return new OverdueAssignment() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getCourseId() {
+                return courseId;
+            }
+        };
     }
 }
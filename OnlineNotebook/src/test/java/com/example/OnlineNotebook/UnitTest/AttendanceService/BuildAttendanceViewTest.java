@@ -3,6 +3,8 @@ package com.example.OnlineNotebook.UnitTest.AttendanceService;
 import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
 import com.example.OnlineNotebook.client.AttendanceStatus;
 import com.example.OnlineNotebook.client.service.AttendanceClientService;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.attendance.TeacherAttendanceViewDto;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
@@ -85,21 +87,21 @@ public class BuildAttendanceViewTest {
                 .teacher(teacher)
                 .build();
 
-        List<Course> courses = List.of(course1, course2);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course1), CourseSnapshot.from(course2));
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course1)).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, null, null);
 
         assertNotNull(result);
         assertEquals(2, result.getCourses().size());
-        assertEquals(course1, result.getSelectedCourse());
+        assertEquals(CourseSnapshot.from(course1), result.getSelectedCourse());
         assertTrue(result.getStudents().isEmpty());
         assertNull(result.getSelectedStudentId());
         assertNull(result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course1);
+        verify(userService, times(1)).getStudentsByCourse(course1.getId());
         verify(clientAttendanceService, never()).getAttendances(any(), any());
     }
 
@@ -125,21 +127,21 @@ public class BuildAttendanceViewTest {
                 .teacher(teacher)
                 .build();
 
-        List<Course> courses = List.of(course1, course2);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course1), CourseSnapshot.from(course2));
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course2)).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course2.getId())).thenReturn(Collections.emptyList());
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course2.getId(), null);
 
         assertNotNull(result);
         assertEquals(2, result.getCourses().size());
-        assertEquals(course2, result.getSelectedCourse());
+        assertEquals(CourseSnapshot.from(course2), result.getSelectedCourse());
         assertTrue(result.getStudents().isEmpty());
         assertNull(result.getSelectedStudentId());
         assertNull(result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course2);
+        verify(userService, times(1)).getStudentsByCourse(course2.getId());
         verify(clientAttendanceService, never()).getAttendances(any(), any());
     }
 
@@ -160,7 +162,7 @@ public class BuildAttendanceViewTest {
                 .build();
 
         UUID nonExistentCourseId = UUID.randomUUID();
-        List<Course> courses = List.of(course);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, nonExistentCourseId, null);
@@ -212,26 +214,26 @@ public class BuildAttendanceViewTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        List<Course> courses = List.of(course);
-        List<User> students = List.of(student);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
+        List<StudentSnapshot> students = List.of(StudentSnapshot.from(student));
         List<AttendanceResponseDto> attendanceRecords = List.of(attendanceRecord);
 
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course)).thenReturn(students);
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(students);
         when(clientAttendanceService.getAttendances(teacher.getId(), student.getId()))
                 .thenReturn(ResponseEntity.ok(attendanceRecords));
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course.getId(), student.getId());
 
         assertNotNull(result);
-        assertEquals(course, result.getSelectedCourse());
+        assertEquals(CourseSnapshot.from(course), result.getSelectedCourse());
         assertEquals(1, result.getStudents().size());
         assertEquals(student.getId(), result.getSelectedStudentId());
-        assertEquals(student, result.getSelectedStudent());
+        assertEquals(StudentSnapshot.from(student), result.getSelectedStudent());
         assertEquals(1, result.getAttendanceRecords().size());
         assertEquals(attendanceRecord, result.getAttendanceRecords().get(0));
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
         verify(clientAttendanceService, times(1)).getAttendances(teacher.getId(), student.getId());
     }
 
@@ -261,22 +263,22 @@ public class BuildAttendanceViewTest {
                 .build();
 
         UUID nonExistentStudentId = UUID.randomUUID();
-        List<Course> courses = List.of(course);
-        List<User> students = List.of(student);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
+        List<StudentSnapshot> students = List.of(StudentSnapshot.from(student));
 
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course)).thenReturn(students);
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(students);
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course.getId(), nonExistentStudentId);
 
         assertNotNull(result);
-        assertEquals(course, result.getSelectedCourse());
+        assertEquals(CourseSnapshot.from(course), result.getSelectedCourse());
         assertEquals(1, result.getStudents().size());
         assertEquals(nonExistentStudentId, result.getSelectedStudentId());
         assertNull(result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
         verify(clientAttendanceService, never()).getAttendances(any(), any());
     }
 
@@ -305,22 +307,22 @@ public class BuildAttendanceViewTest {
                 .course(course)
                 .build();
 
-        List<Course> courses = List.of(course);
-        List<User> students = List.of(student);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
+        List<StudentSnapshot> students = List.of(StudentSnapshot.from(student));
 
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course)).thenReturn(students);
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(students);
         when(clientAttendanceService.getAttendances(teacher.getId(), student.getId()))
                 .thenThrow(new RuntimeException("Service unavailable"));
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course.getId(), student.getId());
 
         assertNotNull(result);
-        assertEquals(course, result.getSelectedCourse());
-        assertEquals(student, result.getSelectedStudent());
+        assertEquals(CourseSnapshot.from(course), result.getSelectedCourse());
+        assertEquals(StudentSnapshot.from(student), result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
         verify(clientAttendanceService, times(1)).getAttendances(teacher.getId(), student.getId());
     }
 
@@ -349,22 +351,22 @@ public class BuildAttendanceViewTest {
                 .course(course)
                 .build();
 
-        List<Course> courses = List.of(course);
-        List<User> students = List.of(student);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
+        List<StudentSnapshot> students = List.of(StudentSnapshot.from(student));
 
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course)).thenReturn(students);
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(students);
         when(clientAttendanceService.getAttendances(teacher.getId(), student.getId()))
                 .thenReturn(null);
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course.getId(), student.getId());
 
         assertNotNull(result);
-        assertEquals(course, result.getSelectedCourse());
-        assertEquals(student, result.getSelectedStudent());
+        assertEquals(CourseSnapshot.from(course), result.getSelectedCourse());
+        assertEquals(StudentSnapshot.from(student), result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
         verify(clientAttendanceService, times(1)).getAttendances(teacher.getId(), student.getId());
     }
 
@@ -393,23 +395,23 @@ public class BuildAttendanceViewTest {
                 .course(course)
                 .build();
 
-        List<Course> courses = List.of(course);
-        List<User> students = List.of(student);
+        List<CourseSnapshot> courses = List.of(CourseSnapshot.from(course));
+        List<StudentSnapshot> students = List.of(StudentSnapshot.from(student));
         ResponseEntity<List<AttendanceResponseDto>> response = ResponseEntity.ok(null);
 
         when(courseService.getCoursesByTeacher(teacher)).thenReturn(courses);
-        when(userService.getStudentsByCourse(course)).thenReturn(students);
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(students);
         when(clientAttendanceService.getAttendances(teacher.getId(), student.getId()))
                 .thenReturn(response);
 
         TeacherAttendanceViewDto result = attendanceService.buildAttendanceView(teacher, course.getId(), student.getId());
 
         assertNotNull(result);
-        assertEquals(course, result.getSelectedCourse());
-        assertEquals(student, result.getSelectedStudent());
+        assertEquals(CourseSnapshot.from(course), result.getSelectedCourse());
+        assertEquals(StudentSnapshot.from(student), result.getSelectedStudent());
         assertTrue(result.getAttendanceRecords().isEmpty());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
         verify(clientAttendanceService, times(1)).getAttendances(teacher.getId(), student.getId());
     }
 
@@ -0,0 +1,327 @@
+package com.example.OnlineNotebook.UnitTest.BatchJobService;
+
+import com.example.OnlineNotebook.models.dtos.admin.BatchJobStatusDto;
+import com.example.OnlineNotebook.models.entities.JobCheckpoint;
+import com.example.OnlineNotebook.models.enums.BatchJobStatus;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.services.batch.BatchJob;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import com.example.OnlineNotebook.services.batch.BatchRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunTest {
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private RecordingTransactionManager transactionManager;
+
+    private BatchJobService batchJobService;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        batchJobService = new BatchJobService(jobCheckpointRepository, transactionManager, 3);
+        lenient().when(jobCheckpointRepository.save(any(JobCheckpoint.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(jobCheckpointRepository.advance(anyString(), anyString(), anyLong(), anyLong(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    transactionManager.events.add("advance:" + invocation.getArgument(1));
+                    return 1;
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchJobService.shutdown();
+    }
+
+    @Test
+    void run_whenJobHasSeveralChunks_thenProcessesEveryItemOnceAndCompletes() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.empty());
+        NumbersJob job = new NumbersJob(25, 4, -1);
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.COMPLETED, status.getStatus());
+        assertEquals(25, status.getItemsProcessed());
+        assertEquals(7, status.getChunksCompleted());
+        assertEquals("24", status.getCursor());
+        assertEquals(25, job.processed.size());
+        assertEquals(7, transactionManager.events.stream().filter("commit"::equals).count());
+    }
+
+    @Test
+    void run_whenChunkSucceeds_thenAdvancesCheckpointOnlyAfterTheChunkCommits() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.empty());
+        NumbersJob job = new NumbersJob(3, 4, -1);
+
+        batchJobService.run(job);
+
+        assertEquals(List.of("commit", "advance:2", "commit-new"), transactionManager.events);
+        verify(jobCheckpointRepository).advance(eq("numbers"), eq("2"), eq(1L), eq(3L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void run_whenChunkCommitFails_thenCheckpointNeverMovesPastIt() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.empty());
+        NumbersJob job = new NumbersJob(25, 4, -1);
+        job.failCommitOn = 10;
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.FAILED, status.getStatus());
+        assertTrue(status.getCursor() == null || Integer.parseInt(status.getCursor()) < 8);
+        assertTrue(status.getItemsProcessed() <= 8);
+        verify(jobCheckpointRepository, never()).advance(anyString(), anyString(), longThat(chunks -> chunks > 2), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void run_whenChunkFails_thenKeepsCheckpointAtLastContiguousChunk() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.empty());
+        NumbersJob job = new NumbersJob(25, 4, 10);
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.FAILED, status.getStatus());
+        assertNotNull(status.getFailure());
+        assertTrue(status.getCursor() == null || Integer.parseInt(status.getCursor()) < 8);
+    }
+
+    @Test
+    void run_whenSkippableItemFails_thenRetriesChunkItemByItemAndSkipsOnlyThatItem() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.empty());
+        NumbersJob job = new NumbersJob(12, 4, -1);
+        job.failCommitOn = 6;
+        job.skippable = true;
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.COMPLETED, status.getStatus());
+        assertEquals(12, status.getItemsProcessed());
+        assertEquals("11", status.getCursor());
+        assertEquals(List.of(6), job.skipped);
+        assertTrue(job.processed.containsAll(List.of(0, 1, 2, 3, 4, 5, 7, 8, 9, 10, 11)));
+    }
+
+    @Test
+    void run_whenPreviousRunFailed_thenResumesAfterCheckpointWithOriginalStartTime() {
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.of(JobCheckpoint.builder()
+                .name("numbers")
+                .status(BatchJobStatus.FAILED)
+                .cursor("11")
+                .itemsProcessed(12)
+                .chunksCompleted(3)
+                .startedAt(startedAt)
+                .build()));
+        NumbersJob job = new NumbersJob(25, 4, -1);
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.COMPLETED, status.getStatus());
+        assertEquals(25, status.getItemsProcessed());
+        assertEquals(startedAt, status.getStartedAt());
+        assertEquals(startedAt, job.lastRun.startedAt());
+        assertTrue(job.lastRun.attemptedAt().isAfter(startedAt));
+        assertEquals(13, job.processed.size());
+        assertFalse(job.processed.contains(11));
+        assertTrue(job.resumed);
+    }
+
+    @Test
+    void run_whenResumedJobRescansOnResume_thenStartsFromTheBeginning() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.of(JobCheckpoint.builder()
+                .name("numbers")
+                .status(BatchJobStatus.FAILED)
+                .cursor("11")
+                .itemsProcessed(12)
+                .chunksCompleted(3)
+                .startedAt(LocalDateTime.now().minusHours(1))
+                .build()));
+        NumbersJob job = new NumbersJob(25, 4, -1);
+        job.rescanOnResume = true;
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(BatchJobStatus.COMPLETED, status.getStatus());
+        assertEquals(25, job.processed.size());
+        assertTrue(job.processed.contains(0));
+        assertTrue(job.resumed);
+    }
+
+    @Test
+    void run_whenPreviousRunCompleted_thenStartsFromTheBeginning() {
+        when(jobCheckpointRepository.findById("numbers")).thenReturn(Optional.of(JobCheckpoint.builder()
+                .name("numbers")
+                .status(BatchJobStatus.COMPLETED)
+                .cursor("24")
+                .itemsProcessed(25)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .build()));
+        NumbersJob job = new NumbersJob(25, 4, -1);
+
+        BatchJobStatusDto status = batchJobService.run(job);
+
+        assertEquals(25, status.getItemsProcessed());
+        assertEquals(25, job.processed.size());
+        assertFalse(job.resumed);
+    }
+
+    private static class NumbersJob implements BatchJob<Integer> {
+        private final int total;
+        private final int chunkSize;
+        private final int failOn;
+        private final Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        private final List<Integer> skipped = Collections.synchronizedList(new ArrayList<>());
+        private int failCommitOn = -1;
+        private boolean skippable;
+        private boolean rescanOnResume;
+        private boolean resumed;
+        private volatile BatchRun lastRun;
+
+        private NumbersJob(int total, int chunkSize, int failOn) {
+            this.total = total;
+            this.chunkSize = chunkSize;
+            this.failOn = failOn;
+        }
+
+        @Override
+        public String getName() {
+            return "numbers";
+        }
+
+        @Override
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        @Override
+        public List<Integer> readChunk(BatchRun run, String afterCursor, int chunkSize) {
+            resumed = run.resumed();
+            lastRun = run;
+            int from = afterCursor == null ? 0 : Integer.parseInt(afterCursor) + 1;
+            return IntStream.range(from, Math.min(from + chunkSize, total)).boxed().toList();
+        }
+
+        @Override
+        public boolean rescanOnResume() {
+            return rescanOnResume;
+        }
+
+        @Override
+        public String cursorOf(Integer item) {
+            return item.toString();
+        }
+
+        @Override
+        public void processChunk(BatchRun run, List<Integer> chunk) {
+            if (chunk.contains(failOn)) {
+                throw new IllegalStateException("Cannot process " + failOn);
+            }
+            if (chunk.contains(failCommitOn)) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        throw new DataIntegrityViolationException("Duplicate " + failCommitOn);
+                    }
+                });
+                return;
+            }
+            processed.addAll(chunk);
+        }
+
+        @Override
+        public boolean canSkip(RuntimeException failure) {
+            return skippable && failure instanceof DataIntegrityViolationException;
+        }
+
+        @Override
+        public void skip(BatchRun run, Integer item, RuntimeException failure) {
+            skipped.add(item);
+        }
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Transaction(active.get());
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Transaction) transaction).existing;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((Transaction) transaction).requiresNew = definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+            active.set(true);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            active.set(false);
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            active.set(true);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            events.add(((Transaction) status.getTransaction()).requiresNew ? "commit-new" : "commit");
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            events.add("rollback");
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active.set(false);
+        }
+
+        private static class Transaction {
+            private final boolean existing;
+            private boolean requiresNew;
+
+            private Transaction(boolean existing) {
+                this.existing = existing;
+            }
+        }
+    }
+}
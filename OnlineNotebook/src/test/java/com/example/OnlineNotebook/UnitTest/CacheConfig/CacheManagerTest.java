@@ -0,0 +1,87 @@
+package com.example.OnlineNotebook.UnitTest.CacheConfig;
+
+import com.example.OnlineNotebook.configurations.CacheConfig;
+import com.example.OnlineNotebook.configurations.InstrumentedCache;
+import com.example.OnlineNotebook.configurations.OffHeapCache;
+import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
+import com.example.OnlineNotebook.models.dtos.student.home.StudentLeaderboardEntryDto;
+import com.example.OnlineNotebook.models.dtos.student.home.StudentProfileDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheManagerTest {
+
+    private final CacheConfig cacheConfig = new CacheConfig();
+    private org.ehcache.CacheManager offHeapCacheManager;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        StatisticsService statisticsService = cacheConfig.offHeapStatisticsService();
+        offHeapCacheManager = cacheConfig.offHeapCacheManager(statisticsService);
+        cacheManager = cacheConfig.cacheManager(offHeapCacheManager, statisticsService, new SimpleMeterRegistry(),
+                Set.of("studentHome", "grades"), 10, 1);
+        ((SimpleCacheManager) cacheManager).afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        offHeapCacheManager.close();
+    }
+
+    @Test
+    void cacheManager_whenCacheIsSelectedForOffHeap_thenUsesOffHeapStore() {
+        assertInstanceOf(OffHeapCache.class, delegate("studentHome"));
+        assertInstanceOf(OffHeapCache.class, delegate("grades"));
+        assertInstanceOf(ConcurrentMapCache.class, delegate("courses"));
+        assertInstanceOf(ConcurrentMapCache.class, delegate("assignments"));
+        assertInstanceOf(ConcurrentMapCache.class, delegate("students"));
+    }
+
+    @Test
+    void put_whenHomeViewIsStoredOffHeap_thenReturnsDeserializedCopy() {
+        UUID studentId = UUID.randomUUID();
+        StudentHomeViewDto view = StudentHomeViewDto.builder()
+                .profile(StudentProfileDto.builder().id(studentId).firstName("Ivan").build())
+                .leaderboard(List.of(StudentLeaderboardEntryDto.builder().rank(1).fullName("Ivan Ivanov").build()))
+                .build();
+        Cache cache = cacheManager.getCache("studentHome");
+
+        cache.put(studentId, view);
+        StudentHomeViewDto result = cache.get(studentId, StudentHomeViewDto.class);
+
+        assertNotNull(result);
+        assertNotSame(view, result);
+        assertEquals(studentId, result.getProfile().getId());
+        assertEquals("Ivan Ivanov", result.getLeaderboard().get(0).getFullName());
+    }
+
+    @Test
+    void evict_whenKeyIsEvicted_thenOtherEntriesRemain() {
+        Cache cache = cacheManager.getCache("grades");
+        cache.put("a", List.of());
+        cache.put("b", List.of());
+
+        cache.evict("a");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    private Cache delegate(String name) {
+        return ((InstrumentedCache) cacheManager.getCache(name)).getDelegate();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.OnlineNotebook.UnitTest.CacheConfig;
+
+import com.example.OnlineNotebook.configurations.InstrumentedCache;
+import com.example.OnlineNotebook.models.dtos.admin.CacheStatisticsDto;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InstrumentedCache(new ConcurrentMapCache("courses"), meterRegistry);
+    }
+
+    @Test
+    void get_whenMissFollowedByPut_thenRecordsMissHitAndLoad() {
+        UUID key = UUID.randomUUID();
+
+        assertNull(cache.get(key));
+        cache.put(key, List.of("Math"));
+        assertNotNull(cache.get(key));
+
+        CacheStatisticsDto statistics = cache.statistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRatio());
+        assertEquals(1, statistics.getPuts());
+        assertEquals(1, statistics.getLoads());
+        assertEquals(1, statistics.getSize());
+        assertTrue(statistics.getEstimatedBytes() > 0);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "courses").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void put_whenEarlierMissWasNeverFilled_thenDoesNotRecordLoad() {
+        assertNull(cache.get("abandoned"));
+        assertNotNull(cache.get("other", () -> "value"));
+        cache.put("abandoned", "refreshed");
+
+        assertEquals(1, cache.statistics().getLoads());
+        assertEquals(1, meterRegistry.get("cache.load.duration").tag("cache", "courses").timer().count());
+    }
+
+    @Test
+    void evictAndClear_thenRecordsEvictionCause() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        assertTrue(cache.evictIfPresent("a"));
+        assertFalse(cache.evictIfPresent("a"));
+        cache.clear();
+
+        CacheStatisticsDto statistics = cache.statistics();
+        assertEquals(1, statistics.getEvictions().get("explicit"));
+        assertEquals(2, statistics.getEvictions().get("clear"));
+        assertEquals(0, statistics.getSize());
+        assertEquals(2.0, meterRegistry.get("cache.evictions").tag("cause", "clear").counter().count());
+    }
+
+    @Test
+    void get_whenLoaderIsUsed_thenRecordsLoadOnlyOnce() {
+        assertEquals("value", cache.get("key", () -> "value"));
+        assertEquals("value", cache.get("key", () -> "other"));
+
+        CacheStatisticsDto statistics = cache.statistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getLoads());
+    }
+
+    @Test
+    void statistics_whenCourseRostersCached_thenReportsPerEntryFootprint() {
+        InstrumentedCache students = new InstrumentedCache(new ConcurrentMapCache("students"), meterRegistry);
+        for (int course = 0; course < 4; course++) {
+            UUID courseId = UUID.randomUUID();
+            students.put(courseId, IntStream.range(0, 30)
+                    .mapToObj(i -> new StudentSnapshot(UUID.randomUUID(), "Ivan", "Petrov", "ivan" + i + "@example.com",
+                            "10A", null, courseId))
+                    .toList());
+        }
+
+        CacheStatisticsDto statistics = students.statistics();
+
+        assertEquals(statistics.getEstimatedBytes() / 4, statistics.getEstimatedBytesPerEntry());
+        assertTrue(statistics.getEstimatedBytesPerEntry() > 30 * 16);
+        assertEquals(statistics.getEstimatedBytesPerEntry(),
+                meterRegistry.get("cache.entry.memory.estimated").tag("cache", "students").gauge().value());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.OnlineNotebook.UnitTest.CacheWarmupService;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.CacheWarmupService;
+import com.example.OnlineNotebook.services.StudentHomeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+    @Mock
+    private GradeRepository gradeRepository;
+    @Mock
+    private StudentHomeService studentHomeService;
+
+    private CacheManager cacheManager;
+    private User teacher;
+    private User idleTeacher;
+    private Course course;
+    private Course emptyCourse;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("courses", "studentHome", "grades", "assignments", "students");
+        teacher = User.builder().id(UUID.randomUUID()).userType(UserType.TEACHER).build();
+        idleTeacher = User.builder().id(UUID.randomUUID()).userType(UserType.TEACHER).build();
+        course = Course.builder().id(UUID.randomUUID()).name("10A").teacher(teacher).build();
+        emptyCourse = Course.builder().id(UUID.randomUUID()).name("10B").teacher(teacher).build();
+    }
+
+    private CacheWarmupService service(boolean homeViews) {
+        return new CacheWarmupService(cacheManager, courseRepository, userRepository,
+                assignmentRepository, gradeRepository, studentHomeService, homeViews, 10);
+    }
+
+    @Test
+    void warmUp_whenDataExists_thenPopulatesCoursesStudentsAndAssignments() {
+        User student = User.builder().id(UUID.randomUUID()).userType(UserType.STUDENT).course(course).build();
+        Assignment assignment = Assignment.builder().id(UUID.randomUUID()).course(course).createdBy(teacher).build();
+
+        when(courseRepository.findAllWithSubjects()).thenReturn(List.of(course, emptyCourse));
+        when(userRepository.findByUserType(UserType.TEACHER)).thenReturn(List.of(teacher, idleTeacher));
+        when(userRepository.findByUserTypeAndCourseIsNotNull(UserType.STUDENT)).thenReturn(List.of(student));
+        when(assignmentRepository.findAllWithCourseAndCreator()).thenReturn(List.of(assignment));
+
+        service(false).warmUp();
+
+        assertEquals(List.of(CourseSnapshot.from(course), CourseSnapshot.from(emptyCourse)), cacheManager.getCache("courses").get(teacher.getId()).get());
+        assertEquals(List.of(), cacheManager.getCache("courses").get(idleTeacher.getId()).get());
+        assertEquals(List.of(StudentSnapshot.from(student)), cacheManager.getCache("students").get(course.getId()).get());
+        assertEquals(List.of(), cacheManager.getCache("students").get(emptyCourse.getId()).get());
+        assertEquals(List.of(AssignmentSnapshot.from(assignment)), cacheManager.getCache("assignments").get(course.getId()).get());
+        assertEquals(List.of(), cacheManager.getCache("assignments").get(emptyCourse.getId()).get());
+        verifyNoInteractions(studentHomeService, gradeRepository);
+    }
+
+    @Test
+    void warmUp_whenHomeViewsEnabled_thenBuildsViewsForMostGradedStudents() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(courseRepository.findAllWithSubjects()).thenReturn(List.of());
+        when(gradeRepository.findMostGradedStudentIds(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(studentHomeService.buildHomeView(first)).thenThrow(new RuntimeException("boom"));
+
+        service(true).warmUp();
+
+        verify(studentHomeService).buildHomeView(first);
+        verify(studentHomeService).buildHomeView(second);
+    }
+
+    @Test
+    void warmAfterNightlyJob_thenOnlyReloadsAssignments() {
+        Assignment assignment = Assignment.builder().id(UUID.randomUUID()).course(course).createdBy(teacher).build();
+        when(courseRepository.findAllWithSubjects()).thenReturn(List.of(course));
+        when(assignmentRepository.findAllWithCourseAndCreator()).thenReturn(List.of(assignment));
+
+        service(false).warmAfterNightlyJob();
+
+        assertEquals(List.of(AssignmentSnapshot.from(assignment)), cacheManager.getCache("assignments").get(course.getId()).get());
+        assertNull(cacheManager.getCache("students").get(course.getId()));
+        verify(userRepository, never()).findByUserType(any());
+    }
+
+    @Test
+    void warm_whenCacheIsNamed_thenReloadsOnlyThatCache() {
+        User student = User.builder().id(UUID.randomUUID()).userType(UserType.STUDENT).course(course).build();
+        when(courseRepository.findAllWithSubjects()).thenReturn(List.of(course));
+        when(userRepository.findByUserTypeAndCourseIsNotNull(UserType.STUDENT)).thenReturn(List.of(student));
+
+        service(false).warm("students");
+
+        assertEquals(List.of(StudentSnapshot.from(student)), cacheManager.getCache("students").get(course.getId()).get());
+        assertNull(cacheManager.getCache("courses").get(teacher.getId()));
+        verifyNoInteractions(assignmentRepository);
+    }
+
+    @Test
+    void warm_whenCacheCannotBeWarmed_thenThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service(false).warm("grades"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.OnlineNotebook.UnitTest.EmailIndexService;
+
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MightContainTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private EmailIndexService emailIndexService;
+
+    @BeforeEach
+    void setUp() {
+        emailIndexService = new EmailIndexService(userRepository, 0.01, 1000);
+    }
+
+    @Test
+    void mightContain_whenIndexNotBuilt_thenDefersToDatabase() {
+        assertTrue(emailIndexService.mightContain("anyone@test.com"));
+    }
+
+    @Test
+    void mightContain_whenIndexBuilt_thenReportsRegisteredEmailsIgnoringCase() {
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.findEmailsAfter(eq(""), any())).thenReturn(List.of("ivan@test.com", "maria@test.com"));
+
+        emailIndexService.rebuild();
+
+        assertTrue(emailIndexService.mightContain("ivan@test.com"));
+        assertTrue(emailIndexService.mightContain(" Maria@Test.com"));
+        assertFalse(emailIndexService.mightContain("petar@test.com"));
+    }
+
+    @Test
+    void mightContain_whenEmailAddedAfterBuild_thenReportsIt() {
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findEmailsAfter(eq(""), any())).thenReturn(List.of());
+        emailIndexService.rebuild();
+
+        emailIndexService.add("new@test.com");
+
+        assertTrue(emailIndexService.mightContain("new@test.com"));
+    }
+
+    @Test
+    void rebuild_whenUsersSpanSeveralPages_thenLoadsEveryPageByKeyset() {
+        List<String> firstPage = IntStream.range(0, 5000).mapToObj(i -> String.format("user%05d@test.com", i)).toList();
+        when(userRepository.count()).thenReturn(5001L);
+        when(userRepository.findEmailsAfter("", PageRequest.of(0, 5000))).thenReturn(firstPage);
+        when(userRepository.findEmailsAfter(firstPage.get(4999), PageRequest.of(0, 5000))).thenReturn(List.of("zed@test.com"));
+
+        emailIndexService.rebuild();
+
+        assertTrue(firstPage.stream().allMatch(emailIndexService::mightContain));
+        assertTrue(emailIndexService.mightContain("zed@test.com"));
+        long falsePositives = IntStream.range(0, 10000)
+                .filter(i -> emailIndexService.mightContain("absent" + i + "@test.com"))
+                .count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
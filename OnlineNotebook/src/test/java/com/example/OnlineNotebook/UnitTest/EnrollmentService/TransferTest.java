@@ -0,0 +1,139 @@
+package com.example.OnlineNotebook.UnitTest.EnrollmentService;
+
+import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.BulkEnrollmentResult;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.EnrollmentChangedEvent;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EnrollmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CacheManager cacheManager;
+    private EnrollmentService enrollmentService;
+    private Course target;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("students", "studentHome", "assignments", "grades");
+        enrollmentService = new EnrollmentService(userRepository, courseRepository, cacheManager, eventPublisher, transactionManager);
+        target = Course.builder().id(UUID.randomUUID()).name("11B").build();
+    }
+
+    @Test
+    void transfer_whenStudentsMove_thenUpdatesInOneStatementAndEvictsOnlyAffectedCourses() {
+        UUID previousCourseId = UUID.randomUUID();
+        UUID unrelatedCourseId = UUID.randomUUID();
+        UUID movedStudent = UUID.randomUUID();
+        UUID classmate = UUID.randomUUID();
+        UUID unrelatedStudent = UUID.randomUUID();
+        List<UUID> studentIds = List.of(movedStudent, UUID.randomUUID());
+        cacheManager.getCache("students").put(previousCourseId, List.of());
+        cacheManager.getCache("students").put(target.getId(), List.of());
+        cacheManager.getCache("students").put(unrelatedCourseId, List.of());
+        cacheManager.getCache("studentHome").put(movedStudent, "home");
+        cacheManager.getCache("studentHome").put(classmate, "home");
+        cacheManager.getCache("studentHome").put(unrelatedStudent, "home");
+        cacheManager.getCache("assignments").put(previousCourseId, List.of());
+        String previousTeacherGrades = UUID.randomUUID() + "_" + movedStudent + "_" + previousCourseId;
+        cacheManager.getCache("grades").put(previousTeacherGrades, List.of());
+        when(courseRepository.findById(target.getId())).thenReturn(Optional.of(target));
+        when(userRepository.findCourseIdsByIdInAndUserType(studentIds, UserType.STUDENT)).thenReturn(List.of(previousCourseId));
+        when(userRepository.assignCourse(eq(studentIds), eq(UserType.STUDENT), eq(target), eq("11B"), any())).thenReturn(2);
+        when(userRepository.findIdsByCourseIdInAndUserType(Set.of(previousCourseId, target.getId()), UserType.STUDENT))
+                .thenReturn(List.of(movedStudent, classmate));
+
+        BulkEnrollmentResult result = enrollmentService.transfer(studentIds, target.getId());
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getUpdated());
+        assertEquals(Set.of(previousCourseId, target.getId()), result.getAffectedCourseIds());
+        assertNull(cacheManager.getCache("students").get(previousCourseId));
+        assertNull(cacheManager.getCache("students").get(target.getId()));
+        assertNotNull(cacheManager.getCache("students").get(unrelatedCourseId));
+        assertNull(cacheManager.getCache("studentHome").get(movedStudent));
+        assertNull(cacheManager.getCache("studentHome").get(classmate));
+        assertNotNull(cacheManager.getCache("studentHome").get(unrelatedStudent));
+        assertNotNull(cacheManager.getCache("assignments").get(previousCourseId));
+        assertNull(cacheManager.getCache("grades").get(previousTeacherGrades));
+        verify(eventPublisher).publishEvent(new EnrollmentChangedEvent(Set.copyOf(studentIds), Set.of(previousCourseId, target.getId())));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void transfer_whenListContainsDuplicates_thenUpdatesEachStudentOnce() {
+        UUID studentId = UUID.randomUUID();
+        when(courseRepository.findById(target.getId())).thenReturn(Optional.of(target));
+        when(userRepository.findCourseIdsByIdInAndUserType(List.of(studentId), UserType.STUDENT)).thenReturn(List.of());
+        when(userRepository.assignCourse(eq(List.of(studentId)), eq(UserType.STUDENT), eq(target), eq("11B"), any())).thenReturn(1);
+
+        BulkEnrollmentResult result = enrollmentService.transfer(List.of(studentId, studentId), target.getId());
+
+        assertEquals(1, result.getRequested());
+        assertEquals("Transferred 1 of 1 students", result.getMessage());
+    }
+
+    @Test
+    void unenroll_whenNothingChanges_thenSkipsEvictionAndEvent() {
+        UUID studentId = UUID.randomUUID();
+        when(userRepository.findCourseIdsByIdInAndUserType(List.of(studentId), UserType.STUDENT)).thenReturn(List.of());
+        when(userRepository.clearCourse(eq(List.of(studentId)), eq(UserType.STUDENT), any())).thenReturn(0);
+
+        BulkEnrollmentResult result = enrollmentService.unenroll(List.of(studentId));
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getUpdated());
+        verify(userRepository, never()).findIdsByCourseIdInAndUserType(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void transfer_whenCourseDoesNotExist_thenThrowException() {
+        UUID courseId = UUID.randomUUID();
+        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> enrollmentService.transfer(List.of(UUID.randomUUID()), courseId));
+        verify(userRepository, never()).assignCourse(anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    void unenroll_whenNoStudentsGiven_thenThrowException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.unenroll(List.of()));
+
+        assertEquals("At least one student ID is required", exception.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+}
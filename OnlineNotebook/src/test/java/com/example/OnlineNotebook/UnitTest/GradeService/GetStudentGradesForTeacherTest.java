@@ -58,15 +58,15 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = UUID.randomUUID();
         UUID courseId = UUID.randomUUID();
 
-        when(userRepository.findById(studentId)).thenReturn(empty());
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, courseId));
 
         assertEquals("Student not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, never()).findById(any());
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -96,15 +96,15 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = UUID.randomUUID();
 
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, null));
 
         assertEquals("Student is not assigned to a course", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, never()).findById(any());
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -141,15 +141,15 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, null));
 
         assertEquals("You are not allowed to view grades for this student", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, never()).findById(any());
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -200,15 +200,15 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher1, studentId, null));
 
         assertEquals("You are not allowed to view grades for this student", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, never()).findById(any());
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -245,16 +245,16 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = student.getId();
         UUID nonExistentCourseId = UUID.randomUUID();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
         when(courseRepository.findById(nonExistentCourseId)).thenReturn(empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, nonExistentCourseId));
 
         assertEquals("Course not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, times(1)).findById(nonExistentCourseId);
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -312,16 +312,16 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = student.getId();
         UUID selectedCourseId = selectedCourse.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
         when(courseRepository.findById(selectedCourseId)).thenReturn(Optional.of(selectedCourse));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher1, studentId, selectedCourseId));
 
         assertEquals("You are not allowed to view grades for this course", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, times(1)).findById(selectedCourseId);
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -365,16 +365,16 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = student.getId();
         UUID selectedCourseId = selectedCourse.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
         when(courseRepository.findById(selectedCourseId)).thenReturn(Optional.of(selectedCourse));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, selectedCourseId));
 
         assertEquals("Student is not part of the selected course", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
         verify(courseRepository, times(1)).findById(selectedCourseId);
-        verify(gradeRepository, never()).findByStudent(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -440,8 +440,9 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade1, grade2, grade3));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
+        when(courseRepository.findById(student.getCourse().getId())).thenReturn(Optional.of(student.getCourse()));
+        when(gradeRepository.findByStudentIdWithGradedBy(studentId)).thenReturn(List.of(grade1, grade2, grade3));
 
         List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(teacher, studentId, null);
 
@@ -450,9 +451,9 @@ class GetStudentGradesForTeacherTest {
         assertTrue(result.stream().anyMatch(dto -> dto.getSubjectCode().equals(SubjectType.MATH.name())));
         assertTrue(result.stream().anyMatch(dto -> dto.getSubjectCode().equals(SubjectType.ENGLISH.name())));
         assertFalse(result.stream().anyMatch(dto -> dto.getSubjectCode().equals(SubjectType.SCIENCE.name())));
-        verify(userRepository, times(1)).findById(studentId);
-        verify(gradeRepository, times(1)).findByStudent(student);
-        verify(courseRepository, never()).findById(any());
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(gradeRepository, times(1)).findByStudentIdWithGradedBy(studentId);
+        verify(courseRepository, times(1)).findById(student.getCourse().getId());
     }
 
     @Test
@@ -496,16 +497,15 @@ class GetStudentGradesForTeacherTest {
         UUID studentId = student.getId();
         UUID selectedCourseId = selectedCourse.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(courseRepository.findById(selectedCourseId)).thenReturn(Optional.of(selectedCourse));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> gradeService.getStudentGradesForTeacher(teacher, studentId, selectedCourseId));
 
-        assertEquals("Student is not part of the selected course", exception.getMessage());
-        verify(userRepository, times(1)).findById(studentId);
-        verify(courseRepository, times(1)).findById(selectedCourseId);
-        verify(gradeRepository, never()).findByStudent(any());
+        assertEquals("Student is not assigned to a course", exception.getMessage());
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(courseRepository, never()).findById(any());
+        verify(gradeRepository, never()).findByStudentIdWithGradedBy(any());
     }
 
     @Test
@@ -551,15 +551,16 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
+        when(courseRepository.findById(student.getCourse().getId())).thenReturn(Optional.of(student.getCourse()));
+        when(gradeRepository.findByStudentIdWithGradedBy(studentId)).thenReturn(List.of(grade));
 
         List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(teacher, studentId, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(userRepository, times(1)).findById(studentId);
-        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(gradeRepository, times(1)).findByStudentIdWithGradedBy(studentId);
     }
 
     @Test
@@ -605,15 +606,16 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
+        when(courseRepository.findById(student.getCourse().getId())).thenReturn(Optional.of(student.getCourse()));
+        when(gradeRepository.findByStudentIdWithGradedBy(studentId)).thenReturn(List.of(grade));
 
         List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(teacher, studentId, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(userRepository, times(1)).findById(studentId);
-        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(gradeRepository, times(1)).findByStudentIdWithGradedBy(studentId);
     }
 
     @Test
@@ -659,8 +661,9 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
+        when(courseRepository.findById(student.getCourse().getId())).thenReturn(Optional.of(student.getCourse()));
+        when(gradeRepository.findByStudentIdWithGradedBy(studentId)).thenReturn(List.of(grade));
 
         List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(teacher, studentId, null);
 
@@ -669,8 +672,8 @@ class GetStudentGradesForTeacherTest {
         assertNull(result.get(0).getGradeLetter());
         assertNull(result.get(0).getGradeValue());
         assertNull(result.get(0).getGradeDisplay());
-        verify(userRepository, times(1)).findById(studentId);
-        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(gradeRepository, times(1)).findByStudentIdWithGradedBy(studentId);
     }
 
     @Test
@@ -716,15 +719,33 @@ class GetStudentGradesForTeacherTest {
 
         UUID studentId = student.getId();
 
-        when(userRepository.findById(studentId)).thenReturn(Optional.of(student));
-        when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
+        when(userRepository.findCourseOwnerById(studentId)).thenReturn(Optional.of(courseOwner(student)));
+        when(courseRepository.findById(student.getCourse().getId())).thenReturn(Optional.of(student.getCourse()));
+        when(gradeRepository.findByStudentIdWithGradedBy(studentId)).thenReturn(List.of(grade));
 
         List<TeacherStudentGradeDto> result = gradeService.getStudentGradesForTeacher(teacher, studentId, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertNull(result.get(0).getGradedBy());
-        verify(userRepository, times(1)).findById(studentId);
-        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(userRepository, times(1)).findCourseOwnerById(studentId);
+        verify(gradeRepository, times(1)).findByStudentIdWithGradedBy(studentId);
+    }
+
+    private UserRepository.CourseOwner courseOwner(User student) {
+        Course course = student.getCourse();
+        UUID courseId = course != null ? course.getId() : null;
+        UUID teacherId = course != null && course.getTeacher() != null ? course.getTeacher().getId() : null;
+        return new UserRepository.CourseOwner() {
+            @Override
+            public UUID getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public UUID getTeacherId() {
+                return teacherId;
+            }
+        };
     }
 }
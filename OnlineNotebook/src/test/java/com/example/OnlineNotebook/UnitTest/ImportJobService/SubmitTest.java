@@ -0,0 +1,154 @@
+package com.example.OnlineNotebook.UnitTest.ImportJobService;
+
+import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.ImportJobStatusDto;
+import com.example.OnlineNotebook.models.entities.ImportJob;
+import com.example.OnlineNotebook.models.entities.ImportJobRow;
+import com.example.OnlineNotebook.models.enums.ImportJobStatus;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ImportJobRepository;
+import com.example.OnlineNotebook.repositories.ImportJobRowRepository;
+import com.example.OnlineNotebook.services.ImportJobService;
+import com.example.OnlineNotebook.services.JobLeaseService;
+import com.example.OnlineNotebook.services.UserImportService;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmitTest {
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+    @Mock
+    private ImportJobRowRepository importJobRowRepository;
+    @Mock
+    private UserImportService userImportService;
+    @Mock
+    private BatchJobService batchJobService;
+    @Mock
+    private JobLeaseService jobLeaseService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobService(importJobRepository, importJobRowRepository, userImportService,
+                batchJobService, jobLeaseService, new ObjectMapper(), transactionManager, 1, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    void submit_whenFileContainsDuplicates_thenStoresEveryRowAndMarksDuplicatesAsFailed() {
+        UUID jobId = UUID.randomUUID();
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> {
+            ImportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+        ArgumentCaptor<List<ImportJobRow>> rows = ArgumentCaptor.forClass(List.class);
+
+        UUID result = importJobService.submit(List.of(row("a@test.com"), row("b@test.com"), row(" A@test.com")));
+
+        assertEquals(jobId, result);
+        verify(importJobRowRepository).saveAll(rows.capture());
+        List<ImportJobRow> saved = rows.getValue();
+        assertEquals(List.of(1, 2, 3), saved.stream().map(ImportJobRow::getRowNumber).toList());
+        assertTrue(saved.stream().allMatch(row -> jobId.equals(row.getJobId())));
+        assertFalse(saved.get(0).isProcessed());
+        assertTrue(saved.get(0).getPayload().contains("\"email\":\"a@test.com\""));
+        assertTrue(saved.get(2).isProcessed());
+        assertNull(saved.get(2).getPayload());
+        assertEquals("Duplicate email in import, first seen on row 1", saved.get(2).getMessage());
+
+        ArgumentCaptor<ImportJob> job = ArgumentCaptor.forClass(ImportJob.class);
+        verify(importJobRepository, times(2)).save(job.capture());
+        assertEquals(ImportJobStatus.QUEUED, job.getValue().getStatus());
+        assertEquals(3, job.getValue().getTotalRows());
+        assertEquals(1, job.getValue().getProcessedRows());
+        assertEquals(1, job.getValue().getFailed());
+        verify(jobLeaseService, timeout(1000)).runExclusively(eq("user-import-" + jobId), any());
+    }
+
+    @Test
+    void getJob_whenJobHasFailedRows_thenReturnsProgressWithFailures() {
+        UUID jobId = UUID.randomUUID();
+        when(importJobRepository.findById(jobId)).thenReturn(Optional.of(ImportJob.builder()
+                .id(jobId)
+                .status(ImportJobStatus.RUNNING)
+                .totalRows(10)
+                .processedRows(4)
+                .succeeded(3)
+                .failed(1)
+                .createdAt(LocalDateTime.now())
+                .build()));
+        when(importJobRowRepository.findByJobIdAndProcessedTrueAndSuccessFalseOrderByRowNumber(eq(jobId), any()))
+                .thenReturn(List.of(ImportJobRow.builder().rowNumber(2).email("b@test.com").processed(true)
+                        .message("Email already exists: b@test.com").build()));
+
+        ImportJobStatusDto status = importJobService.getJob(jobId);
+
+        assertEquals(ImportJobStatus.RUNNING, status.getStatus());
+        assertEquals(4, status.getProcessedRows());
+        assertEquals(1, status.getFailures().size());
+        assertEquals(2, status.getFailures().get(0).getRow());
+        assertEquals("Email already exists: b@test.com", status.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    void getJob_whenJobDoesNotExist_thenThrowsResourceNotFound() {
+        UUID jobId = UUID.randomUUID();
+        when(importJobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> importJobService.getJob(jobId));
+    }
+
+    @Test
+    void resumeUnfinished_whenJobsWereInterrupted_thenRunsEachUnderItsLease() {
+        ImportJob queued = ImportJob.builder().id(UUID.randomUUID()).status(ImportJobStatus.QUEUED).build();
+        ImportJob running = ImportJob.builder().id(UUID.randomUUID()).status(ImportJobStatus.RUNNING).build();
+        when(importJobRepository.findByStatusIn(List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING)))
+                .thenReturn(List.of(queued, running));
+
+        importJobService.resumeUnfinished();
+
+        verify(jobLeaseService, timeout(1000)).runExclusively(eq("user-import-" + queued.getId()), any());
+        verify(jobLeaseService, timeout(1000)).runExclusively(eq("user-import-" + running.getId()), any());
+        verify(jobLeaseService, times(2)).runExclusively(anyString(), any());
+    }
+
+    private BulkImportUserDto row(String email) {
+        return BulkImportUserDto.builder()
+                .firstName("Ivan")
+                .lastName("Petrov")
+                .email(email)
+                .password("password123")
+                .userType(UserType.STUDENT)
+                .build();
+    }
+}
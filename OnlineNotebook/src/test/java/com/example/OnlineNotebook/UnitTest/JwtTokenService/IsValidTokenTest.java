@@ -0,0 +1,98 @@
+package com.example.OnlineNotebook.UnitTest.JwtTokenService;
+
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsValidTokenTest {
+    private static final String SECRET = "unit-test-secret-key-that-is-at-least-256-bits-long-for-hs256";
+
+    @Test
+    void isValidToken_whenSameTokenValidatedRepeatedly_thenVerifiesOnceAndServesFromCache() {
+        JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 1, 100);
+        String token = accessToken(jwtTokenService);
+        UserData principal = jwtTokenService.parseAccessToken(token);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(jwtTokenService.isValidToken(token));
+        }
+
+        assertSame(principal, jwtTokenService.parseAccessToken(token));
+    }
+
+    @Test
+    void isValidToken_whenSignatureTampered_thenReturnsFalse() {
+        JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 1, 100);
+        String token = jwtTokenService.generateToken(UUID.randomUUID());
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertFalse(jwtTokenService.isValidToken(tampered));
+        assertFalse(jwtTokenService.isValidToken(null));
+        assertTrue(jwtTokenService.isValidToken(token));
+    }
+
+    @Test
+    void isValidToken_whenTokenExpired_thenReturnsFalse() {
+        JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 0, 100);
+        String token = jwtTokenService.generateToken(UUID.randomUUID());
+
+        assertFalse(jwtTokenService.isValidToken(token));
+    }
+
+    @Test
+    void isValidToken_whenMoreTokensThanCacheSize_thenKeepsCacheBounded() {
+        JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 1, 2);
+        String first = accessToken(jwtTokenService);
+        String second = accessToken(jwtTokenService);
+        String third = accessToken(jwtTokenService);
+
+        List<String> tokens = List.of(first, second, third);
+        List<UserData> principals = tokens.stream().map(jwtTokenService::parseAccessToken).toList();
+
+        long cacheHits = IntStream.range(0, tokens.size())
+                .filter(i -> jwtTokenService.parseAccessToken(tokens.get(i)) == principals.get(i))
+                .count();
+
+        assertTrue(cacheHits <= 2);
+        tokens.forEach(token -> assertNotNull(jwtTokenService.parseAccessToken(token)));
+    }
+
+    @Test
+    void isValidToken_whenValidatedConcurrently_thenEveryThreadSeesValidToken() throws Exception {
+        JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 1, 100);
+        String token = accessToken(jwtTokenService);
+        UserData principal = jwtTokenService.parseAccessToken(token);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> jwtTokenService.isValidToken(token)));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertSame(principal, jwtTokenService.parseAccessToken(token));
+    }
+
+    private String accessToken(JwtTokenService jwtTokenService) {
+        return jwtTokenService.generateAccessToken(UserData.builder()
+                .id(UUID.randomUUID())
+                .userType(UserType.STUDENT)
+                .build());
+    }
+}
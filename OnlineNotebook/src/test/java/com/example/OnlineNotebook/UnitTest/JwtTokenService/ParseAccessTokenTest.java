@@ -0,0 +1,74 @@
+package com.example.OnlineNotebook.UnitTest.JwtTokenService;
+
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseAccessTokenTest {
+    private static final String SECRET = "unit-test-secret-key-that-is-at-least-256-bits-long-for-hs256";
+
+    private JwtTokenService jwtTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService(SECRET, 1, 100);
+    }
+
+    @Test
+    void parseAccessToken_whenTokenIssuedByService_thenReturnsPrincipalFromClaims() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenService.generateAccessToken(UserData.builder()
+                .id(userId)
+                .email("teacher@example.com")
+                .userType(UserType.TEACHER)
+                .build());
+
+        UserData result = jwtTokenService.parseAccessToken(token);
+
+        assertNotNull(result);
+        assertEquals(userId, result.getId());
+        assertEquals("teacher@example.com", result.getEmail());
+        assertEquals(UserType.TEACHER, result.getUserType());
+        assertNull(result.getPassword());
+    }
+
+    @Test
+    void parseAccessToken_whenSameTokenVerifiedTwice_thenReturnsCachedPrincipal() {
+        String token = jwtTokenService.generateAccessToken(UserData.builder()
+                .id(UUID.randomUUID())
+                .userType(UserType.STUDENT)
+                .build());
+
+        UserData first = jwtTokenService.parseAccessToken(token);
+        UserData second = jwtTokenService.parseAccessToken(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void parseAccessToken_whenSignedWithAnotherKey_thenReturnsNull() {
+        JwtTokenService other = new JwtTokenService("another-secret-key-that-is-also-at-least-256-bits-long", 1, 100);
+        String token = other.generateAccessToken(UserData.builder()
+                .id(UUID.randomUUID())
+                .userType(UserType.ADMIN)
+                .build());
+
+        assertNull(jwtTokenService.parseAccessToken(token));
+        assertNull(jwtTokenService.parseAccessToken("not-a-token"));
+        assertNull(jwtTokenService.parseAccessToken(" "));
+    }
+
+    @Test
+    void parseAccessToken_whenServiceTokenWithoutRole_thenReturnsNull() {
+        String serviceToken = jwtTokenService.generateToken(UUID.randomUUID());
+
+        assertTrue(jwtTokenService.isValidToken(serviceToken));
+        assertNull(jwtTokenService.parseAccessToken(serviceToken));
+    }
+}
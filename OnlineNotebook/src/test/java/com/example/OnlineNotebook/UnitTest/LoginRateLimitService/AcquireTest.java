@@ -0,0 +1,101 @@
+package com.example.OnlineNotebook.UnitTest.LoginRateLimitService;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.services.LoginRateLimitService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcquireTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimitService loginRateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimitService = new LoginRateLimitService(meterRegistry, 3, Duration.ofHours(1), 5, Duration.ofHours(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginRateLimitService.close();
+    }
+
+    @Test
+    void acquire_whenAccountBucketEmpty_thenThrowsRegardlessOfCaseOrAddress() {
+        loginRateLimitService.acquire("student@example.com", "10.0.0.1");
+        loginRateLimitService.acquire("Student@Example.com", "10.0.0.2");
+        loginRateLimitService.acquire("student@example.com ", "10.0.0.3");
+
+        assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimitService.acquire("student@example.com", "10.0.0.4"));
+        assertEquals(1.0, meterRegistry.get("security.login.throttled").tag("scope", "account").counter().count());
+        loginRateLimitService.acquire("other@example.com", "10.0.0.4");
+    }
+
+    @Test
+    void acquire_whenAddressBucketEmpty_thenThrowsForEveryAccount() {
+        for (int i = 0; i < 5; i++) {
+            loginRateLimitService.acquire("user" + i + "@example.com", "10.0.0.9");
+            loginRateLimitService.onFailure("10.0.0.9");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimitService.acquire("fresh@example.com", "10.0.0.9"));
+        assertEquals(1.0, meterRegistry.get("security.login.throttled").tag("scope", "address").counter().count());
+        loginRateLimitService.acquire("fresh@example.com", "10.0.0.10");
+    }
+
+    @Test
+    void acquire_whenLoginsFromSharedAddressSucceed_thenAddressBucketIsNotCharged() {
+        for (int i = 0; i < 10; i++) {
+            loginRateLimitService.acquire("user" + i + "@example.com", "10.0.0.9");
+            loginRateLimitService.onSuccess("user" + i + "@example.com");
+        }
+
+        loginRateLimitService.acquire("fresh@example.com", "10.0.0.9");
+        assertEquals(0.0, meterRegistry.get("security.login.throttled").tag("scope", "address").counter().count());
+    }
+
+    @Test
+    void acquire_whenPreviousLoginSucceeded_thenAccountBucketStartsFull() {
+        loginRateLimitService.acquire("teacher@example.com", "10.0.0.1");
+        loginRateLimitService.acquire("teacher@example.com", "10.0.0.1");
+        loginRateLimitService.onSuccess("teacher@example.com");
+
+        loginRateLimitService.acquire("teacher@example.com", "10.0.0.1");
+        loginRateLimitService.acquire("teacher@example.com", "10.0.0.1");
+        loginRateLimitService.acquire("teacher@example.com", "10.0.0.1");
+        assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimitService.acquire("teacher@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void acquire_whenMoreAccountsThanMaxBuckets_thenKeepsBucketsBounded() {
+        LoginRateLimitService bounded = new LoginRateLimitService(new SimpleMeterRegistry(), 1, Duration.ofHours(1), 5, Duration.ofHours(1), 2);
+        try {
+            List<String> emails = List.of("a@example.com", "b@example.com", "c@example.com");
+            emails.forEach(email -> bounded.acquire(email, null));
+
+            long allowedAgain = emails.stream().filter(email -> {
+                try {
+                    bounded.acquire(email, null);
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            }).count();
+
+            assertTrue(allowedAgain >= 1);
+        } finally {
+            bounded.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.OnlineNotebook.UnitTest.PasswordHashingService;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.services.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MatchesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private PasswordHashingService passwordHashingService;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void matches_whenPoolIdle_thenRunsOnLoginThread() {
+        passwordHashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 10, 1, 1, Duration.ofSeconds(5));
+        when(passwordEncoder.matches(eq("secret"), eq("hash"))).thenAnswer(invocation ->
+                Thread.currentThread().getName().startsWith("login-hashing-"));
+
+        assertTrue(passwordHashingService.matches("secret", "hash"));
+    }
+
+    @Test
+    void matches_whenLoginQueueFull_thenRejectsAndCountsInsteadOfBlockingCaller() throws Exception {
+        passwordHashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 10, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches(eq("slow"), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> passwordHashingService.matches("slow", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> passwordHashingService.matches("slow", "hash"));
+        waitForQueueDepth(1);
+
+        assertThrows(TooManyRequestsException.class, () -> passwordHashingService.matches("slow", "hash"));
+        assertEquals(1.0, meterRegistry.get("security.hashing.rejected").tag("pool", "login").counter().count());
+        assertEquals(1.0, meterRegistry.get("security.hashing.active").tag("pool", "login").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void encode_whenHashingExceedsWait_thenThrowsTooManyRequests() {
+        passwordHashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 10, 1, 1, Duration.ofMillis(50));
+        when(passwordEncoder.encode("slow")).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return "hash";
+        });
+
+        assertThrows(TooManyRequestsException.class, () -> passwordHashingService.encode("slow"));
+    }
+
+    private void waitForQueueDepth(double depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("security.hashing.queue.depth").tag("pool", "login").gauge().value() < depth
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.OnlineNotebook.UnitTest.SchoolStatisticsService;
+
+import com.example.OnlineNotebook.models.dtos.teacher.home.SchoolStatisticsDto;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.models.events.AssignmentDeletedEvent;
+import com.example.OnlineNotebook.models.events.AssignmentPostedEvent;
+import com.example.OnlineNotebook.models.events.CourseCreatedEvent;
+import com.example.OnlineNotebook.models.events.UserRegisteredEvent;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository.TeacherCount;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository.CourseOwner;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.repositories.UserRepository.CourseCount;
+import com.example.OnlineNotebook.services.SchoolStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetStatisticsTest {
+
+    @InjectMocks
+    private SchoolStatisticsService schoolStatisticsService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    private final UUID teacherId = UUID.randomUUID();
+    private final UUID courseId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.countByUserType(UserType.STUDENT)).thenReturn(25L);
+        when(userRepository.countByUserType(UserType.TEACHER)).thenReturn(3L);
+        when(courseRepository.countByArchivedFalse()).thenReturn(2L);
+        when(assignmentRepository.count()).thenReturn(7L);
+        when(courseRepository.findAllOwners()).thenReturn(List.of(owner(courseId, teacherId), owner(UUID.randomUUID(), UUID.randomUUID())));
+        when(userRepository.countByCourseAndUserType(UserType.STUDENT)).thenReturn(List.of(courseCount(courseId, 12)));
+        when(assignmentRepository.countByTeacher()).thenReturn(List.of(teacherCount(teacherId, 4)));
+    }
+
+    @Test
+    void getStatistics_whenCalledRepeatedly_thenCountsOnlyOnce() {
+        SchoolStatisticsDto first = schoolStatisticsService.getStatistics(teacherId);
+        SchoolStatisticsDto second = schoolStatisticsService.getStatistics(teacherId);
+
+        assertEquals(first, second);
+        assertEquals(25, second.getTotalStudents());
+        assertEquals(3, second.getTotalTeachers());
+        assertEquals(2, second.getActiveClasses());
+        assertEquals(7, second.getPostedAssignments());
+        assertEquals(1, second.getTeacherClasses());
+        assertEquals(12, second.getTeacherStudents());
+        assertEquals(4, second.getTeacherAssignments());
+        verify(userRepository, times(1)).countByUserType(UserType.STUDENT);
+        verify(userRepository, never()).findByUserType(any());
+    }
+
+    @Test
+    void getStatistics_whenDomainEventsArrive_thenUpdatesCountsWithoutQueries() {
+        schoolStatisticsService.getStatistics(teacherId);
+        UUID newCourseId = UUID.randomUUID();
+
+        schoolStatisticsService.onCourseCreated(new CourseCreatedEvent(newCourseId, teacherId));
+        schoolStatisticsService.onUserRegistered(new UserRegisteredEvent(UUID.randomUUID(), UserType.STUDENT, newCourseId));
+        schoolStatisticsService.onUserRegistered(new UserRegisteredEvent(UUID.randomUUID(), UserType.TEACHER, null));
+        schoolStatisticsService.onAssignmentPosted(new AssignmentPostedEvent(UUID.randomUUID(), teacherId));
+        schoolStatisticsService.onAssignmentPosted(new AssignmentPostedEvent(UUID.randomUUID(), teacherId));
+        schoolStatisticsService.onAssignmentDeleted(new AssignmentDeletedEvent(UUID.randomUUID(), teacherId));
+        SchoolStatisticsDto statistics = schoolStatisticsService.getStatistics(teacherId);
+
+        assertEquals(26, statistics.getTotalStudents());
+        assertEquals(4, statistics.getTotalTeachers());
+        assertEquals(3, statistics.getActiveClasses());
+        assertEquals(8, statistics.getPostedAssignments());
+        assertEquals(2, statistics.getTeacherClasses());
+        assertEquals(13, statistics.getTeacherStudents());
+        assertEquals(5, statistics.getTeacherAssignments());
+        verify(courseRepository, times(1)).countByArchivedFalse();
+    }
+
+    @Test
+    void reconcile_whenCountsDrifted_thenReplacesThemWithDatabaseCounts() {
+        schoolStatisticsService.getStatistics(teacherId);
+        schoolStatisticsService.onUserRegistered(new UserRegisteredEvent(UUID.randomUUID(), UserType.STUDENT, courseId));
+        when(userRepository.countByUserType(UserType.STUDENT)).thenReturn(30L);
+
+        schoolStatisticsService.reconcile();
+
+        assertEquals(30, schoolStatisticsService.getStatistics(teacherId).getTotalStudents());
+        assertEquals(12, schoolStatisticsService.getStatistics(teacherId).getTeacherStudents());
+    }
+
+    @Test
+    void getStatistics_whenTeacherHasNoCourses_thenReportsZeroForTeacher() {
+        SchoolStatisticsDto statistics = schoolStatisticsService.getStatistics(UUID.randomUUID());
+
+        assertEquals(0, statistics.getTeacherClasses());
+        assertEquals(0, statistics.getTeacherStudents());
+        assertEquals(0, statistics.getTeacherAssignments());
+        assertEquals(25, statistics.getTotalStudents());
+    }
+
+    private CourseOwner owner(UUID id, UUID teacherId) {
+        return new CourseOwner() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getTeacherId() {
+                return teacherId;
+            }
+        };
+    }
+
+    private CourseCount courseCount(UUID courseId, long total) {
+        return new CourseCount() {
+            @Override
+            public UUID getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private TeacherCount teacherCount(UUID teacherId, long total) {
+        return new TeacherCount() {
+            @Override
+            public UUID getTeacherId() {
+                return teacherId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.OnlineNotebook.UnitTest.SchoolYearRolloverService;
+
+import com.example.OnlineNotebook.models.dtos.admin.RolloverCourseDto;
+import com.example.OnlineNotebook.models.dtos.admin.RolloverPlanDto;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ArchivedAssignmentRepository;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.repositories.UserRepository.CourseCount;
+import com.example.OnlineNotebook.services.JobLeaseService;
+import com.example.OnlineNotebook.services.SchoolStatisticsService;
+import com.example.OnlineNotebook.services.SchoolYearRolloverService;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private GradeRepository gradeRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+    @Mock
+    private ArchivedGradeRepository archivedGradeRepository;
+    @Mock
+    private ArchivedAssignmentRepository archivedAssignmentRepository;
+    @Mock
+    private BatchJobService batchJobService;
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Mock
+    private JobLeaseService jobLeaseService;
+    @Mock
+    private SearchIndexService searchIndexService;
+    @Mock
+    private SchoolStatisticsService schoolStatisticsService;
+
+    private SchoolYearRolloverService rolloverService;
+
+    @BeforeEach
+    void setUp() {
+        rolloverService = new SchoolYearRolloverService(courseRepository, userRepository, gradeRepository, assignmentRepository,
+                archivedGradeRepository, archivedAssignmentRepository, batchJobService, jobCheckpointRepository, jobLeaseService,
+                new ConcurrentMapCacheManager(), searchIndexService, schoolStatisticsService, 100, 12);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rolloverService.shutdown();
+    }
+
+    @Test
+    void promotedName_whenNameStartsWithGrade_thenIncrementsItAndKeepsSuffix() {
+        assertEquals("11A", SchoolYearRolloverService.promotedName("10A", 12));
+        assertEquals("10 B", SchoolYearRolloverService.promotedName("9 B", 12));
+        assertNull(SchoolYearRolloverService.promotedName("12A", 12));
+        assertEquals("Chess club", SchoolYearRolloverService.promotedName("Chess club", 12));
+    }
+
+    @Test
+    void plan_whenCoursesActive_thenCountsWithoutChangingAnything() {
+        Course tenth = course("10A");
+        Course eleventh = course("11A");
+        Course twelfth = course("12A");
+        when(courseRepository.findActiveBySchoolYear("2024-2025")).thenReturn(List.of(tenth, eleventh, twelfth));
+        when(userRepository.countByCourseAndUserType(UserType.STUDENT)).thenReturn(List.of(
+                courseCount(tenth.getId(), 25), courseCount(eleventh.getId(), 20), courseCount(twelfth.getId(), 18)));
+        when(courseRepository.findFirstByNameAndSchoolYearAndArchivedFalse("11A", "2025-2026")).thenReturn(Optional.of(course("11A")));
+        when(courseRepository.findFirstByNameAndSchoolYearAndArchivedFalse("12A", "2025-2026")).thenReturn(Optional.empty());
+        when(gradeRepository.countByDateGradedBefore(any())).thenReturn(640L);
+        when(assignmentRepository.countByCourseSchoolYear("2024-2025")).thenReturn(37L);
+
+        RolloverPlanDto plan = rolloverService.plan("2024-2025", "2025-2026");
+
+        assertEquals(1, plan.getCoursesToCreate());
+        assertEquals(3, plan.getCoursesToArchive());
+        assertEquals(45, plan.getStudentsToPromote());
+        assertEquals(18, plan.getStudentsToGraduate());
+        assertEquals(640, plan.getGradesToArchive());
+        assertEquals(37, plan.getAssignmentsToArchive());
+        RolloverCourseDto graduating = plan.getCourses().get(2);
+        assertNull(graduating.getTargetName());
+        assertTrue(plan.getCourses().get(0).isTargetExists());
+        verify(courseRepository, never()).saveAll(any());
+        verify(courseRepository, never()).archiveSchoolYear(any(), any());
+        verifyNoInteractions(batchJobService, jobLeaseService, archivedGradeRepository, archivedAssignmentRepository);
+    }
+
+    @Test
+    void plan_whenYearsAreEqual_thenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> rolloverService.plan("2024-2025", "2024-2025"));
+        assertThrows(IllegalArgumentException.class, () -> rolloverService.plan(" ", "2025-2026"));
+        verifyNoInteractions(courseRepository, gradeRepository);
+    }
+
+    @Test
+    void start_whenSchoolYearHasNoActiveCourses_thenThrowsIllegalArgumentException() {
+        when(courseRepository.findActiveBySchoolYear("2023-2024")).thenReturn(List.of());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> rolloverService.start("2023-2024", "2024-2025"));
+
+        assertEquals("No active courses found for school year: 2023-2024", exception.getMessage());
+        assertNull(rolloverService.getStatus());
+        verifyNoInteractions(jobLeaseService);
+    }
+
+    private Course course(String name) {
+        return Course.builder().id(UUID.randomUUID()).name(name).schoolYear("2024-2025").build();
+    }
+
+    private CourseCount courseCount(UUID courseId, long total) {
+        return new CourseCount() {
+            @Override
+            public UUID getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
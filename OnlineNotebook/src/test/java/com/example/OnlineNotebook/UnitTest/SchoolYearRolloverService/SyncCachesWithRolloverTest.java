@@ -0,0 +1,118 @@
+package com.example.OnlineNotebook.UnitTest.SchoolYearRolloverService;
+
+import com.example.OnlineNotebook.repositories.ArchivedAssignmentRepository;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.repositories.JobCheckpointRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.JobLeaseService;
+import com.example.OnlineNotebook.services.SchoolStatisticsService;
+import com.example.OnlineNotebook.services.SchoolYearRolloverService;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import com.example.OnlineNotebook.services.batch.BatchJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncCachesWithRolloverTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private GradeRepository gradeRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+    @Mock
+    private ArchivedGradeRepository archivedGradeRepository;
+    @Mock
+    private ArchivedAssignmentRepository archivedAssignmentRepository;
+    @Mock
+    private BatchJobService batchJobService;
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Mock
+    private JobLeaseService jobLeaseService;
+    @Mock
+    private SearchIndexService searchIndexService;
+    @Mock
+    private SchoolStatisticsService schoolStatisticsService;
+
+    private CacheManager cacheManager;
+    private SchoolYearRolloverService rolloverService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("courses", "students", "studentHome", "archivedSchoolYears");
+        rolloverService = new SchoolYearRolloverService(courseRepository, userRepository, gradeRepository, assignmentRepository,
+                archivedGradeRepository, archivedAssignmentRepository, batchJobService, jobCheckpointRepository, jobLeaseService,
+                cacheManager, searchIndexService, schoolStatisticsService, 100, 12);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rolloverService.shutdown();
+    }
+
+    @Test
+    void syncCachesWithRollover_whenAnotherNodeFinishedRollover_thenClearsLocalEnrollmentCaches() {
+        LocalDateTime lastYear = LocalDateTime.now().minusYears(1);
+        when(jobCheckpointRepository.findLastUpdatedAt(SchoolYearRolloverService.ROLLOVER_JOB))
+                .thenReturn(lastYear, lastYear, LocalDateTime.now());
+        UUID courseId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+
+        rolloverService.syncCachesWithRollover();
+        cacheManager.getCache("courses").put(courseId, List.of("10A"));
+        cacheManager.getCache("students").put(courseId, List.of(studentId));
+        rolloverService.syncCachesWithRollover();
+
+        assertNotNull(cacheManager.getCache("courses").get(courseId));
+
+        rolloverService.syncCachesWithRollover();
+
+        assertNull(cacheManager.getCache("courses").get(courseId));
+        assertNull(cacheManager.getCache("students").get(courseId));
+    }
+
+    @Test
+    void syncCachesWithRollover_whenAnotherNodeFinishedRollover_thenDropsCachedArchivedSchoolYears() {
+        LocalDateTime lastYear = LocalDateTime.now().minusYears(1);
+        when(jobCheckpointRepository.findLastUpdatedAt(SchoolYearRolloverService.ROLLOVER_JOB))
+                .thenReturn(lastYear, LocalDateTime.now());
+        UUID studentId = UUID.randomUUID();
+
+        rolloverService.syncCachesWithRollover();
+        cacheManager.getCache("archivedSchoolYears").put(studentId, List.of("2023-2024"));
+        rolloverService.syncCachesWithRollover();
+
+        assertNull(cacheManager.getCache("archivedSchoolYears").get(studentId));
+    }
+
+    @Test
+    void syncCachesWithRollover_whenRolloverNeverRan_thenKeepsCaches() {
+        UUID courseId = UUID.randomUUID();
+        cacheManager.getCache("courses").put(courseId, List.of("10A"));
+
+        rolloverService.syncCachesWithRollover();
+        rolloverService.syncCachesWithRollover();
+
+        assertNotNull(cacheManager.getCache("courses").get(courseId));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.OnlineNotebook.UnitTest.SearchIndexService;
+
+import com.example.OnlineNotebook.models.dtos.search.SearchResultDto;
+import com.example.OnlineNotebook.models.entities.Assignment;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.SearchResultType;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.SearchIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchTest {
+
+    @InjectMocks
+    private SearchIndexService searchIndexService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    private User teacher;
+    private Course course;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findSearchRows()).thenReturn(List.of());
+        when(courseRepository.findSearchRows()).thenReturn(List.of());
+        when(assignmentRepository.findSearchRows()).thenReturn(List.of());
+        searchIndexService.rebuild();
+
+        teacher = user("Maria", "Georgieva", "maria.georgieva@school.bg", UserType.TEACHER, null);
+        course = Course.builder().id(UUID.randomUUID()).name("10A").schoolYear("2024-2025").teacher(teacher).build();
+        student = user("Ivan", "Petrov", "ivan.petrov@school.bg", UserType.STUDENT, course);
+        searchIndexService.index(teacher);
+        searchIndexService.index(course);
+        searchIndexService.index(student);
+        searchIndexService.index(Assignment.builder()
+                .id(UUID.randomUUID())
+                .title("Fractions homework")
+                .description("Practice adding fractions")
+                .course(course)
+                .createdBy(teacher)
+                .build());
+    }
+
+    @Test
+    void search_whenQueryIsPrefixOfName_thenReturnsMatchingUser() {
+        List<SearchResultDto> results = searchIndexService.search("iv", null, 20);
+
+        assertEquals(1, results.size());
+        assertEquals(student.getId(), results.get(0).getId());
+        assertEquals("Ivan Petrov", results.get(0).getTitle());
+        assertEquals(course.getId(), results.get(0).getCourseId());
+    }
+
+    @Test
+    void search_whenQueryHasSeveralTerms_thenRequiresAllOfThem() {
+        assertEquals(1, searchIndexService.search("ivan pet", null, 20).size());
+        assertTrue(searchIndexService.search("ivan georg", null, 20).isEmpty());
+    }
+
+    @Test
+    void search_whenQueryMatchesDescription_thenReturnsAssignment() {
+        List<SearchResultDto> results = searchIndexService.search("PRACTICE", null, 20);
+
+        assertEquals(1, results.size());
+        assertEquals(SearchResultType.ASSIGNMENT, results.get(0).getType());
+        assertEquals("10A", results.get(0).getSubtitle());
+    }
+
+    @Test
+    void search_whenUserIsRenamed_thenOldTermsNoLongerMatch() {
+        student.setLastName("Ivanov");
+        student.setEmail("ivan.ivanov@school.bg");
+        searchIndexService.index(student);
+
+        assertTrue(searchIndexService.search("petrov", null, 20).isEmpty());
+        assertEquals(1, searchIndexService.search("ivanov", null, 20).size());
+    }
+
+    @Test
+    void search_whenEntityRemoved_thenNoLongerReturned() {
+        searchIndexService.remove(student);
+
+        assertTrue(searchIndexService.search("ivan", null, 20).isEmpty());
+    }
+
+    @Test
+    void search_whenScopedToTeacher_thenReturnsOnlyOwnCoursesStudentsAndAssignments() {
+        User otherTeacher = user("Petar", "Dimitrov", "petar@school.bg", UserType.TEACHER, null);
+        Course otherCourse = Course.builder().id(UUID.randomUUID()).name("11B").schoolYear("2024-2025").teacher(otherTeacher).build();
+        searchIndexService.index(otherCourse);
+        searchIndexService.index(user("Ivana", "Koleva", "ivana@school.bg", UserType.STUDENT, otherCourse));
+
+        List<SearchResultDto> own = searchIndexService.search("iv", teacher.getId(), 20);
+        List<SearchResultDto> all = searchIndexService.search("iv", null, 20);
+
+        assertEquals(List.of(student.getId()), own.stream().map(SearchResultDto::getId).toList());
+        assertEquals(2, all.size());
+        assertTrue(searchIndexService.search("petar", teacher.getId(), 20).isEmpty());
+        assertEquals(1, searchIndexService.search("2024", teacher.getId(), 20).size());
+    }
+
+    @Test
+    void search_whenQueryIsBlank_thenReturnsNothing() {
+        assertTrue(searchIndexService.search("  ", null, 20).isEmpty());
+        assertTrue(searchIndexService.search(null, null, 20).isEmpty());
+    }
+
+    private User user(String firstName, String lastName, String email, UserType userType, Course course) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .userType(userType)
+                .course(course)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.OnlineNotebook.UnitTest.SessionAttributeCodec;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.session.SessionAttributeCodec;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.PortResolverImpl;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.security.web.savedrequest.DefaultSavedRequest;
+import org.springframework.web.servlet.FlashMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodeTest {
+
+    private final SessionAttributeCodec codec = new SessionAttributeCodec();
+
+    @Test
+    void encode_whenSecurityContextHoldsUserData_thenStoresPrincipalWithoutPassword() {
+        UUID userId = UUID.randomUUID();
+        CurrentUserSnapshot profile = new CurrentUserSnapshot(userId, "Ivan", "Petrov", "ivan@example.com",
+                UserType.STUDENT, null, "10A", UUID.randomUUID(), "Math");
+        UserData userData = UserData.builder()
+                .id(userId)
+                .email("ivan@example.com")
+                .password("$2a$10$encoded-password-hash")
+                .userType(UserType.STUDENT)
+                .profile(profile)
+                .build();
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(userData, "$2a$10$encoded-password-hash", userData.getAuthorities()));
+
+        byte[] encoded = codec.encode(Map.of("SPRING_SECURITY_CONTEXT", context));
+        Map<String, Object> decoded = codec.decode(encoded);
+
+        assertFalse(new String(encoded).contains("encoded-password-hash"));
+        SecurityContext restored = (SecurityContext) decoded.get("SPRING_SECURITY_CONTEXT");
+        UserData principal = (UserData) restored.getAuthentication().getPrincipal();
+        assertTrue(restored.getAuthentication().isAuthenticated());
+        assertEquals(userId, principal.getId());
+        assertEquals("ivan@example.com", principal.getEmail());
+        assertNull(principal.getPassword());
+        assertEquals(profile, principal.getProfile());
+        assertEquals("ROLE_STUDENT", restored.getAuthentication().getAuthorities().iterator().next().getAuthority());
+        assertEquals(userId, codec.principalId(decoded));
+    }
+
+    @Test
+    void encode_whenAttributeNotSerializable_thenSkipsOnlyThatAttribute() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("message", "Profile updated successfully!");
+        attributes.put("lock", new Object());
+
+        Map<String, Object> decoded = codec.decode(codec.encode(attributes));
+
+        assertEquals(Map.of("message", "Profile updated successfully!"), decoded);
+    }
+
+    @Test
+    void encode_whenAttributesUnchanged_thenProducesIdenticalBytes() {
+        Map<String, Object> attributes = Map.of("b", 2, "a", "first");
+
+        assertArrayEquals(codec.encode(attributes), codec.encode(new LinkedHashMap<>(attributes)));
+    }
+
+    @Test
+    void decode_whenClassOutsideAllowList_thenDropsAttribute() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("cookie", new Cookie("name", "value"));
+        attributes.put("count", 3);
+
+        Map<String, Object> decoded = codec.decode(codec.encode(attributes));
+
+        assertEquals(Map.of("count", 3), decoded);
+    }
+
+    @Test
+    void decode_whenCsrfTokenSavedRequestAndFlashMapsStored_thenRestoresThem() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/student/grades");
+        request.setQueryString("schoolYear=2024-2025");
+        request.setParameter("schoolYear", "2024-2025");
+        request.addHeader("Accept", "text/html");
+        request.addPreferredLocale(Locale.ENGLISH);
+        request.setCookies(new Cookie("theme", "dark"));
+        DefaultSavedRequest savedRequest = new DefaultSavedRequest(request, new PortResolverImpl(), "continue");
+        DefaultCsrfToken csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token-value");
+        FlashMap flashMap = new FlashMap();
+        flashMap.put("successMessage", "Profile updated successfully!");
+        flashMap.setTargetRequestPath("/student/profile");
+        flashMap.addTargetRequestParam("tab", "details");
+        flashMap.startExpirationPeriod(180);
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("SPRING_SECURITY_SAVED_REQUEST", savedRequest);
+        attributes.put("CSRF_TOKEN", csrfToken);
+        attributes.put("FLASH_MAPS", new ArrayList<>(List.of(flashMap)));
+
+        Map<String, Object> decoded = codec.decode(codec.encode(attributes));
+
+        DefaultSavedRequest restoredRequest = (DefaultSavedRequest) decoded.get("SPRING_SECURITY_SAVED_REQUEST");
+        assertEquals(savedRequest.getRedirectUrl(), restoredRequest.getRedirectUrl());
+        assertEquals(List.of("text/html"), restoredRequest.getHeaderValues("Accept"));
+        assertEquals("dark", restoredRequest.getCookies().get(0).getValue());
+        assertEquals("token-value", ((CsrfToken) decoded.get("CSRF_TOKEN")).getToken());
+        FlashMap restoredFlashMap = ((List<?>) decoded.get("FLASH_MAPS")).stream()
+                .map(FlashMap.class::cast).findFirst().orElseThrow();
+        assertEquals(flashMap, restoredFlashMap);
+        assertEquals("details", restoredFlashMap.getTargetRequestParams().getFirst("tab"));
+    }
+
+    @Test
+    void decode_whenGenericJdkOrSpringTypeStored_thenDropsAttribute() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("set", new java.util.HashSet<>(List.of("a")));
+        attributes.put("token", UsernamePasswordAuthenticationToken.unauthenticated("user", "secret"));
+        attributes.put("count", 3);
+
+        Map<String, Object> decoded = codec.decode(codec.encode(attributes));
+
+        assertEquals(Map.of("count", 3), decoded);
+    }
+}
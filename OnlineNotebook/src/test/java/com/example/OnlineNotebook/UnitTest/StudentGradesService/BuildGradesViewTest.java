@@ -2,6 +2,7 @@ package com.example.OnlineNotebook.UnitTest.StudentGradesService;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
 import com.example.OnlineNotebook.models.dtos.student.grades.StudentGradesViewDto;
+import com.example.OnlineNotebook.models.entities.ArchivedGrade;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.Grade;
 import com.example.OnlineNotebook.models.entities.User;
@@ -9,6 +10,7 @@ import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.GradeType;
 import com.example.OnlineNotebook.models.enums.SubjectType;
 import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.ArchivedGradeRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
 import com.example.OnlineNotebook.services.StudentGradesService;
 import com.example.OnlineNotebook.services.UserService;
@@ -16,7 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -38,6 +43,12 @@ class BuildGradesViewTest {
     @Mock
     private GradeRepository gradeRepository;
 
+    @Mock
+    private ArchivedGradeRepository archivedGradeRepository;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("archivedSchoolYears");
+
     @Test
     void buildGradesView_whenStudentExists_thenReturnGradesViewDto() {
         UUID studentId = UUID.randomUUID();
@@ -187,5 +198,62 @@ class BuildGradesViewTest {
         verify(userService, times(1)).getById(studentId);
         verify(gradeRepository, times(1)).findByStudent(student);
     }
-}
 
+    @Test
+    void buildGradesView_whenSchoolYearRequested_thenReadsArchiveInsteadOfCurrentGrades() {
+        UUID studentId = UUID.randomUUID();
+        User student = User.builder().id(studentId).firstName("Ivan").lastName("Schweicarov").userType(UserType.STUDENT).build();
+        User teacher = User.builder().id(UUID.randomUUID()).firstName("John").lastName("Doe").build();
+        ArchivedGrade archivedGrade = ArchivedGrade.builder()
+                .id(UUID.randomUUID())
+                .subjectType(SubjectType.MATH)
+                .gradeType(GradeType.END_OF_YEAR_EXAM)
+                .gradeLetter(GradeLetter.VERY_GOOD)
+                .gradedBy(teacher)
+                .dateGraded(LocalDateTime.now().minusYears(1))
+                .schoolYear("2024-2025")
+                .build();
+
+        when(userService.getById(studentId)).thenReturn(student);
+        when(archivedGradeRepository.findByStudentIdAndSchoolYear(studentId, "2024-2025")).thenReturn(List.of(archivedGrade));
+        when(archivedGradeRepository.findSchoolYearsByStudentId(studentId)).thenReturn(List.of("2024-2025"));
+
+        StudentGradesViewDto result = studentGradesService.buildGradesView(studentId, "2024-2025");
+
+        assertEquals("2024-2025", result.getSchoolYear());
+        assertEquals(List.of("2024-2025"), result.getArchivedSchoolYears());
+        assertEquals(1, result.getSummary().getTotalGrades());
+        assertEquals("John Doe", result.getSubjects().get(0).getGrades().get(0).getTeacherName());
+        verify(gradeRepository, never()).findByStudent(any());
+    }
+
+    @Test
+    void buildGradesView_whenNoSchoolYearRequested_thenDoesNotReadArchivedGrades() {
+        UUID studentId = UUID.randomUUID();
+        User student = User.builder().id(studentId).firstName("Ivan").lastName("Schweicarov").userType(UserType.STUDENT).build();
+
+        when(userService.getById(studentId)).thenReturn(student);
+        when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
+
+        StudentGradesViewDto result = studentGradesService.buildGradesView(studentId, null);
+
+        assertNull(result.getSchoolYear());
+        verify(archivedGradeRepository, never()).findByStudentIdAndSchoolYear(any(), any());
+    }
+
+    @Test
+    void buildGradesView_whenRenderedRepeatedly_thenLoadsArchivedSchoolYearsOnce() {
+        UUID studentId = UUID.randomUUID();
+        User student = User.builder().id(studentId).firstName("Ivan").lastName("Schweicarov").userType(UserType.STUDENT).build();
+
+        when(userService.getById(studentId)).thenReturn(student);
+        when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
+        when(archivedGradeRepository.findSchoolYearsByStudentId(studentId)).thenReturn(List.of("2024-2025"));
+
+        studentGradesService.buildGradesView(studentId, null);
+        StudentGradesViewDto result = studentGradesService.buildGradesView(studentId, null);
+
+        assertEquals(List.of("2024-2025"), result.getArchivedSchoolYears());
+        verify(archivedGradeRepository, times(1)).findSchoolYearsByStudentId(studentId);
+    }
+}
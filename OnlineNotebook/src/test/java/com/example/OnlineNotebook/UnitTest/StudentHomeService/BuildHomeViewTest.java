@@ -1,5 +1,7 @@
 package com.example.OnlineNotebook.UnitTest.StudentHomeService;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
 import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
@@ -10,8 +12,8 @@ import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.GradeType;
 import com.example.OnlineNotebook.models.enums.SubjectType;
 import com.example.OnlineNotebook.models.enums.UserType;
-import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.services.AssignmentService;
 import com.example.OnlineNotebook.services.StudentHomeService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
@@ -36,7 +38,7 @@ class BuildHomeViewTest {
     @Mock
     private GradeRepository gradeRepository;
     @Mock
-    private AssignmentRepository assignmentRepository;
+    private AssignmentService assignmentService;
 
     @Test
     void buildHomeView_whenStudentHasNoData_thenShouldReturnEmptyLists() {
@@ -68,7 +70,7 @@ class BuildHomeViewTest {
         assertTrue(result.getLeaderboard().isEmpty());
         verify(userService, times(1)).getById(studentId);
         verify(gradeRepository, times(1)).findByStudent(student);
-        verify(assignmentRepository, never()).findByCourse(any());
+        verify(assignmentService, never()).getAssignmentsByCourse(any());
     }
 
     @Test
@@ -118,8 +120,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(List.of(grade));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -135,9 +138,10 @@ class BuildHomeViewTest {
         assertFalse(result.getSubjectGrades().isEmpty());
         assertNotNull(result.getLeaderboard());
         verify(userService, times(1)).getById(studentId);
-        verify(gradeRepository, times(2)).findByStudent(student);
-        verify(assignmentRepository, times(1)).findByCourse(course);
-        verify(userService, times(1)).getStudentsByCourse(course);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
+        verify(assignmentService, times(1)).getAssignmentsByCourse(course.getId());
+        verify(userService, times(1)).getStudentsByCourse(course.getId());
     }
 
     @Test
@@ -171,7 +175,7 @@ class BuildHomeViewTest {
         assertTrue(result.getUpcomingAssignments().isEmpty());
         assertNotNull(result.getLeaderboard());
         assertTrue(result.getLeaderboard().isEmpty());
-        verify(assignmentRepository, never()).findByCourse(any());
+        verify(assignmentService, never()).getAssignmentsByCourse(any());
         verify(userService, never()).getStudentsByCourse(any());
     }
 
@@ -230,8 +234,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade1, grade2, grade3, grade4));
-        when(assignmentRepository.findByCourse(course)).thenReturn(Collections.emptyList());
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(List.of(grade1, grade2, grade3, grade4));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -241,7 +246,8 @@ class BuildHomeViewTest {
         assertEquals(GradeLetter.EXCELLENT.name(), result.getRecentGrades().get(0).getGradeLetter());
         assertEquals(GradeLetter.GOOD.name(), result.getRecentGrades().get(1).getGradeLetter());
         assertEquals(GradeLetter.AVERAGE.name(), result.getRecentGrades().get(2).getGradeLetter());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -308,8 +314,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment1, assignment2, assignment3, pastAssignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment1), AssignmentSnapshot.from(assignment2), AssignmentSnapshot.from(assignment3), AssignmentSnapshot.from(pastAssignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -319,7 +326,8 @@ class BuildHomeViewTest {
         assertEquals("Assignment 2", result.getUpcomingAssignments().get(0).getTitle());
         assertEquals("Assignment 3", result.getUpcomingAssignments().get(1).getTitle());
         assertEquals("Assignment 1", result.getUpcomingAssignments().get(2).getTitle());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -350,8 +358,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(gradeWithNulls));
-        when(assignmentRepository.findByCourse(course)).thenReturn(Collections.emptyList());
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(List.of(gradeWithNulls));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -359,7 +368,8 @@ class BuildHomeViewTest {
         assertNotNull(result.getRecentGrades());
         assertNotNull(result.getSubjectGrades());
         assertTrue(result.getSubjectGrades().isEmpty());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -436,25 +446,27 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student1);
         when(gradeRepository.findByStudent(student1)).thenReturn(Collections.emptyList());
-        when(gradeRepository.findByStudent(student2)).thenReturn(Collections.emptyList());
-        when(gradeRepository.findByStudent(student3)).thenReturn(Collections.emptyList());
-        when(gradeRepository.findByStudent(student4)).thenReturn(Collections.emptyList());
-        when(gradeRepository.findByStudent(student5)).thenReturn(Collections.emptyList());
-        when(gradeRepository.findByStudent(student6)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student1, student2, student3, student4, student5, student6));
+        when(gradeRepository.findByStudentId(student1.getId())).thenReturn(Collections.emptyList());
+        when(gradeRepository.findByStudentId(student2.getId())).thenReturn(Collections.emptyList());
+        when(gradeRepository.findByStudentId(student3.getId())).thenReturn(Collections.emptyList());
+        when(gradeRepository.findByStudentId(student4.getId())).thenReturn(Collections.emptyList());
+        when(gradeRepository.findByStudentId(student5.getId())).thenReturn(Collections.emptyList());
+        when(gradeRepository.findByStudentId(student6.getId())).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student1), StudentSnapshot.from(student2), StudentSnapshot.from(student3), StudentSnapshot.from(student4), StudentSnapshot.from(student5), StudentSnapshot.from(student6)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
         assertNotNull(result);
         assertNotNull(result.getLeaderboard());
         assertEquals(5, result.getLeaderboard().size());
-        verify(gradeRepository, times(2)).findByStudent(student1);
-        verify(gradeRepository, times(1)).findByStudent(student2);
-        verify(gradeRepository, times(1)).findByStudent(student3);
-        verify(gradeRepository, times(1)).findByStudent(student4);
-        verify(gradeRepository, times(1)).findByStudent(student5);
-        verify(gradeRepository, times(1)).findByStudent(student6);
+        verify(gradeRepository, times(1)).findByStudent(student1);
+        verify(gradeRepository, times(1)).findByStudentId(student1.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student2.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student3.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student4.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student5.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student6.getId());
     }
 
     @Test
@@ -475,8 +487,8 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course)).thenReturn(Collections.emptyList());
-        when(userService.getStudentsByCourse(course)).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(Collections.emptyList());
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -513,15 +525,17 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(gradeWithNull));
-        when(assignmentRepository.findByCourse(course)).thenReturn(Collections.emptyList());
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(List.of(gradeWithNull));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
         assertNotNull(result);
         assertNotNull(result.getQuickStats());
         assertEquals("--", result.getQuickStats().getAverageGradeDisplay());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -574,8 +588,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(mathGrade1, mathGrade2, physicsGrade));
-        when(assignmentRepository.findByCourse(course)).thenReturn(Collections.emptyList());
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(List.of(mathGrade1, mathGrade2, physicsGrade));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(Collections.emptyList());
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -583,7 +598,8 @@ class BuildHomeViewTest {
         assertNotNull(result.getSubjectGrades());
         assertEquals(2, result.getSubjectGrades().size());
         assertTrue(result.getSubjectGrades().get(0).getPercentage() >= result.getSubjectGrades().get(1).getPercentage());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -620,15 +636,17 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
         assertNotNull(result);
         assertNotNull(result.getUpcomingAssignments());
         assertEquals(1, result.getUpcomingAssignments().size());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 
     @Test
@@ -692,9 +710,10 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student1);
         when(gradeRepository.findByStudent(student1)).thenReturn(List.of(grade1));
-        when(gradeRepository.findByStudent(student2)).thenReturn(List.of(grade2));
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student1, student2));
+        when(gradeRepository.findByStudentId(student1.getId())).thenReturn(List.of(grade1));
+        when(gradeRepository.findByStudentId(student2.getId())).thenReturn(List.of(grade2));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student1), StudentSnapshot.from(student2)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -703,8 +722,9 @@ class BuildHomeViewTest {
         assertEquals(2, result.getLeaderboard().size());
         assertTrue(result.getLeaderboard().get(0).isCurrentUser());
         assertEquals("6.00", result.getLeaderboard().get(0).getGradeDisplay());
-        verify(gradeRepository, times(2)).findByStudent(student1);
-        verify(gradeRepository, times(1)).findByStudent(student2);
+        verify(gradeRepository, times(1)).findByStudent(student1);
+        verify(gradeRepository, times(1)).findByStudentId(student1.getId());
+        verify(gradeRepository, times(1)).findByStudentId(student2.getId());
     }
 
     @Test
@@ -751,8 +771,9 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(pastAssignment, futureAssignment));
-        when(userService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(gradeRepository.findByStudentId(student.getId())).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(pastAssignment), AssignmentSnapshot.from(futureAssignment)));
+        when(userService.getStudentsByCourse(course.getId())).thenReturn(List.of(StudentSnapshot.from(student)));
 
         StudentHomeViewDto result = studentHomeService.buildHomeView(studentId);
 
@@ -761,7 +782,8 @@ class BuildHomeViewTest {
         assertEquals(1, result.getQuickStats().getPendingAssignments());
         assertNotNull(result.getUpcomingAssignments());
         assertEquals(1, result.getUpcomingAssignments().size());
-        verify(gradeRepository, times(2)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudent(student);
+        verify(gradeRepository, times(1)).findByStudentId(student.getId());
     }
 }
 
@@ -1,5 +1,6 @@
 package com.example.OnlineNotebook.UnitTest.StudentHomeService;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
@@ -69,26 +70,26 @@ class HelpingMethodsTest {
 
     @Test
     void buildFullName_whenUserIsProvided_thenReturnFullName() throws Exception {
-        Method method = StudentHomeService.class.getDeclaredMethod("buildFullName", User.class);
+        Method method = StudentHomeService.class.getDeclaredMethod("buildFullName", StudentSnapshot.class);
         method.setAccessible(true);
         
         User user = User.builder()
                 .firstName("John")
                 .lastName("Smith")
                 .build();
-        assertEquals("John Smith", method.invoke(studentHomeService, user));
+        assertEquals("John Smith", method.invoke(studentHomeService, StudentSnapshot.from(user)));
         
         User userWithNull = User.builder()
                 .firstName(null)
                 .lastName("Smith")
                 .build();
-        assertEquals("Smith", method.invoke(studentHomeService, userWithNull));
+        assertEquals("Smith", method.invoke(studentHomeService, StudentSnapshot.from(userWithNull)));
         
         User userWithEmpty = User.builder()
                 .firstName("")
                 .lastName("")
                 .build();
-        assertEquals("", method.invoke(studentHomeService, userWithEmpty));
+        assertEquals("", method.invoke(studentHomeService, StudentSnapshot.from(userWithEmpty)));
     }
 
     @Test
@@ -147,24 +148,24 @@ class HelpingMethodsTest {
 
     @Test
     void resolveAssignmentSubject_whenTypeIsNotNull_thenReturnTypeDisplay() throws Exception {
-        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         Course course = Course.builder().name("Math").build();
-        assertEquals("Homework", method.invoke(studentHomeService, AssignmentType.HOMEWORK, course));
-        assertEquals("Test preparation", method.invoke(studentHomeService, AssignmentType.TEST_PREPARATION, course));
+        assertEquals("Homework", method.invoke(studentHomeService, AssignmentType.HOMEWORK, course.getName()));
+        assertEquals("Test preparation", method.invoke(studentHomeService, AssignmentType.TEST_PREPARATION, course.getName()));
     }
 
     @Test
     void resolveAssignmentSubject_whenTypeIsNull_thenReturnCourseName() throws Exception {
-        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         Course course = Course.builder().name("Mathematics").build();
-        assertEquals("Mathematics", method.invoke(studentHomeService, null, course));
+        assertEquals("Mathematics", method.invoke(studentHomeService, null, course.getName()));
     }
 
     @Test
     void resolveAssignmentSubject_whenTypeAndCourseAreNull_thenReturnCourse() throws Exception {
-        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentHomeService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         assertEquals("Course", method.invoke(studentHomeService, null, null));
     }
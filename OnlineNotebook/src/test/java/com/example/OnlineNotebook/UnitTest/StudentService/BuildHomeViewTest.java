@@ -3,6 +3,8 @@ package com.example.OnlineNotebook.UnitTest.StudentService;
 import com.example.OnlineNotebook.client.dto.AttendanceResponseDto;
 import com.example.OnlineNotebook.client.AttendanceStatus;
 import com.example.OnlineNotebook.client.service.AttendanceClientService;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.student.home.StudentHomeViewDto;
 import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
@@ -13,8 +15,8 @@ import com.example.OnlineNotebook.models.enums.GradeLetter;
 import com.example.OnlineNotebook.models.enums.GradeType;
 import com.example.OnlineNotebook.models.enums.SubjectType;
 import com.example.OnlineNotebook.models.enums.UserType;
-import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.GradeRepository;
+import com.example.OnlineNotebook.services.AssignmentService;
 import com.example.OnlineNotebook.services.StudentService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
@@ -40,7 +42,7 @@ class BuildHomeViewTest {
     @Mock
     private GradeRepository gradeRepository;
     @Mock
-    private AssignmentRepository assignmentRepository;
+    private AssignmentService assignmentService;
     @Mock
     private AttendanceClientService attendanceClientService;
 
@@ -78,7 +80,7 @@ class BuildHomeViewTest {
         assertTrue(result.getAttendances().isEmpty());
         verify(userService, times(1)).getById(studentId);
         verify(gradeRepository, times(1)).findByStudent(student);
-        verify(assignmentRepository, never()).findByCourse(any());
+        verify(assignmentService, never()).getAssignmentsByCourse(any());
         verify(attendanceClientService, times(1)).getAttendances(studentId, studentId);
     }
 
@@ -128,7 +130,7 @@ class BuildHomeViewTest {
 
         when(userService.getById(studentId)).thenReturn(student);
         when(gradeRepository.findByStudent(student)).thenReturn(List.of(grade));
-        when(assignmentRepository.findByCourse(course)).thenReturn(List.of(assignment));
+        when(assignmentService.getAssignmentsByCourse(course.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment)));
         when(attendanceClientService.getAttendances(studentId, studentId))
                 .thenReturn(ResponseEntity.ok(List.of(attendance)));
 
@@ -149,7 +151,7 @@ class BuildHomeViewTest {
         assertEquals(1, result.getAttendances().size());
         verify(userService, times(1)).getById(studentId);
         verify(gradeRepository, times(1)).findByStudent(student);
-        verify(assignmentRepository, times(1)).findByCourse(course);
+        verify(assignmentService, times(1)).getAssignmentsByCourse(course.getId());
         verify(attendanceClientService, times(1)).getAttendances(studentId, studentId);
     }
 
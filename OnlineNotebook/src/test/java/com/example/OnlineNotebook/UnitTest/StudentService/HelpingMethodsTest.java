@@ -1,6 +1,7 @@
 package com.example.OnlineNotebook.UnitTest.StudentService;
 
 import com.example.OnlineNotebook.client.service.AttendanceClientService;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
@@ -77,20 +78,20 @@ class HelpingMethodsTest {
 
     @Test
     void buildFullName_whenUserIsProvided_thenReturnFullName() throws Exception {
-        Method method = StudentService.class.getDeclaredMethod("buildFullName", User.class);
+        Method method = StudentService.class.getDeclaredMethod("buildFullName", StudentSnapshot.class);
         method.setAccessible(true);
         
         User user = User.builder()
                 .firstName("John")
                 .lastName("Smith")
                 .build();
-        assertEquals("John Smith", method.invoke(studentService, user));
+        assertEquals("John Smith", method.invoke(studentService, StudentSnapshot.from(user)));
         
         User userWithNull = User.builder()
                 .firstName(null)
                 .lastName("Smith")
                 .build();
-        assertEquals("Smith", method.invoke(studentService, userWithNull));
+        assertEquals("Smith", method.invoke(studentService, StudentSnapshot.from(userWithNull)));
     }
 
     @Test
@@ -149,24 +150,24 @@ class HelpingMethodsTest {
 
     @Test
     void resolveAssignmentSubject_whenTypeIsNotNull_thenReturnTypeDisplay() throws Exception {
-        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         Course course = Course.builder().name("Math").build();
-        assertEquals("Homework", method.invoke(studentService, AssignmentType.HOMEWORK, course));
-        assertEquals("Test preparation", method.invoke(studentService, AssignmentType.TEST_PREPARATION, course));
+        assertEquals("Homework", method.invoke(studentService, AssignmentType.HOMEWORK, course.getName()));
+        assertEquals("Test preparation", method.invoke(studentService, AssignmentType.TEST_PREPARATION, course.getName()));
     }
 
     @Test
     void resolveAssignmentSubject_whenTypeIsNull_thenReturnCourseName() throws Exception {
-        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         Course course = Course.builder().name("Mathematics").build();
-        assertEquals("Mathematics", method.invoke(studentService, null, course));
+        assertEquals("Mathematics", method.invoke(studentService, null, course.getName()));
     }
 
     @Test
     void resolveAssignmentSubject_whenTypeAndCourseAreNull_thenReturnCourse() throws Exception {
-        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, Course.class);
+        Method method = StudentService.class.getDeclaredMethod("resolveAssignmentSubject", AssignmentType.class, String.class);
         method.setAccessible(true);
         assertEquals("Course", method.invoke(studentService, null, null));
     }
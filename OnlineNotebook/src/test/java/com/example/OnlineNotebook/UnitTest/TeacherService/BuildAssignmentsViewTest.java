@@ -1,5 +1,6 @@
 package com.example.OnlineNotebook.UnitTest.TeacherService;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.assignment.TeacherAssignmentsViewDto;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
@@ -82,7 +83,7 @@ public class BuildAssignmentsViewTest {
                 .teacher(teacher)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1, course2));
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1), CourseSnapshot.from(course2)));
 
         TeacherAssignmentsViewDto result = teacherService.buildAssignmentsView(teacher);
 
@@ -110,7 +111,7 @@ public class BuildAssignmentsViewTest {
                 .teacher(teacher)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
 
         TeacherAssignmentsViewDto result = teacherService.buildAssignmentsView(teacher);
 
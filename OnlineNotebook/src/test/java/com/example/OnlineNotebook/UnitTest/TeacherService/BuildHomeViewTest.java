@@ -10,6 +10,7 @@ import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.services.CourseService;
 import com.example.OnlineNotebook.services.GradeService;
 import com.example.OnlineNotebook.services.TeacherService;
+import com.example.OnlineNotebook.services.SchoolStatisticsService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +36,8 @@ public class BuildHomeViewTest {
     @Mock
     private AssignmentRepository assignmentRepository;
     @Mock
+    private SchoolStatisticsService schoolStatisticsService;
+    @Mock
     private GradeService gradeService;
 
     @Test
@@ -1,6 +1,9 @@
 package com.example.OnlineNotebook.UnitTest.TeacherService;
 
 import com.example.OnlineNotebook.exceptions.ResourceNotFoundException;
+import com.example.OnlineNotebook.models.dtos.snapshot.AssignmentSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.CourseSnapshot;
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.dtos.teacher.student.TeacherStudentsViewDto;
 import com.example.OnlineNotebook.models.entities.Assignment;
 import com.example.OnlineNotebook.models.entities.Course;
@@ -8,6 +11,7 @@ import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.services.AssignmentService;
 import com.example.OnlineNotebook.services.CourseService;
 import com.example.OnlineNotebook.services.GradeService;
 import com.example.OnlineNotebook.services.TeacherService;
@@ -38,6 +42,8 @@ public class BuildStudentsViewTest {
     @Mock
     private AssignmentRepository assignmentRepository;
     @Mock
+    private AssignmentService assignmentService;
+    @Mock
     private GradeService gradeService;
 
     @Test
@@ -87,7 +93,7 @@ public class BuildStudentsViewTest {
                 .teacher(teacher)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1, course2));
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1), CourseSnapshot.from(course2)));
 
         TeacherStudentsViewDto result = teacherService.buildStudentsView(teacher, course2.getId(), null);
 
@@ -114,7 +120,7 @@ public class BuildStudentsViewTest {
                 .build();
 
         UUID nonExistentId = UUID.randomUUID();
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
 
         TeacherStudentsViewDto result = teacherService.buildStudentsView(teacher, nonExistentId, null);
 
@@ -148,18 +154,18 @@ public class BuildStudentsViewTest {
                 .course(course1)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
-        when(userService.getStudentsByCourse(course1)).thenReturn(List.of(student1));
-        when(assignmentRepository.findByCourse(course1)).thenReturn(Collections.emptyList());
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(List.of(StudentSnapshot.from(student1)));
+        when(assignmentService.getAssignmentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
 
         TeacherStudentsViewDto result = teacherService.buildStudentsView(teacher, null, null);
 
         assertNotNull(result);
         assertEquals(course1.getId(), result.getSelectedCourseId());
         assertEquals(1, result.getStudents().size());
-        assertEquals(student1.getId(), result.getStudents().get(0).getId());
+        assertEquals(student1.getId(), result.getStudents().get(0).id());
         verify(courseService, times(1)).getCoursesByTeacher(teacher);
-        verify(userService, times(1)).getStudentsByCourse(course1);
+        verify(userService, times(1)).getStudentsByCourse(course1.getId());
     }
 
     @Test
@@ -187,9 +193,9 @@ public class BuildStudentsViewTest {
                 .course(course1)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
-        when(userService.getStudentsByCourse(course1)).thenReturn(List.of(student1));
-        when(assignmentRepository.findByCourse(course1)).thenReturn(Collections.emptyList());
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(List.of(StudentSnapshot.from(student1)));
+        when(assignmentService.getAssignmentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
         when(gradeService.getStudentGradesForTeacher(teacher, student1.getId(), course1.getId()))
                 .thenReturn(Collections.emptyList());
 
@@ -198,7 +204,7 @@ public class BuildStudentsViewTest {
         assertNotNull(result);
         assertTrue(result.isShowGradesModal());
         assertEquals(student1.getId(), result.getSelectedStudentId());
-        assertEquals(student1.getId(), result.getSelectedStudent().getId());
+        assertEquals(student1.getId(), result.getSelectedStudent().id());
         verify(gradeService, times(1)).getStudentGradesForTeacher(teacher, student1.getId(), course1.getId());
     }
 
@@ -229,9 +235,9 @@ public class BuildStudentsViewTest {
 
         UUID nonExistentStudentId = UUID.randomUUID();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
-        when(userService.getStudentsByCourse(course1)).thenReturn(List.of(student1));
-        when(assignmentRepository.findByCourse(course1)).thenReturn(Collections.emptyList());
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(List.of(StudentSnapshot.from(student1)));
+        when(assignmentService.getAssignmentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
 
         TeacherStudentsViewDto result = teacherService.buildStudentsView(teacher, course1.getId(), nonExistentStudentId);
 
@@ -266,9 +272,9 @@ public class BuildStudentsViewTest {
                 .course(course1)
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
-        when(userService.getStudentsByCourse(course1)).thenReturn(List.of(student1));
-        when(assignmentRepository.findByCourse(course1)).thenReturn(Collections.emptyList());
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(List.of(StudentSnapshot.from(student1)));
+        when(assignmentService.getAssignmentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
         when(gradeService.getStudentGradesForTeacher(teacher, student1.getId(), course1.getId()))
                 .thenThrow(new ResourceNotFoundException("Student not found"));
 
@@ -307,16 +313,16 @@ public class BuildStudentsViewTest {
                 .assignedDate(LocalDateTime.now())
                 .build();
 
-        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(course1));
-        when(userService.getStudentsByCourse(course1)).thenReturn(Collections.emptyList());
-        when(assignmentRepository.findByCourse(course1)).thenReturn(List.of(assignment1));
+        when(courseService.getCoursesByTeacher(teacher)).thenReturn(List.of(CourseSnapshot.from(course1)));
+        when(userService.getStudentsByCourse(course1.getId())).thenReturn(Collections.emptyList());
+        when(assignmentService.getAssignmentsByCourse(course1.getId())).thenReturn(List.of(AssignmentSnapshot.from(assignment1)));
 
         TeacherStudentsViewDto result = teacherService.buildStudentsView(teacher, course1.getId(), null);
 
         assertNotNull(result);
         assertEquals(1, result.getAssignments().size());
-        assertEquals(assignment1.getId(), result.getAssignments().get(0).getId());
-        verify(assignmentRepository, times(1)).findByCourse(course1);
+        assertEquals(assignment1.getId(), result.getAssignments().get(0).id());
+        verify(assignmentService, times(1)).getAssignmentsByCourse(course1.getId());
     }
 }
 
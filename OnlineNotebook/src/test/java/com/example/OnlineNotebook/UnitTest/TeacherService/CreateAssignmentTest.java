@@ -7,6 +7,7 @@ import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.services.AssignmentDeadlineService;
 import com.example.OnlineNotebook.services.CourseService;
 import com.example.OnlineNotebook.services.GradeService;
 import com.example.OnlineNotebook.services.TeacherService;
@@ -17,6 +18,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,7 +39,11 @@ public class CreateAssignmentTest {
     @Mock
     private AssignmentRepository assignmentRepository;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private GradeService gradeService;
+    @Mock
+    private AssignmentDeadlineService assignmentDeadlineService;
 
     @Test
     void createAssignment_whenValidData_thenShouldCreateAssignment() {
@@ -76,6 +82,7 @@ public class CreateAssignmentTest {
         assertEquals(course.getId(), result.getCourse().getId());
         verify(courseService, times(1)).getCourseById(course.getId());
         verify(assignmentRepository, times(1)).save(any(Assignment.class));
+        verify(assignmentDeadlineService, times(1)).schedule(result.getId(), course.getId(), result.getDueDate());
     }
 
     @Test
@@ -101,6 +108,7 @@ public class CreateAssignmentTest {
 
         verify(courseService, never()).getCourseById(any());
         verify(assignmentRepository, never()).save(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -129,6 +137,7 @@ public class CreateAssignmentTest {
 
         verify(courseService, times(1)).getCourseById(courseId);
         verify(assignmentRepository, never()).save(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -170,6 +179,7 @@ public class CreateAssignmentTest {
 
         verify(courseService, times(1)).getCourseById(course.getId());
         verify(assignmentRepository, never()).save(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -203,6 +213,7 @@ public class CreateAssignmentTest {
 
         verify(courseService, times(1)).getCourseById(course.getId());
         verify(assignmentRepository, never()).save(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -236,6 +247,7 @@ public class CreateAssignmentTest {
 
         verify(courseService, times(1)).getCourseById(course.getId());
         verify(assignmentRepository, never()).save(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.AssignmentType;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.services.AssignmentDeadlineService;
 import com.example.OnlineNotebook.services.CourseService;
 import com.example.OnlineNotebook.services.GradeService;
 import com.example.OnlineNotebook.services.TeacherService;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -36,7 +38,11 @@ public class DeleteAssignmentTest {
     @Mock
     private AssignmentRepository assignmentRepository;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private GradeService gradeService;
+    @Mock
+    private AssignmentDeadlineService assignmentDeadlineService;
 
     @Test
     void deleteAssignment_whenValidData_thenShouldDeleteAssignment() {
@@ -73,6 +79,7 @@ public class DeleteAssignmentTest {
 
         verify(assignmentRepository, times(1)).findById(assignment.getId());
         verify(assignmentRepository, times(1)).delete(assignment);
+        verify(assignmentDeadlineService, times(1)).cancel(assignment.getId());
     }
 
     @Test
@@ -95,6 +102,7 @@ public class DeleteAssignmentTest {
 
         verify(assignmentRepository, times(1)).findById(assignmentId);
         verify(assignmentRepository, never()).delete(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 
     @Test
@@ -139,6 +147,7 @@ public class DeleteAssignmentTest {
 
         verify(assignmentRepository, times(1)).findById(assignment.getId());
         verify(assignmentRepository, never()).delete(any());
+        verifyNoInteractions(assignmentDeadlineService);
     }
 }
 
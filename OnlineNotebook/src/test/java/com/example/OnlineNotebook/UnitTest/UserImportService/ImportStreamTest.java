@@ -0,0 +1,135 @@
+package com.example.OnlineNotebook.UnitTest.UserImportService;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.BulkImportFormat;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
+import com.example.OnlineNotebook.services.PasswordHashingService;
+import com.example.OnlineNotebook.services.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportStreamTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserImportService userImportService;
+    private List<BulkImportRowResult> streamed;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, courseRepository, passwordHashingService, new ObjectMapper(), emailIndexService, eventPublisher, 2);
+        lenient().when(emailIndexService.mightContain(any())).thenReturn(true);
+        streamed = new ArrayList<>();
+        lenient().when(passwordHashingService.encodeAll(anyList()))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(raw -> "hashed").toList());
+        lenient().when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+        lenient().when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(UUID.randomUUID()));
+            return users;
+        });
+    }
+
+    @Test
+    void importStream_whenCsvHasMoreRowsThanBatchSize_thenImportsInBatchesAndStreamsEveryRow() {
+        String csv = """
+                firstName,lastName,email,password,userType,studentClass
+                Ivan,Petrov,ivan@test.com,secret1,student,
+                "Maria, Jr.",Ivanova,maria@test.com,secret2,STUDENT,
+                Georgi,Georgiev,georgi@test.com,secret3,TEACHER,
+                """;
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+
+        List<List<BulkImportRowResult>> batches = new ArrayList<>();
+
+        BulkRegistrationResult result = userImportService.importStream(
+                userImportService.openStream(new StringReader(csv), BulkImportFormat.CSV), batches::add);
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getSucceeded());
+        assertNull(result.getResults());
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        assertEquals(List.of(1, 2, 3), batches.stream().flatMap(List::stream).map(BulkImportRowResult::getRow).toList());
+        verify(userRepository, times(2)).saveAll(saved.capture());
+        List<User> users = saved.getAllValues().stream().flatMap(Collection::stream).toList();
+        assertEquals("Maria, Jr.", users.get(1).getFirstName());
+        assertEquals(UserType.TEACHER, users.get(2).getUserType());
+    }
+
+    @Test
+    void importStream_whenCsvRowCannotBeParsed_thenReportsItAndContinues() {
+        String csv = """
+                email,firstName,lastName,password,userType
+                ivan@test.com,Ivan,Petrov,secret1,PRINCIPAL
+                maria@test.com,Maria,Ivanova,secret2,STUDENT
+                """;
+
+        BulkRegistrationResult result = userImportService.importStream(
+                userImportService.openStream(new StringReader(csv), BulkImportFormat.CSV), streamed::addAll);
+
+        assertEquals("Processed 2 users: 1 successful, 1 failed", result.getMessage());
+        BulkImportRowResult failed = streamed.stream().filter(row -> row.getRow() == 1).findFirst().orElseThrow();
+        assertFalse(failed.isSuccess());
+        assertTrue(failed.getMessage().startsWith("Could not parse row"));
+    }
+
+    @Test
+    void importStream_whenNdjson_thenParsesEachLine() {
+        String ndjson = """
+                {"firstName":"Ivan","lastName":"Petrov","email":"ivan@test.com","password":"secret1","userType":"STUDENT"}
+
+                {"firstName":"Maria","lastName":"Ivanova","email":"maria@test.com","password":"secret2","userType":"TEACHER"}
+                not json
+                """;
+
+        BulkRegistrationResult result = userImportService.importStream(
+                userImportService.openStream(new StringReader(ndjson), BulkImportFormat.NDJSON), streamed::addAll);
+
+        assertEquals(3, result.getProcessed());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        verify(userRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void openStream_whenCsvHasNoEmailColumn_thenRejectsFileBeforeImporting() {
+        String csv = "firstName,lastName\nIvan,Petrov\n";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> userImportService.openStream(new StringReader(csv), BulkImportFormat.CSV));
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.OnlineNotebook.UnitTest.UserImportService;
+
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportRowResult;
+import com.example.OnlineNotebook.models.dtos.admin.BulkImportUserDto;
+import com.example.OnlineNotebook.models.dtos.admin.BulkRegistrationResult;
+import com.example.OnlineNotebook.models.entities.Course;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
+import com.example.OnlineNotebook.services.PasswordHashingService;
+import com.example.OnlineNotebook.services.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportUsersTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, courseRepository, passwordHashingService, new ObjectMapper(), emailIndexService, eventPublisher, 2);
+        lenient().when(emailIndexService.mightContain(any())).thenReturn(true);
+        lenient().when(passwordHashingService.encodeAll(anyList()))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(raw -> "hashed-" + raw).toList());
+        lenient().when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(UUID.randomUUID()));
+            return users;
+        });
+    }
+
+    @Test
+    void importUsers_whenAllRowsValid_thenChecksEmailsOnceAndInsertsInBatches() {
+        List<BulkImportUserDto> rows = List.of(row("a@test.com", null), row("b@test.com", null), row("c@test.com", null));
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+
+        BulkRegistrationResult result = userImportService.importUsers(rows);
+
+        assertTrue(result.isSuccess());
+        assertEquals("Processed 3 users: 3 successful, 0 failed", result.getMessage());
+        assertEquals(3, result.getSucceeded());
+        assertTrue(result.getResults().stream().allMatch(row -> row.getUserId() != null));
+        verify(userRepository, times(1)).findEmailsByEmailIn(anyCollection());
+        verify(userRepository, times(2)).saveAll(anyList());
+        verify(userRepository, never()).existsByEmail(any());
+        verify(passwordHashingService, times(2)).encodeAll(anyList());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void importUsers_whenFileContainsDuplicateEmails_thenKeepsFirstRowAndReportsTheRest() {
+        List<BulkImportUserDto> rows = List.of(row("a@test.com", null), row("A@Test.com ", null));
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+
+        BulkRegistrationResult result = userImportService.importUsers(rows);
+
+        assertFalse(result.isSuccess());
+        BulkImportRowResult duplicate = result.getResults().get(1);
+        assertEquals(2, duplicate.getRow());
+        assertFalse(duplicate.isSuccess());
+        assertEquals("Duplicate email in import, first seen on row 1", duplicate.getMessage());
+    }
+
+    @Test
+    void importUsers_whenEmailAlreadyExists_thenReportsRowWithoutHashingIt() {
+        List<BulkImportUserDto> rows = List.of(row("new@test.com", null), row("existing@test.com", null));
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of("existing@test.com"));
+
+        BulkRegistrationResult result = userImportService.importUsers(rows);
+
+        assertEquals("Processed 2 users: 1 successful, 1 failed", result.getMessage());
+        assertEquals("Email already exists: existing@test.com", result.getResults().get(1).getMessage());
+        verify(passwordHashingService).encodeAll(List.of("password123"));
+    }
+
+    @Test
+    void importUsers_whenRowsHaveStudentClasses_thenResolvesCoursesWithOneQuery() {
+        Course course = Course.builder().id(UUID.randomUUID()).name("10A").build();
+        List<BulkImportUserDto> rows = List.of(row("a@test.com", "10A"), row("b@test.com", "10A"), row("c@test.com", "11B"));
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+        when(courseRepository.findByNameIn(Set.of("10A", "11B"))).thenReturn(List.of(course));
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+
+        userImportService.importUsers(rows);
+
+        verify(courseRepository, times(1)).findByNameIn(anyCollection());
+        verify(userRepository, times(2)).saveAll(saved.capture());
+        List<User> users = saved.getAllValues().stream().flatMap(Collection::stream).toList();
+        assertSame(course, users.get(0).getCourse());
+        assertSame(course, users.get(1).getCourse());
+        assertNull(users.get(2).getCourse());
+        assertEquals("hashed-password123", users.get(0).getPassword());
+    }
+
+    @Test
+    void importUsers_whenRowIsInvalid_thenReportsReasonAndImportsTheRest() {
+        BulkImportUserDto missingEmail = row(null, null);
+        BulkImportUserDto missingType = row("b@test.com", null);
+        missingType.setUserType(null);
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+
+        BulkRegistrationResult result = userImportService.importUsers(List.of(missingEmail, missingType, row("c@test.com", null)));
+
+        assertEquals("Email is required", result.getResults().get(0).getMessage());
+        assertEquals("User type is required", result.getResults().get(1).getMessage());
+        assertTrue(result.getResults().get(2).isSuccess());
+        assertEquals(2, result.getFailed());
+    }
+
+    @Test
+    void importUsers_whenBatchInsertFails_thenRetriesRowByRowAndReportsOnlyFailingRow() {
+        List<BulkImportUserDto> rows = List.of(row("a@test.com", null), row("b@test.com", null));
+        when(userRepository.findEmailsByEmailIn(anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userRepository).saveAll(anyList());
+        List<String> savedEmails = new ArrayList<>();
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (user.getEmail().equals("b@test.com")) {
+                throw new DataIntegrityViolationException("duplicate b@test.com");
+            }
+            savedEmails.add(user.getEmail());
+            user.setId(UUID.randomUUID());
+            return user;
+        });
+
+        BulkRegistrationResult result = userImportService.importUsers(rows);
+
+        assertEquals(List.of("a@test.com"), savedEmails);
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertTrue(result.getResults().get(1).getMessage().startsWith("Could not save user"));
+    }
+
+    @Test
+    void importUsers_whenIndexRulesOutEveryEmail_thenSkipsExistenceQuery() {
+        when(emailIndexService.mightContain(any())).thenReturn(false);
+
+        BulkRegistrationResult result = userImportService.importUsers(List.of(row("a@test.com", null), row("b@test.com", null)));
+
+        assertEquals(2, result.getSucceeded());
+        verify(userRepository, never()).findEmailsByEmailIn(anyCollection());
+    }
+
+    @Test
+    void importUsers_whenIndexFlagsSomeEmails_thenQueriesOnlyThose() {
+        when(emailIndexService.mightContain("a@test.com")).thenReturn(false);
+        when(userRepository.findEmailsByEmailIn(List.of("b@test.com"))).thenReturn(List.of("b@test.com"));
+
+        BulkRegistrationResult result = userImportService.importUsers(List.of(row("a@test.com", null), row("b@test.com", null)));
+
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertEquals("Email already exists: b@test.com", result.getResults().get(1).getMessage());
+    }
+
+    @Test
+    void importUsers_whenEmptyList_thenReturnsSuccessWithoutQueries() {
+        BulkRegistrationResult result = userImportService.importUsers(List.of());
+
+        assertTrue(result.isSuccess());
+        assertEquals("Processed 0 users: 0 successful, 0 failed", result.getMessage());
+        verifyNoInteractions(userRepository, courseRepository, passwordHashingService);
+    }
+
+    private BulkImportUserDto row(String email, String studentClass) {
+        return BulkImportUserDto.builder()
+                .firstName("Ivan")
+                .lastName("Petrov")
+                .email(email)
+                .password("password123")
+                .userType(UserType.STUDENT)
+                .studentClass(studentClass)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.OnlineNotebook.UnitTest.UserService;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +26,8 @@ class EmailExistsTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private CourseRepository courseRepository;
@@ -33,6 +38,8 @@ class EmailExistsTest {
     void emailExists_whenEmailExists_thenReturnTrue() {
         String email = "test@example.com";
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(true);
         
         boolean result = userService.emailExists(email);
@@ -44,19 +51,24 @@ class EmailExistsTest {
     void emailExists_whenEmailDoesNotExist_thenReturnFalse() {
         String email = "new@example.com";
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         
         boolean result = userService.emailExists(email);
         
         assertFalse(result);
     }
-}
-
-
-
-
-
 
+    @Test
+    void emailExists_whenIndexRulesEmailOut_thenSkipsDatabase() {
+        String email = "new@example.com";
 
+        when(emailIndexService.mightContain(email)).thenReturn(false);
 
+        boolean result = userService.emailExists(email);
 
+        assertFalse(result);
+        verify(userRepository, never()).existsByEmail(email);
+    }
+}
@@ -30,7 +30,7 @@ class GetActiveClassesCountTest {
 
     @Test
     void getActiveClassesCount_whenClassesExist_thenReturnCount() {
-        when(courseRepository.count()).thenReturn(5L);
+        when(courseRepository.countByArchivedFalse()).thenReturn(5L);
         
         long result = userService.getActiveClassesCount();
         
@@ -39,7 +39,7 @@ class GetActiveClassesCountTest {
 
     @Test
     void getActiveClassesCount_whenNoClasses_thenReturnZero() {
-        when(courseRepository.count()).thenReturn(0L);
+        when(courseRepository.countByArchivedFalse()).thenReturn(0L);
         
         long result = userService.getActiveClassesCount();
         
@@ -0,0 +1,84 @@
+package com.example.OnlineNotebook.UnitTest.UserService;
+
+import com.example.OnlineNotebook.models.dtos.snapshot.CurrentUserSnapshot;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCurrentUserTest {
+
+    @InjectMocks
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getCurrentUser_whenPrincipalCarriesProfile_thenDoesNotQueryDatabase() {
+        UUID userId = UUID.randomUUID();
+        CurrentUserSnapshot profile = new CurrentUserSnapshot(userId, "Maria", "Petrova", "maria@example.com",
+                UserType.TEACHER, null, null, null, null);
+        UserData userData = UserData.builder().id(userId).userType(UserType.TEACHER).profile(profile).build();
+
+        CurrentUserSnapshot result = userService.getCurrentUser(userData);
+
+        assertSame(profile, result);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUser_whenPrincipalHasNoProfile_thenLoadsUserOncePerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .firstName("Ivan")
+                .lastName("Petrov")
+                .email("ivan@example.com")
+                .userType(UserType.STUDENT)
+                .studentClass("10A")
+                .build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        UserData userData = UserData.builder().id(userId).userType(UserType.STUDENT).build();
+
+        CurrentUserSnapshot result = userService.getCurrentUser(userData);
+        User loaded = userService.getById(userId);
+
+        assertEquals("Ivan", result.firstName());
+        assertEquals("10A", result.studentClass());
+        assertNull(result.courseId());
+        assertSame(user, loaded);
+        verify(userRepository, times(1)).findById(userId);
+    }
+}
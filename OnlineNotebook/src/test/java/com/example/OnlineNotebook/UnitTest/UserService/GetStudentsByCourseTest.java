@@ -1,5 +1,6 @@
 package com.example.OnlineNotebook.UnitTest.UserService;
 
+import com.example.OnlineNotebook.models.dtos.snapshot.StudentSnapshot;
 import com.example.OnlineNotebook.models.entities.Course;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
@@ -36,7 +37,7 @@ class GetStudentsByCourseTest {
     private AssignmentRepository assignmentRepository;
 
     @Test
-    void getStudentsByCourse_whenCourseHasStudents_thenReturnOnlyStudents() {
+    void getStudentsByCourse_whenCourseHasStudents_thenReturnStudentSnapshots() {
         UUID courseId = UUID.randomUUID();
         Course course = Course.builder()
                 .id(courseId)
@@ -47,6 +48,9 @@ class GetStudentsByCourseTest {
                 .id(UUID.randomUUID())
                 .firstName("Ivan")
                 .lastName("Schweicarov")
+                .email("ivan@test.com")
+                .password("hashed")
+                .studentClass("10A")
                 .userType(UserType.STUDENT)
                 .course(course)
                 .build();
@@ -59,70 +63,42 @@ class GetStudentsByCourseTest {
                 .course(course)
                 .build();
         
-        User teacher = User.builder()
-                .id(UUID.randomUUID())
-                .firstName("John")
-                .lastName("Doe")
-                .userType(UserType.TEACHER)
-                .course(course)
-                .build();
+        when(userRepository.findByCourseIdAndUserType(courseId, UserType.STUDENT))
+                .thenReturn(Arrays.asList(student1, student2));
         
-        List<User> allUsers = Arrays.asList(student1, student2, teacher);
-        
-        when(userRepository.findByCourse(course)).thenReturn(allUsers);
-        
-        List<User> result = userService.getStudentsByCourse(course);
+        List<StudentSnapshot> result = userService.getStudentsByCourse(courseId);
         
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.stream().allMatch(user -> user.getUserType() == UserType.STUDENT));
-        assertTrue(result.contains(student1));
-        assertTrue(result.contains(student2));
-        assertFalse(result.contains(teacher));
+        StudentSnapshot first = result.get(0);
+        assertEquals(student1.getId(), first.id());
+        assertEquals("Ivan", first.firstName());
+        assertEquals("Schweicarov", first.lastName());
+        assertEquals("ivan@test.com", first.email());
+        assertEquals("10A", first.studentClass());
+        assertEquals(courseId, first.courseId());
+        assertEquals(student2.getId(), result.get(1).id());
     }
 
     @Test
     void getStudentsByCourse_whenCourseHasNoStudents_thenReturnEmptyList() {
         UUID courseId = UUID.randomUUID();
-        Course course = Course.builder()
-                .id(courseId)
-                .name("Mathematics")
-                .build();
         
-        User teacher = User.builder()
-                .id(UUID.randomUUID())
-                .firstName("John")
-                .lastName("Doe")
-                .userType(UserType.TEACHER)
-                .course(course)
-                .build();
+        when(userRepository.findByCourseIdAndUserType(courseId, UserType.STUDENT)).thenReturn(List.of());
         
-        List<User> allUsers = Arrays.asList(teacher);
-        
-        when(userRepository.findByCourse(course)).thenReturn(allUsers);
-        
-        List<User> result = userService.getStudentsByCourse(course);
+        List<StudentSnapshot> result = userService.getStudentsByCourse(courseId);
         
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 
     @Test
-    void getStudentsByCourse_whenCourseIsNull_thenReturnEmptyList() {
-        when(userRepository.findByCourse(null)).thenReturn(Arrays.asList());
+    void getStudentsByCourse_whenCourseIdIsNull_thenReturnEmptyList() {
+        when(userRepository.findByCourseIdAndUserType(null, UserType.STUDENT)).thenReturn(List.of());
         
-        List<User> result = userService.getStudentsByCourse(null);
+        List<StudentSnapshot> result = userService.getStudentsByCourse(null);
         
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 }
-
-
-
-
-
-
-
-
-
@@ -1,6 +1,5 @@
 package com.example.OnlineNotebook.UnitTest.UserService;
 
-import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
@@ -13,11 +12,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,47 +33,20 @@ class GetTotalStudentsCountTest {
 
     @Test
     void getTotalStudentsCount_whenStudentsExist_thenReturnCount() {
-        User student1 = User.builder()
-                .id(UUID.randomUUID())
-                .userType(UserType.STUDENT)
-                .build();
-        
-        User student2 = User.builder()
-                .id(UUID.randomUUID())
-                .userType(UserType.STUDENT)
-                .build();
-        
-        User student3 = User.builder()
-                .id(UUID.randomUUID())
-                .userType(UserType.STUDENT)
-                .build();
-        
-        List<User> students = Arrays.asList(student1, student2, student3);
-        
-        when(userRepository.findByUserType(UserType.STUDENT)).thenReturn(students);
+        when(userRepository.countByUserType(UserType.STUDENT)).thenReturn(3L);
         
         long result = userService.getTotalStudentsCount();
         
         assertEquals(3, result);
+        verify(userRepository, never()).findByUserType(UserType.STUDENT);
     }
 
     @Test
     void getTotalStudentsCount_whenNoStudents_thenReturnZero() {
-        List<User> emptyList = Arrays.asList();
-        
-        when(userRepository.findByUserType(UserType.STUDENT)).thenReturn(emptyList);
+        when(userRepository.countByUserType(UserType.STUDENT)).thenReturn(0L);
         
         long result = userService.getTotalStudentsCount();
         
         assertEquals(0, result);
     }
 }
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,95 @@
+package com.example.OnlineNotebook.UnitTest.UserService;
+
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserPage;
+import com.example.OnlineNotebook.models.dtos.admin.AdminUserRow;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.AssignmentRepository;
+import com.example.OnlineNotebook.repositories.CourseRepository;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetUsersPageTest {
+
+    @InjectMocks
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Test
+    void getUsersPage_whenMoreRowsThanLimit_thenReturnsPageWithCursorOfLastRow() {
+        AdminUserRow first = row(LocalDateTime.of(2025, 3, 2, 10, 0));
+        AdminUserRow second = row(LocalDateTime.of(2025, 3, 1, 10, 0));
+        AdminUserRow third = row(LocalDateTime.of(2025, 2, 28, 10, 0));
+        when(userRepository.findAdminUserRows(null, null, null, null, 3)).thenReturn(List.of(first, second, third));
+
+        AdminUserPage page = userService.getUsersPage(null, null, null, 2);
+
+        assertEquals(List.of(first, second), page.users());
+        assertNotNull(page.nextCursor());
+
+        when(userRepository.findAdminUserRows(null, null, second.createdAt(), second.id(), 3)).thenReturn(List.of(third));
+
+        AdminUserPage next = userService.getUsersPage(null, null, page.nextCursor(), 2);
+
+        assertEquals(List.of(third), next.users());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void getUsersPage_whenFiltersGiven_thenPassesThemToQuery() {
+        UUID courseId = UUID.randomUUID();
+        when(userRepository.findAdminUserRows(UserType.STUDENT, courseId, null, null, 51)).thenReturn(List.of());
+
+        AdminUserPage page = userService.getUsersPage(UserType.STUDENT, courseId, "", 50);
+
+        assertTrue(page.users().isEmpty());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getUsersPage_whenLimitOutOfRange_thenClampsIt() {
+        when(userRepository.findAdminUserRows(isNull(), isNull(), isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        userService.getUsersPage(null, null, null, 0);
+        userService.getUsersPage(null, null, null, 10_000);
+
+        verify(userRepository).findAdminUserRows(null, null, null, null, 2);
+        verify(userRepository).findAdminUserRows(null, null, null, null, 101);
+    }
+
+    @Test
+    void getUsersPage_whenCursorIsMalformed_thenThrowException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userService.getUsersPage(null, null, "not-a-cursor", 50));
+
+        assertEquals("Invalid cursor: not-a-cursor", exception.getMessage());
+        verify(userRepository, never()).findAdminUserRows(any(), any(), any(), any(), eq(51));
+    }
+
+    private AdminUserRow row(LocalDateTime createdAt) {
+        return new AdminUserRow(UUID.randomUUID(), "Ivan", "Petrov", "ivan@test.com", UserType.STUDENT, null, null, createdAt);
+    }
+}
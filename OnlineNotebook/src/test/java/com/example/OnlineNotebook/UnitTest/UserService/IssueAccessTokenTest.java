@@ -0,0 +1,105 @@
+package com.example.OnlineNotebook.UnitTest.UserService;
+
+import com.example.OnlineNotebook.exceptions.TooManyRequestsException;
+import com.example.OnlineNotebook.models.dtos.auth.AccessTokenDto;
+import com.example.OnlineNotebook.models.dtos.auth.LoginDto;
+import com.example.OnlineNotebook.models.entities.User;
+import com.example.OnlineNotebook.models.enums.UserType;
+import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.security.UserData;
+import com.example.OnlineNotebook.services.JwtTokenService;
+import com.example.OnlineNotebook.services.LoginRateLimitService;
+import com.example.OnlineNotebook.services.PasswordHashingService;
+import com.example.OnlineNotebook.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueAccessTokenTest {
+
+    @InjectMocks
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private LoginRateLimitService loginRateLimitService;
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Test
+    void issueAccessToken_whenPasswordMatches_thenSignsTokenWithIdAndRole() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .email("teacher@example.com")
+                .password("encoded")
+                .userType(UserType.TEACHER)
+                .build();
+        when(userRepository.findByEmail("teacher@example.com")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", "encoded")).thenReturn(true);
+        when(jwtTokenService.generateAccessToken(any(UserData.class))).thenReturn("signed-token");
+        when(jwtTokenService.getExpiresInSeconds()).thenReturn(3600L);
+
+        AccessTokenDto result = userService.issueAccessToken(new LoginDto("teacher@example.com", "password"), "10.0.0.1");
+
+        ArgumentCaptor<UserData> captor = ArgumentCaptor.forClass(UserData.class);
+        verify(jwtTokenService).generateAccessToken(captor.capture());
+        assertEquals(userId, captor.getValue().getId());
+        assertEquals(UserType.TEACHER, captor.getValue().getUserType());
+        assertNull(captor.getValue().getPassword());
+        assertEquals("signed-token", result.getAccessToken());
+        assertEquals("Bearer", result.getTokenType());
+        assertEquals(3600L, result.getExpiresIn());
+        verify(loginRateLimitService).acquire("teacher@example.com", "10.0.0.1");
+        verify(loginRateLimitService).onSuccess("teacher@example.com");
+    }
+
+    @Test
+    void issueAccessToken_whenPasswordWrong_thenThrowsBadCredentialsException() {
+        User user = User.builder().id(UUID.randomUUID()).email("teacher@example.com").password("encoded").build();
+        when(userRepository.findByEmail("teacher@example.com")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("wrong", "encoded")).thenReturn(false);
+
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class,
+                () -> userService.issueAccessToken(new LoginDto("teacher@example.com", "wrong"), "10.0.0.1"));
+
+        assertEquals("Invalid email or password", exception.getMessage());
+        verifyNoInteractions(jwtTokenService);
+        verify(loginRateLimitService).onFailure("10.0.0.1");
+        verify(loginRateLimitService, never()).onSuccess(any());
+    }
+
+    @Test
+    void issueAccessToken_whenEmailUnknown_thenThrowsBadCredentialsException() {
+        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class,
+                () -> userService.issueAccessToken(new LoginDto("ghost@example.com", "password"), "10.0.0.1"));
+        verifyNoInteractions(passwordHashingService, jwtTokenService);
+        verify(loginRateLimitService).onFailure("10.0.0.1");
+    }
+
+    @Test
+    void issueAccessToken_whenRateLimited_thenThrowsBeforeHashing() {
+        doThrow(new TooManyRequestsException("Too many login attempts, please try again later"))
+                .when(loginRateLimitService).acquire("teacher@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class,
+                () -> userService.issueAccessToken(new LoginDto("teacher@example.com", "password"), "10.0.0.1"));
+        verifyNoInteractions(userRepository, passwordHashingService, jwtTokenService);
+    }
+}
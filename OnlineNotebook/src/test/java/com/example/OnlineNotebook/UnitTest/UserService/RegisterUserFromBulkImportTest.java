@@ -7,12 +7,14 @@ import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -30,6 +32,10 @@ class RegisterUserFromBulkImportTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private CourseRepository courseRepository;
@@ -51,16 +57,18 @@ class RegisterUserFromBulkImportTest {
                 .studentClass(null)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         userService.registerUserFromBulkImport(bulkImportDto);
         
         verify(userRepository, times(1)).existsByEmail(email);
         verify(passwordEncoder, times(1)).encode(password);
         verify(courseRepository, never()).findByName(any());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -84,17 +92,19 @@ class RegisterUserFromBulkImportTest {
                 .studentClass(studentClass)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
         when(courseRepository.findByName(studentClass)).thenReturn(course);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         userService.registerUserFromBulkImport(bulkImportDto);
         
         verify(userRepository, times(1)).existsByEmail(email);
         verify(passwordEncoder, times(1)).encode(password);
         verify(courseRepository, times(1)).findByName(studentClass);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -110,6 +120,8 @@ class RegisterUserFromBulkImportTest {
                 .studentClass("10A")
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(true);
         
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -118,7 +130,7 @@ class RegisterUserFromBulkImportTest {
         
         assertEquals("Email already exists: " + email, exception.getMessage());
         verify(userRepository, times(1)).existsByEmail(email);
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -136,16 +148,18 @@ class RegisterUserFromBulkImportTest {
                 .studentClass("")
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         userService.registerUserFromBulkImport(bulkImportDto);
         
         verify(userRepository, times(1)).existsByEmail(email);
         verify(passwordEncoder, times(1)).encode(password);
         verify(courseRepository, never()).findByName(any());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 }
 
@@ -4,12 +4,15 @@ import com.example.OnlineNotebook.models.dtos.auth.RegisterDto;
 import com.example.OnlineNotebook.models.entities.User;
 import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -25,6 +28,10 @@ class RegisterUserTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
     private PasswordEncoder passwordEncoder;
 
 
@@ -40,6 +47,8 @@ class RegisterUserTest {
                 .userType(UserType.STUDENT)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(true);
         
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -63,15 +72,41 @@ class RegisterUserTest {
                 .userType(UserType.STUDENT)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
-        when(userRepository.save(any(User.class)))
+        when(userRepository.saveAndFlush(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         
         userService.registerUser(registerDto);
         
         verify(userRepository, times(1)).existsByEmail(email);
         verify(passwordEncoder, times(1)).encode(password);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void registerUser_whenIndexMissesEmailRegisteredOnAnotherNode_thenMapsConstraintViolation() {
+        String email = "raced@example.com";
+        RegisterDto registerDto = RegisterDto.builder()
+                .firstName("Ivan")
+                .lastName("Schweicarov")
+                .email(email)
+                .password("12312312")
+                .userType(UserType.STUDENT)
+                .build();
+
+        when(emailIndexService.mightContain(email)).thenReturn(false);
+        when(passwordEncoder.encode("12312312")).thenReturn("encoded");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'users.email'"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userService.registerUser(registerDto));
+
+        assertEquals("Email already exists: " + email, exception.getMessage());
+        verify(userRepository, never()).existsByEmail(email);
+        verifyNoInteractions(eventPublisher);
     }
-}
\ No newline at end of file
+}
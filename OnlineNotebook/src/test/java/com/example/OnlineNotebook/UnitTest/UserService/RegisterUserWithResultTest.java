@@ -7,12 +7,14 @@ import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.EmailIndexService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +29,10 @@ class RegisterUserWithResultTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EmailIndexService emailIndexService;
+    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private CourseRepository courseRepository;
@@ -47,9 +53,11 @@ class RegisterUserWithResultTest {
                 .userType(UserType.STUDENT)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         UserRegistrationResult result = userService.registerUserWithResult(registerDto);
         
@@ -58,7 +66,7 @@ class RegisterUserWithResultTest {
         assertEquals("User created successfully", result.getMessage());
         verify(userRepository, times(1)).existsByEmail(email);
         verify(passwordEncoder, times(1)).encode(password);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -73,6 +81,8 @@ class RegisterUserWithResultTest {
                 .userType(UserType.STUDENT)
                 .build();
         
+        when(emailIndexService.mightContain(email)).thenReturn(true);
+        
         when(userRepository.existsByEmail(email)).thenReturn(true);
         
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -81,7 +91,7 @@ class RegisterUserWithResultTest {
         
         assertEquals("Email already exists: " + email, exception.getMessage());
         verify(userRepository, times(1)).existsByEmail(email);
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 }
 
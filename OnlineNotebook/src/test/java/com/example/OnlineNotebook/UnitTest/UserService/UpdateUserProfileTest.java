@@ -7,13 +7,13 @@ import com.example.OnlineNotebook.models.enums.UserType;
 import com.example.OnlineNotebook.repositories.AssignmentRepository;
 import com.example.OnlineNotebook.repositories.CourseRepository;
 import com.example.OnlineNotebook.repositories.UserRepository;
+import com.example.OnlineNotebook.services.PasswordHashingService;
 import com.example.OnlineNotebook.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -31,7 +31,7 @@ class UpdateUserProfileTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     @Mock
     private CourseRepository courseRepository;
     @Mock
@@ -91,15 +91,15 @@ class UpdateUserProfileTest {
                 .build();
         
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(currentPassword, encodedCurrentPassword)).thenReturn(true);
-        when(passwordEncoder.matches(newPassword, encodedCurrentPassword)).thenReturn(false);
-        when(passwordEncoder.encode(newPassword)).thenReturn(encodedNewPassword);
+        when(passwordHashingService.matches(currentPassword, encodedCurrentPassword)).thenReturn(true);
+        when(passwordHashingService.matches(newPassword, encodedCurrentPassword)).thenReturn(false);
+        when(passwordHashingService.encode(newPassword)).thenReturn(encodedNewPassword);
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         userService.updateUserProfile(userId, editProfileDto);
         
-        verify(passwordEncoder, times(1)).matches(currentPassword, encodedCurrentPassword);
-        verify(passwordEncoder, times(1)).encode(newPassword);
+        verify(passwordHashingService, times(1)).matches(currentPassword, encodedCurrentPassword);
+        verify(passwordHashingService, times(1)).encode(newPassword);
         verify(userRepository, times(1)).save(any(User.class));
     }
 
@@ -158,7 +158,7 @@ class UpdateUserProfileTest {
                 .build();
         
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(currentPassword, encodedCurrentPassword)).thenReturn(false);
+        when(passwordHashingService.matches(currentPassword, encodedCurrentPassword)).thenReturn(false);
         
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             userService.updateUserProfile(userId, editProfileDto);
@@ -192,8 +192,8 @@ class UpdateUserProfileTest {
                 .build();
         
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(currentPassword, encodedPassword)).thenReturn(true);
-        when(passwordEncoder.matches(newPassword, encodedPassword)).thenReturn(true);
+        when(passwordHashingService.matches(currentPassword, encodedPassword)).thenReturn(true);
+        when(passwordHashingService.matches(newPassword, encodedPassword)).thenReturn(true);
         
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             userService.updateUserProfile(userId, editProfileDto);